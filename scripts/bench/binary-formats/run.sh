@@ -0,0 +1,68 @@
+#!/bin/bash
+# JSON vs CBOR vs Smile 응답 크기/처리량 비교 (hey)
+#
+# 사용법:
+#   mvn package -DskipTests
+#   ./run.sh                              # 기본: 동시 연결 50, 단계당 20초
+#   CONCURRENCY=200 DURATION=60 ./run.sh
+#
+# DB 접속 정보는 애플리케이션과 같은 환경변수 사용 (DB_URL, DB_USERNAME, DB_PASSWORD)
+
+set -euo pipefail
+cd "$(dirname "$0")"
+
+JAR=${JAR:-$(ls ../../../target/gift-money-*.jar | head -1)}
+PORT=${PORT:-18091}
+CONCURRENCY=${CONCURRENCY:-50}
+DURATION=${DURATION:-20}
+ROWS=${ROWS:-1000}
+BASE=http://localhost:$PORT/api
+APP_PID=
+
+export JWT_SECRET=${JWT_SECRET:-$(head -c 64 /dev/urandom | base64 | tr -d '\n')}
+export MAIL_USERNAME=${MAIL_USERNAME:-bench@example.com} MAIL_PASSWORD=${MAIL_PASSWORD:-unused}
+
+stop_app() {
+    if [ -n "$APP_PID" ]; then
+        kill "$APP_PID" 2>/dev/null || true
+        wait "$APP_PID" 2>/dev/null || true
+        APP_PID=
+    fi
+}
+trap stop_app EXIT
+
+java -jar "$JAR" --server.port="$PORT" --spring.jpa.show-sql=false \
+    --logging.level.com.example.giftmoney=INFO --logging.level.org.hibernate.SQL=WARN \
+    > app.log 2>&1 &
+APP_PID=$!
+for _ in $(seq 1 60); do
+    curl -s -o /dev/null "http://localhost:$PORT/" && break
+    sleep 1
+done
+
+# 벤치마크 사용자 토큰 (없으면 가입 후 샘플 데이터 생성)
+body='{"userId":"bench02","password":"bench-password-02"}'
+response=$(curl -s -X POST "$BASE/auth/login" -H 'Content-Type: application/json' -d "$body")
+if ! echo "$response" | grep -q '"token"'; then
+    curl -s -X POST "$BASE/auth/register" -H 'Content-Type: application/json' \
+        -d '{"userId":"bench02","email":"bench02@example.com","password":"bench-password-02","name":"bench","emailVerified":true}' > /dev/null
+    response=$(curl -s -X POST "$BASE/auth/login" -H 'Content-Type: application/json' -d "$body")
+    t=$(echo "$response" | sed -E 's/.*"token":"([^"]+)".*/\1/')
+    for i in $(seq 1 "$ROWS"); do
+        curl -s -X POST "$BASE/gift-money" -H "Authorization: Bearer $t" -H 'Content-Type: application/json' \
+            -d "{\"eventDate\":\"$(( 2015 + i % 10 ))-$(printf %02d $(( i % 12 + 1 )))-01\",\"eventType\":\"결혼식\",\"transactionType\":\"$([ $((i % 2)) -eq 0 ] && echo RECEIVED || echo SENT)\",\"name\":\"사람$(( i % 300 ))\",\"relation\":\"친구\",\"amount\":$(( (i % 10 + 1) * 10000 )),\"memo\":\"메모 $i\"}" > /dev/null
+    done
+fi
+TOKEN=$(echo "$response" | sed -E 's/.*"token":"([^"]+)".*/\1/')
+
+printf '%-28s %-28s %9s %10s %9s %9s\n' endpoint accept bytes rps p50_ms p99_ms
+for endpoint in "/gift-money?size=100" "/gift-money?size=500" "/gift-money/statistics" "/statistics/yearly" "/statistics/person"; do
+    for accept in application/json application/cbor application/x-jackson-smile; do
+        bytes=$(curl -s -o /dev/null -w '%{size_download}' -H "Authorization: Bearer $TOKEN" -H "Accept: $accept" "$BASE$endpoint")
+        result=$(hey -z "${DURATION}s" -c "$CONCURRENCY" -H "Authorization: Bearer $TOKEN" -H "Accept: $accept" "$BASE$endpoint")
+        rps=$(echo "$result" | awk '/Requests\/sec/ {print $2}')
+        p50=$(echo "$result" | awk '/50%/ {print $3 * 1000}')
+        p99=$(echo "$result" | awk '/99%/ {print $3 * 1000}')
+        printf '%-28s %-28s %9s %10s %9s %9s\n' "$endpoint" "$accept" "$bytes" "$rps" "$p50" "$p99"
+    done
+done
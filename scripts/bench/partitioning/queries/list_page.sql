@@ -0,0 +1,5 @@
+-- 목록 첫 페이지 (GiftMoneyRepository.findByUserId, event_date DESC)
+\set uid random(1, :users)
+SELECT id, event_date, event_type_id, transaction_type, name, relation_id, counterparty_id, amount
+FROM gift_money WHERE user_id = :uid
+ORDER BY event_date DESC LIMIT 20;
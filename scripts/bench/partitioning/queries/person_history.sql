@@ -0,0 +1,6 @@
+-- 인물별 거래 내역 (findByCounterpartyIdAndUserId)
+\set uid random(1, :users)
+\set pid random(0, 99)
+SELECT id, event_date, event_type_id, transaction_type, amount
+FROM gift_money WHERE counterparty_id = :uid * 100 + :pid AND user_id = :uid
+ORDER BY event_date DESC LIMIT 20;
@@ -0,0 +1,5 @@
+-- 받은 경조금 탭 (findByUserIdAndTransactionType, 부분 인덱스)
+\set uid random(1, :users)
+SELECT id, event_date, event_type_id, name, relation_id, amount
+FROM gift_money WHERE user_id = :uid AND transaction_type = 0
+ORDER BY event_date DESC LIMIT 20;
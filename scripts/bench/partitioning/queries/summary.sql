@@ -0,0 +1,7 @@
+-- 요약 통계 (getStatisticsRaw)
+\set uid random(1, :users)
+SELECT CAST(COALESCE(SUM(CASE WHEN transaction_type = 0 THEN amount ELSE 0 END), 0) AS BIGINT),
+       COUNT(CASE WHEN transaction_type = 0 THEN 1 END),
+       CAST(COALESCE(SUM(CASE WHEN transaction_type = 1 THEN amount ELSE 0 END), 0) AS BIGINT),
+       COUNT(CASE WHEN transaction_type = 1 THEN 1 END)
+FROM gift_money WHERE user_id = :uid;
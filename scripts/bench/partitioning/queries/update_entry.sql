@@ -0,0 +1,4 @@
+-- 항목 수정 (@PartitionKey로 user_id가 WHERE 절에 포함된 엔티티 UPDATE)
+\set uid random(1, :users)
+UPDATE gift_money SET memo = 'bench', updated_at = NOW()
+WHERE id = (SELECT id FROM gift_money WHERE user_id = :uid LIMIT 1) AND user_id = :uid;
@@ -0,0 +1,10 @@
+-- 연도별 통계 (getYearlyStatisticsRaw)
+\set uid random(1, :users)
+SELECT CAST(EXTRACT(YEAR FROM event_date) AS INTEGER) AS event_year,
+       CAST(COALESCE(SUM(CASE WHEN transaction_type = 0 THEN amount ELSE 0 END), 0) AS BIGINT),
+       COALESCE(SUM(CASE WHEN transaction_type = 0 THEN 1 ELSE 0 END), 0),
+       CAST(COALESCE(SUM(CASE WHEN transaction_type = 1 THEN amount ELSE 0 END), 0) AS BIGINT),
+       COALESCE(SUM(CASE WHEN transaction_type = 1 THEN 1 ELSE 0 END), 0)
+FROM gift_money WHERE user_id = :uid
+GROUP BY CAST(EXTRACT(YEAR FROM event_date) AS INTEGER)
+ORDER BY 1 DESC;
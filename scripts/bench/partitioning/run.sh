@@ -0,0 +1,34 @@
+#!/bin/bash
+# gift_money 단일 테이블 vs 해시 파티션 지연 시간 비교 (pgbench)
+#
+# 사용법:
+#   psql -f setup.sql                 # 벤치마크 데이터 생성 (1회)
+#   ./run.sh                          # 기본: 클라이언트 8, 쿼리당 60초
+#   CLIENTS=16 DURATION=120 ./run.sh
+#
+# 접속 정보는 PGHOST/PGPORT/PGUSER/PGDATABASE 환경변수 사용
+# -M extended: 애플리케이션과 같이 이름 없는 prepared statement(prepareThreshold=0)로 실행
+
+set -euo pipefail
+cd "$(dirname "$0")"
+
+CLIENTS=${CLIENTS:-8}
+DURATION=${DURATION:-60}
+USERS=${USERS:-100000}
+
+printf '%-16s %-12s %12s %12s\n' query schema tps latency_ms
+for query in queries/*.sql; do
+    for schema in bench_flat bench_part; do
+        result=$(PGOPTIONS="-c search_path=$schema" pgbench -n -M extended \
+            -c "$CLIENTS" -j "$CLIENTS" -T "$DURATION" -D users="$USERS" -f "$query" 2>/dev/null)
+        tps=$(echo "$result" | awk '/^tps/ {print $3; exit}')
+        latency=$(echo "$result" | awk '/latency average/ {print $4}')
+        printf '%-16s %-12s %12s %12s\n' "$(basename "$query" .sql)" "$schema" "$tps" "$latency"
+    done
+done
+
+# 파티션 제거 확인: 실행 계획에 파티션 하나만 나타나야 함
+echo
+echo "== bench_part 실행 계획 (list_page)"
+PGOPTIONS="-c search_path=bench_part" psql -X -q -c \
+    "EXPLAIN (ANALYZE, BUFFERS, COSTS OFF) SELECT * FROM gift_money WHERE user_id = 42 ORDER BY event_date DESC LIMIT 20"
@@ -0,0 +1,93 @@
+-- gift_money 파티셔닝 벤치마크 데이터 생성
+-- 동일한 데이터를 두 스키마에 적재: bench_flat(단일 테이블) / bench_part(user_id 해시 16개 파티션)
+--
+-- 사용법: psql -v rows=10000000 -v users=100000 -f setup.sql
+-- (기본값: 1천만 행, 사용자 10만 명 → 사용자당 평균 100건)
+
+\if :{?rows}
+\else
+\set rows 10000000
+\endif
+\if :{?users}
+\else
+\set users 100000
+\endif
+
+DROP SCHEMA IF EXISTS bench_flat CASCADE;
+DROP SCHEMA IF EXISTS bench_part CASCADE;
+CREATE SCHEMA bench_flat;
+CREATE SCHEMA bench_part;
+
+CREATE TABLE bench_flat.gift_money (
+    id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    event_date DATE NOT NULL,
+    event_type_id INTEGER NOT NULL,
+    transaction_type SMALLINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    relation_id INTEGER,
+    counterparty_id BIGINT NOT NULL,
+    amount BIGINT NOT NULL,
+    contact VARCHAR(50),
+    memo TEXT,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE bench_part.gift_money (LIKE bench_flat.gift_money INCLUDING DEFAULTS)
+    PARTITION BY HASH (user_id);
+
+DO $$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE bench_part.gift_money_p%s PARTITION OF bench_part.gift_money '
+                       'FOR VALUES WITH (MODULUS 16, REMAINDER %s)', i, i);
+    END LOOP;
+END $$;
+ALTER TABLE bench_part.gift_money ADD PRIMARY KEY (id, user_id);
+
+-- 사용자별 인물 100명, 행사 유형 8종, 관계 6종, 최근 10년
+INSERT INTO bench_flat.gift_money (id, user_id, event_date, event_type_id, transaction_type, name,
+                                   relation_id, counterparty_id, amount, created_at, updated_at)
+SELECT g,
+       u,
+       DATE '2016-01-01' + (random() * 3650)::INTEGER,
+       1 + (random() * 7)::INTEGER,
+       (random() < 0.5)::INTEGER::SMALLINT,
+       '인물' || p,
+       CASE WHEN random() < 0.2 THEN NULL ELSE 1 + (random() * 5)::INTEGER END,
+       u * 100 + p,
+       (1 + (random() * 49)::INTEGER) * 10000,
+       NOW(),
+       NOW()
+FROM (
+    SELECT g, 1 + (hashint8(g) & 2147483647) % :users AS u, (random() * 99)::INTEGER AS p
+    FROM generate_series(1, :rows) AS g
+) s;
+
+INSERT INTO bench_part.gift_money SELECT * FROM bench_flat.gift_money;
+
+-- 애플리케이션과 같은 인덱스 구성
+DO $$
+DECLARE
+    s TEXT;
+BEGIN
+    FOREACH s IN ARRAY ARRAY['bench_flat', 'bench_part'] LOOP
+        EXECUTE format('CREATE INDEX ON %I.gift_money(user_id)', s);
+        EXECUTE format('CREATE INDEX ON %I.gift_money(event_date)', s);
+        EXECUTE format('CREATE INDEX ON %I.gift_money(name)', s);
+        EXECUTE format('CREATE INDEX ON %I.gift_money(user_id, event_type_id)', s);
+        EXECUTE format('CREATE INDEX ON %I.gift_money(counterparty_id, event_date DESC)', s);
+        EXECUTE format('CREATE INDEX ON %I.gift_money(user_id, event_date DESC) WHERE transaction_type = 0', s);
+        EXECUTE format('CREATE INDEX ON %I.gift_money(user_id, event_date DESC) WHERE transaction_type = 1', s);
+    END LOOP;
+END $$;
+
+VACUUM ANALYZE bench_flat.gift_money;
+VACUUM ANALYZE bench_part.gift_money;
+
+SELECT 'bench_flat' AS schema, pg_size_pretty(pg_total_relation_size('bench_flat.gift_money')) AS size
+UNION ALL
+SELECT 'bench_part', pg_size_pretty(SUM(pg_total_relation_size(inhrelid)))
+FROM pg_inherits WHERE inhparent = 'bench_part.gift_money'::regclass;
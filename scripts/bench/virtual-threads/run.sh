@@ -0,0 +1,85 @@
+#!/bin/bash
+# 플랫폼 스레드 모드 vs 가상 스레드 모드 부하 비교 (hey)
+#
+# 사용법:
+#   mvn -Pjava21 package -DskipTests     # JDK 21 이상 필요
+#   ./run.sh                             # 기본: 동시 연결 50/200/800, 단계당 30초
+#   CONCURRENCY="100 1000" DURATION=60 ./run.sh
+#
+# DB 접속 정보는 애플리케이션과 같은 환경변수 사용 (DB_URL, DB_USERNAME, DB_PASSWORD, DB_POOL_SIZE)
+# 두 모드 모두 같은 DB 커넥션 풀 크기로 실행 → 차이는 요청 스레드 모델과 DB 동시 실행 제한에서만 발생
+
+set -euo pipefail
+cd "$(dirname "$0")"
+
+JAR=${JAR:-$(ls ../../../target/gift-money-*.jar | head -1)}
+PORT=${PORT:-18090}
+CONCURRENCY=${CONCURRENCY:-"50 200 800"}
+DURATION=${DURATION:-30}
+TOMCAT_THREADS=${TOMCAT_THREADS:-200}
+BASE=http://localhost:$PORT/api
+APP_PID=
+
+export JWT_SECRET=${JWT_SECRET:-$(head -c 64 /dev/urandom | base64 | tr -d '\n')}
+export MAIL_USERNAME=${MAIL_USERNAME:-bench@example.com} MAIL_PASSWORD=${MAIL_PASSWORD:-unused}
+
+stop_app() {
+    if [ -n "$APP_PID" ]; then
+        kill "$APP_PID" 2>/dev/null || true
+        wait "$APP_PID" 2>/dev/null || true
+        APP_PID=
+    fi
+}
+trap stop_app EXIT
+
+start_app() {
+    local virtual=$1
+    java -jar "$JAR" --server.port="$PORT" --spring.threads.virtual.enabled="$virtual" \
+        --server.tomcat.threads.max="$TOMCAT_THREADS" --spring.jpa.show-sql=false \
+        --logging.level.com.example.giftmoney=INFO --logging.level.org.hibernate.SQL=WARN \
+        > "app-$virtual.log" 2>&1 &
+    APP_PID=$!
+    for _ in $(seq 1 60); do
+        curl -s -o /dev/null "http://localhost:$PORT/" && return
+        sleep 1
+    done
+    echo "애플리케이션 시작 실패 (app-$virtual.log 확인)" >&2
+    exit 1
+}
+
+# 벤치마크 사용자 토큰 (없으면 가입 후 샘플 데이터 생성)
+token() {
+    local body='{"userId":"bench01","password":"bench-password-01"}'
+    local response
+    response=$(curl -s -X POST "$BASE/auth/login" -H 'Content-Type: application/json' -d "$body")
+    if ! echo "$response" | grep -q '"token"'; then
+        curl -s -X POST "$BASE/auth/register" -H 'Content-Type: application/json' \
+            -d '{"userId":"bench01","email":"bench01@example.com","password":"bench-password-01","name":"bench","emailVerified":true}' > /dev/null
+        response=$(curl -s -X POST "$BASE/auth/login" -H 'Content-Type: application/json' -d "$body")
+        local t
+        t=$(echo "$response" | sed -E 's/.*"token":"([^"]+)".*/\1/')
+        for i in $(seq 1 200); do
+            curl -s -X POST "$BASE/gift-money" -H "Authorization: Bearer $t" -H 'Content-Type: application/json' \
+                -d "{\"eventDate\":\"2024-$(printf %02d $(( i % 12 + 1 )))-01\",\"eventType\":\"결혼식\",\"transactionType\":\"$([ $((i % 2)) -eq 0 ] && echo RECEIVED || echo SENT)\",\"name\":\"사람$(( i % 40 ))\",\"relation\":\"친구\",\"amount\":$(( (i % 10 + 1) * 10000 ))}" > /dev/null
+        done
+    fi
+    echo "$response" | sed -E 's/.*"token":"([^"]+)".*/\1/'
+}
+
+printf '%-9s %-22s %6s %10s %9s %9s %8s\n' mode endpoint conc rps p50_ms p99_ms non2xx
+for virtual in false true; do
+    start_app "$virtual"
+    mode=$([ "$virtual" = true ] && echo virtual || echo platform)
+    TOKEN=$(token)
+    for endpoint in "/gift-money?size=20" "/statistics/yearly"; do
+        for c in $CONCURRENCY; do
+            result=$(hey -z "${DURATION}s" -c "$c" -H "Authorization: Bearer $TOKEN" "$BASE$endpoint")
+            rps=$(echo "$result" | awk '/Requests\/sec/ {print $2}')
+            p50=$(echo "$result" | awk '/50%/ {print $3 * 1000}')
+            p99=$(echo "$result" | awk '/99%/ {print $3 * 1000}')
+            non2xx=$(echo "$result" | awk '/^\s+\[[0-9]+\]/ { gsub(/[\[\]]/, "", $1); if ($1 !~ /^2/) sum += $2 } END {print sum + 0}')
+            printf '%-9s %-22s %6s %10s %9s %9s %8s\n' "$mode" "$endpoint" "$c" "$rps" "$p50" "$p99" "$non2xx"
+        done
+    done
+    stop_app
+done
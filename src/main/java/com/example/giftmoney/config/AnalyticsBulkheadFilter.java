@@ -0,0 +1,95 @@
+package com.example.giftmoney.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석 작업(통계/Excel 가져오기/내보내기) 동시 실행 제한 (bulkhead)
+ *
+ * app.analytics.paths 요청을 분석 작업으로 표시해 분석 전용 커넥션 풀로 보내고(WorkloadContext),
+ * Accept: application/x-ndjson(전체 결과 스트리밍) 요청도 같이 처리.
+ * 동시 실행 수를 분석 풀 크기로 제한한다. admission-timeout 안에 순서가 오지 않으면 503으로 바로 거절
+ * → 분석 요청이 몰려도 목록/등록 같은 OLTP 요청의 커넥션과 지연 시간에는 영향 없음.
+ */
+@Slf4j
+@Component
+public class AnalyticsBulkheadFilter extends OncePerRequestFilter {
+
+    private static final int RETRY_AFTER_SECONDS = 2;
+
+    private final Set<String> paths;
+    private final Semaphore permits;
+    private final long timeoutMillis;
+
+    public AnalyticsBulkheadFilter(@Value("${app.analytics.paths:}") List<String> paths,
+                                   @Value("${app.analytics.max-concurrent:0}") int maxConcurrent,
+                                   @Value("${app.analytics.pool-size:2}") int poolSize,
+                                   @Value("${app.analytics.admission-timeout:100}") long timeoutMillis) {
+        this.paths = Set.copyOf(paths);
+        // 0이면 분석 풀 크기와 같게 (풀 대기 없이 실행)
+        int size = maxConcurrent > 0 ? maxConcurrent : poolSize;
+        this.permits = new Semaphore(size, true);
+        this.timeoutMillis = timeoutMillis;
+        log.info("Analytics bulkhead enabled: permits={}, timeout={}ms, paths={}", size, timeoutMillis, this.paths.size());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !paths.contains(request.getRequestURI()) && !isNdjson(request);
+    }
+
+    // 전체 결과 NDJSON 스트리밍도 내보내기와 같이 분석 작업으로 처리 (경로는 목록 API와 같음)
+    private static boolean isNdjson(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            log.warn("Analytics bulkhead full: uri={}", request.getRequestURI());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", String.valueOf(RETRY_AFTER_SECONDS));
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write(
+                "{\"message\":\"통계/가져오기 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요\",\"status\":503}"
+            );
+            return;
+        }
+
+        WorkloadContext.setAnalytics();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            WorkloadContext.clear();
+            permits.release();
+        }
+    }
+
+}
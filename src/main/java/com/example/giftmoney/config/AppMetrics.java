@@ -0,0 +1,99 @@
+package com.example.giftmoney.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 핫 패스 애플리케이션 메트릭 (Micrometer, /actuator/prometheus)
+ *
+ * HTTP 요청(http.server.requests), 커넥션 풀(hikaricp.*), Hibernate(hibernate.*)는 Spring Boot가 기록하고
+ * 여기서는 그 밖의 구간만 기록한다. 백분위 히스토그램은 application.yml(management.metrics.distribution)에서 설정.
+ *
+ * - giftmoney.statistics.query{query}: 통계 쿼리별 실행 시간 (캐시/합치기로 실제 실행된 조회만)
+ * - giftmoney.jwt.verification{outcome}: JWT 서명 검증 시간 (요청마다)
+ * - giftmoney.mail.send{type, outcome}: SMTP 전송 시간
+ * - giftmoney.import{outcome} + giftmoney.import.rows: Excel 가져오기 시간과 저장 행 수
+ *   (초당 행 수 = rate(giftmoney_import_rows_total) 또는 rows_total / import_seconds_sum)
+ */
+@Component
+public class AppMetrics {
+
+    public static final String STATISTICS_QUERY = "giftmoney.statistics.query";
+    public static final String JWT_VERIFICATION = "giftmoney.jwt.verification";
+    public static final String MAIL_SEND = "giftmoney.mail.send";
+    public static final String IMPORT = "giftmoney.import";
+    public static final String IMPORT_ROWS = "giftmoney.import.rows";
+
+    private final MeterRegistry registry;
+    private final Timer jwtValid;
+    private final Timer jwtInvalid;
+    private final Counter importRows;
+
+    public AppMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.jwtValid = jwtTimer(registry, "valid");
+        this.jwtInvalid = jwtTimer(registry, "invalid");
+        this.importRows = Counter.builder(IMPORT_ROWS)
+                .description("Excel 가져오기로 저장한 행 수")
+                .baseUnit("rows")
+                .register(registry);
+    }
+
+    /**
+     * 통계 쿼리 실행 시간 (query: yearly, monthly, person, person-history, event-type, relation, summary)
+     */
+    public <T> T statisticsQuery(String query, Supplier<T> body) {
+        return Timer.builder(STATISTICS_QUERY)
+                .description("통계 쿼리 실행 시간")
+                .tag("query", query)
+                .register(registry)
+                .record(body);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void jwtVerified(Timer.Sample sample, boolean valid) {
+        sample.stop(valid ? jwtValid : jwtInvalid);
+    }
+
+    /**
+     * SMTP 전송 시간 (type: verification, otp)
+     */
+    public void mailSend(String type, Runnable send) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "failure";
+        try {
+            send.run();
+            outcome = "success";
+        } finally {
+            sample.stop(Timer.builder(MAIL_SEND)
+                    .description("메일 전송 시간")
+                    .tags("type", type, "outcome", outcome)
+                    .register(registry));
+        }
+    }
+
+    public void importFinished(Timer.Sample sample, boolean success, int rows) {
+        sample.stop(Timer.builder(IMPORT)
+                .description("Excel 가져오기 시간 (파싱 + 저장)")
+                .tag("outcome", success ? "success" : "failure")
+                .register(registry));
+        if (success) {
+            importRows.increment(rows);
+        }
+    }
+
+    private static Timer jwtTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder(JWT_VERIFICATION)
+                .description("JWT 서명 검증 시간")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+}
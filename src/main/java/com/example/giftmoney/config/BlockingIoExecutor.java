@@ -0,0 +1,78 @@
+package com.example.giftmoney.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가상 스레드를 캐리어 스레드에 고정(pinning)시키는 블로킹 구간 실행기
+ *
+ * Jakarta Mail의 SMTP 연결/전송은 synchronized 안에서 소켓 I/O를 하므로 (Java 21)
+ * 가상 스레드가 그동안 캐리어 스레드를 점유한다 → 캐리어 수(CPU 코어 수)만큼 동시에 막히면 전체 요청이 멈춤.
+ *
+ * 가상 스레드 모드(spring.threads.virtual.enabled, Java 21+)에서는 이런 구간을 작은 플랫폼 스레드 풀에서 실행하고,
+ * 호출한 가상 스레드는 Future를 기다리며 언마운트된다. 플랫폼 스레드 모드에서는 호출 스레드에서 그대로 실행.
+ */
+@Slf4j
+@Component
+public class BlockingIoExecutor implements DisposableBean {
+
+    private final ExecutorService executor;
+
+    public BlockingIoExecutor(Environment environment,
+                              @Value("${app.virtual-threads.blocking-io-threads:4}") int threads) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            AtomicInteger sequence = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "blocking-io-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            log.info("Blocking I/O sections offloaded to platform threads: threads={}", threads);
+        } else {
+            this.executor = null;
+        }
+    }
+
+    public void run(Runnable action) {
+        if (executor == null) {
+            action.run();
+            return;
+        }
+
+        Future<?> future = executor.submit(action);
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("블로킹 작업 대기 중 인터럽트되었습니다", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.example.giftmoney.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 캐시 무효화 전파 방식 선택 (app.cache.invalidation.transport)
+ *
+ * - auto (기본): primary DB가 PostgreSQL이면 postgres, 아니면 none
+ * - postgres: LISTEN/NOTIFY
+ * - none: 단일 인스턴스 (로컬 무효화만)
+ */
+@Slf4j
+@Configuration
+public class CacheConfig {
+
+    @Value("${app.cache.invalidation.transport:auto}")
+    private String transport;
+
+    @Value("${app.cache.invalidation.channel:giftmoney_cache_invalidation}")
+    private String channel;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username:}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    @Bean
+    public InvalidationTransport invalidationTransport(DataSource dataSource) {
+        boolean postgres = switch (transport) {
+            case "auto" -> url.startsWith("jdbc:postgresql:");
+            case "postgres" -> true;
+            case "none" -> false;
+            default -> throw new IllegalArgumentException("지원하지 않는 캐시 무효화 방식입니다: " + transport);
+        };
+        if (!postgres) {
+            log.info("Cache invalidation transport: none (local only)");
+            return InvalidationTransport.NONE;
+        }
+        log.info("Cache invalidation transport: postgres LISTEN/NOTIFY, channel={}", channel);
+        return new PostgresNotifyTransport(dataSource, url, username, password, channel);
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.example.giftmoney.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 인스턴스 로컬 캐시 무효화 버스
+ *
+ * - publish(userId, scope): 트랜잭션 안이면 커밋 후, 밖이면 즉시 이 인스턴스의 캐시를 비우고 다른 인스턴스로 전파
+ *   (롤백된 쓰기는 무효화하지 않음, 한 트랜잭션의 같은 이벤트는 한 번만 발행)
+ * - 다른 인스턴스의 이벤트는 InvalidationTransport로 받아 같은 Listener들에 전달
+ *
+ * 전파는 최선 노력(best effort)이므로 각 캐시는 TTL을 함께 둔다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    public enum Scope {
+        GIFT_MONEY,     // 경조금/인물 데이터 변경 (통계, 목록)
+        DIMENSIONS,     // 행사 유형/관계 사전 변경 (삭제)
+        SHARD,          // 샤드 배정 변경 (이전 시작/전환)
+        ALL             // 사용자의 모든 캐시
+    }
+
+    /**
+     * 무효화 이벤트를 받는 인스턴스 로컬 캐시
+     */
+    public interface Listener {
+
+        void evict(Long userId, Scope scope);
+
+        void evictAll();
+    }
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Listener> listeners;
+    private final InvalidationTransport transport;
+
+    public CacheInvalidationBus(List<Listener> listeners, InvalidationTransport transport) {
+        this.listeners = listeners;
+        this.transport = transport;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        transport.subscribe(this::receive);
+    }
+
+    public void publish(Long userId, Scope scope) {
+        InvalidationTransport.Event event = new InvalidationTransport.Event(userId, scope, nodeId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(event);
+            return;
+        }
+
+        // 트랜잭션별 대기 이벤트 (커밋 후 한 번에 발행)
+        @SuppressWarnings("unchecked")
+        Set<InvalidationTransport.Event> pending =
+                (Set<InvalidationTransport.Event>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<InvalidationTransport.Event> events = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    events.forEach(CacheInvalidationBus.this::send);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+                }
+            });
+            pending = events;
+        }
+        pending.add(event);
+    }
+
+    private void send(InvalidationTransport.Event event) {
+        deliver(event);
+        transport.publish(event);
+    }
+
+    private void receive(InvalidationTransport.Event event) {
+        if (nodeId.equals(event.origin())) {
+            return;
+        }
+        log.debug("Cache invalidation received: userId={}, scope={}", event.userId(), event.scope());
+        deliver(event);
+    }
+
+    private void deliver(InvalidationTransport.Event event) {
+        for (Listener listener : listeners) {
+            try {
+                if (event.userId() == null) {
+                    listener.evictAll();
+                } else {
+                    listener.evict(event.userId(), event.scope());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation failed: listener={}", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,226 @@
+package com.example.giftmoney.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DataSource 구성 (primary + 선택적 읽기 복제본 + 선택적 사용자 샤드)
+ *
+ * app.datasource.replica-urls가 비어있으면 기존과 동일하게 primary 풀 하나만 사용.
+ * 설정되어 있으면 readOnly 트랜잭션을 복제본으로 라우팅 (ReplicaRoutingDataSource).
+ *
+ * primary DB는 디렉터리(사용자/인증) DB이자 샤드 0.
+ * app.sharding.shard-urls에 추가 DB를 지정하면 샤드 1..N으로 사용 (ShardRoutingDataSource).
+ *
+ * 샤드마다 분석(통계/가져오기) 전용 풀을 따로 두고 OLTP 풀과 독립적으로 크기를 정한다 (app.analytics.*).
+ * 복제본이 있으면 샤드 0의 분석 풀도 복제본마다 하나씩 두고 OLTP와 같은 규칙(readOnly, read-your-writes, 지연 제외)으로 라우팅.
+ */
+@Slf4j
+@Configuration
+public class DataSourceConfig {
+
+    @Value("${app.datasource.replica-urls:}")
+    private List<String> replicaUrls;
+
+    @Value("${app.datasource.replica-username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replica-password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    // 쓰기 후 같은 사용자의 읽기를 primary로 보내는 시간 (read-your-writes)
+    @Value("${app.datasource.read-your-writes-window:5000}")
+    private long readYourWritesWindow;
+
+    // 복제 지연 확인 쿼리 (결과: 지연 시간(초)) - WAL 재생이 따라잡았으면 0
+    @Value("${app.datasource.replica-lag-query:SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+           "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END}")
+    private String replicaLagQuery;
+
+    @Value("${app.datasource.replica-max-lag-seconds:5}")
+    private double replicaMaxLagSeconds;
+
+    // 샤드 1..N의 JDBC URL (샤드 0은 primary DB)
+    @Value("${app.sharding.shard-urls:}")
+    private List<String> shardUrls;
+
+    @Value("${app.sharding.shard-username:${spring.datasource.username}}")
+    private String shardUsername;
+
+    @Value("${app.sharding.shard-password:${spring.datasource.password}}")
+    private String shardPassword;
+
+    // 샤드당 분석 전용 커넥션 수
+    @Value("${app.analytics.pool-size:2}")
+    private int analyticsPoolSize;
+
+    // 분석 풀 커넥션 대기 시간 - 풀이 고갈되면 OLTP 요청처럼 오래 기다리지 않고 실패
+    @Value("${app.analytics.connection-timeout:1000}")
+    private long analyticsConnectionTimeout;
+
+    // 분석 풀의 문장 실행 시간 제한 (ms, 0이면 제한 없음)
+    @Value("${app.analytics.statement-timeout:15000}")
+    private long analyticsStatementTimeout;
+
+    private ReadYourWritesTracker readYourWritesTracker;
+    private ReplicaRoutingDataSource routingDataSource;
+    private ReplicaRoutingDataSource analyticsRoutingDataSource;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public DataSourceConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // spring.datasource.hikari.* 설정 바인딩 (Spring Boot 기본 구성과 동일)
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource) {
+        List<String> urls = replicaUrls();
+        if (urls.isEmpty()) {
+            return primaryDataSource;
+        }
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            replicas.put("replica-" + i, derivedDataSource(primaryDataSource, urls.get(i),
+                    replicaUsername, replicaPassword, "replica-" + i, true));
+        }
+        log.info("Read replica routing enabled: replicas={}", replicas.size());
+
+        readYourWritesTracker = new ReadYourWritesTracker(readYourWritesWindow);
+        routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker);
+        routingDataSource.afterPropertiesSet();
+
+        // 트랜잭션 시작 후 첫 쿼리 시점에 커넥션을 가져와야 readOnly 여부로 라우팅 가능
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // 샤드 0 = 디렉터리 DB (복제본 라우팅 포함), 샤드 1..N = app.sharding.shard-urls
+    @Bean
+    public ShardRoutingDataSource shardDataSource(DataSource dataSource, HikariDataSource primaryDataSource) {
+        List<DataSource> shards = new ArrayList<>();
+        List<DataSource> analyticsShards = new ArrayList<>();
+        shards.add(dataSource);
+        analyticsShards.add(primaryAnalyticsDataSource(primaryDataSource));
+        for (String url : shardUrls) {
+            if (!url.isBlank()) {
+                int index = shards.size();
+                shards.add(derivedDataSource(primaryDataSource, url, shardUsername, shardPassword, "shard-" + index, false));
+                analyticsShards.add(analyticsDataSource(primaryDataSource, url, shardUsername, shardPassword,
+                        "analytics-" + index, false));
+            }
+        }
+        if (shards.size() > 1) {
+            log.info("User sharding enabled: shards={}", shards.size());
+        }
+        log.info("Analytics pools: poolSize={}, statementTimeout={}ms", analyticsPoolSize, analyticsStatementTimeout);
+
+        ShardRoutingDataSource shardDataSource = new ShardRoutingDataSource(shards, analyticsShards);
+        shardDataSource.afterPropertiesSet();
+        return shardDataSource;
+    }
+
+    // 샤드 0 분석 풀 - 복제본이 있으면 분석 풀도 복제본으로 라우팅 (통계 조회가 primary에 몰리지 않도록)
+    private DataSource primaryAnalyticsDataSource(HikariDataSource primaryDataSource) {
+        HikariDataSource primaryAnalytics = analyticsDataSource(primaryDataSource, primaryDataSource.getJdbcUrl(),
+                primaryDataSource.getUsername(), primaryDataSource.getPassword(), "analytics-0", false);
+        List<String> urls = replicaUrls();
+        if (urls.isEmpty()) {
+            return primaryAnalytics;
+        }
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            replicas.put("analytics-replica-" + i, analyticsDataSource(primaryDataSource, urls.get(i),
+                    replicaUsername, replicaPassword, "analytics-replica-" + i, true));
+        }
+
+        // read-your-writes 기록은 OLTP 라우팅과 공유 (목록에서 저장한 직후의 통계도 primary에서 읽음)
+        analyticsRoutingDataSource = new ReplicaRoutingDataSource(primaryAnalytics, replicas, readYourWritesTracker);
+        analyticsRoutingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(analyticsRoutingDataSource);
+    }
+
+    private List<String> replicaUrls() {
+        return replicaUrls.stream().filter(url -> !url.isBlank()).toList();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica-check-interval:10000}")
+    public void checkReplicaLag() {
+        if (readYourWritesTracker != null) {
+            readYourWritesTracker.sweep();
+        }
+        if (routingDataSource != null) {
+            routingDataSource.checkReplicaLag(replicaLagQuery, replicaMaxLagSeconds);
+        }
+        if (analyticsRoutingDataSource != null) {
+            analyticsRoutingDataSource.checkReplicaLag(replicaLagQuery, replicaMaxLagSeconds);
+        }
+    }
+
+    // 복제본/샤드 풀은 primary 풀 설정을 복사하고 URL/계정만 변경
+    private HikariDataSource derivedDataSource(HikariDataSource primary, String url, String username,
+                                               String password, String poolName, boolean readOnly) {
+        return new HikariDataSource(derivedConfig(primary, url, username, password, poolName, readOnly));
+    }
+
+    // 분석 풀: 작은 풀 + 짧은 커넥션 대기 + 커넥션마다 문장 실행 시간 제한
+    private HikariDataSource analyticsDataSource(HikariDataSource primary, String url, String username,
+                                                 String password, String poolName, boolean readOnly) {
+        HikariConfig config = derivedConfig(primary, url, username, password, poolName, readOnly);
+        config.setMaximumPoolSize(analyticsPoolSize);
+        config.setMinimumIdle(1);
+        config.setConnectionTimeout(analyticsConnectionTimeout);
+        if (analyticsStatementTimeout > 0) {
+            if (url.startsWith("jdbc:postgresql:")) {
+                config.setConnectionInitSql("SET statement_timeout = " + analyticsStatementTimeout);
+            } else if (url.startsWith("jdbc:h2:")) {
+                config.setConnectionInitSql("SET QUERY_TIMEOUT " + analyticsStatementTimeout);
+            }
+        }
+        return new HikariDataSource(config);
+    }
+
+    private HikariConfig derivedConfig(HikariDataSource primary, String url, String username,
+                                       String password, String poolName, boolean readOnly) {
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setPoolName(poolName);
+        config.setReadOnly(readOnly);
+        // 빈이 아닌 풀(복제본/샤드/분석)도 hikaricp.* 메트릭 기록 (pool 태그 = poolName)
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null && config.getMetricsTrackerFactory() == null && config.getMetricRegistry() == null) {
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+        return config;
+    }
+
+}
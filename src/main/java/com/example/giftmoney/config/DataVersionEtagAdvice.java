@@ -0,0 +1,50 @@
+package com.example.giftmoney.config;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.List;
+
+/**
+ * DataVersionEtagFilter가 계산한 ETag를 200 응답에만 추가
+ *
+ * 오류 응답(400/503 등)에 ETag가 붙으면 클라이언트가 오류 본문을 캐시하고 304를 받을 수 있으므로 제외한다.
+ */
+@RestControllerAdvice
+public class DataVersionEtagAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && response instanceof ServletServerHttpResponse servletResponse) {
+            Object etag = servletRequest.getServletRequest().getAttribute(DataVersionEtagFilter.ETAG_ATTRIBUTE);
+            if (etag != null && servletResponse.getServletResponse().getStatus() == HttpServletResponse.SC_OK) {
+                response.getHeaders().setETag(etag.toString());
+                response.getHeaders().setCacheControl(DataVersionEtagFilter.CACHE_CONTROL);
+                // 같은 ETag로 JSON/CBOR/Smile 표현이 있으므로 캐시는 Accept별로 구분
+                response.getHeaders().setVary(List.of(HttpHeaders.ACCEPT));
+            }
+        }
+        return body;
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.example.giftmoney.config;
+
+import com.example.giftmoney.service.DataVersionService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 목록/통계 조건부 GET (ETag / 304)
+ *
+ * ETag = 사용자 데이터 버전(DataVersionService) + 날짜 → 응답 내용이 아니라 버전만으로 결정
+ * - If-None-Match가 현재 ETag와 같으면 버전만 확인하고 바로 304 (쿼리/직렬화 없음, 분석 풀/동시 실행 제한도 거치지 않음)
+ * - 다르면 컨트롤러 실행, 200 응답에만 ETag 추가 (DataVersionEtagAdvice)
+ * - 버전은 쿼리 전에 읽음 → 그 사이 쓰기가 커밋되면 응답은 최신, ETag는 이전 버전 (다음 요청에서 다시 200, 안전한 방향)
+ * - 날짜 포함: 월별 통계(최근 N개월)는 오늘 기준이므로 날짜가 바뀌면 다시 계산
+ *
+ * ⚡ 성능: 변경 없는 새로고침/폴링은 DB 쿼리 0~1회(버전 캐시 미스 시 PK 조회), 응답 본문 없음
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+public class DataVersionEtagFilter extends OncePerRequestFilter {
+
+    static final String ETAG_ATTRIBUTE = DataVersionEtagFilter.class.getName() + ".etag";
+
+    private static final Set<String> PATHS = Set.of("/api/gift-money", "/api/gift-money/statistics");
+    private static final String PATH_PREFIX = "/api/statistics/";
+
+    // 브라우저/프록시가 저장은 하되 매번 재검증 (다른 사용자와 공유 금지)
+    static final String CACHE_CONTROL = "private, no-cache";
+
+    private final DataVersionService dataVersionService;
+
+    public DataVersionEtagFilter(DataVersionService dataVersionService) {
+        this.dataVersionService = dataVersionService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        return !PATHS.contains(uri) && !uri.startsWith(PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Long userId = currentUserId();
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String etag = "W/\"" + userId + "-" + dataVersionService.current(userId) + "-"
+                + LocalDate.now().toEpochDay() + "\"";
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            return;
+        }
+
+        request.setAttribute(ETAG_ATTRIBUTE, etag);
+        filterChain.doFilter(request, response);
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+
+    // If-None-Match: "*" 또는 쉼표로 구분된 ETag 목록 (약한 비교)
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaque = etag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.example.giftmoney.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 요청 동시 실행 수 제한 (가상 스레드 모드 전용)
+ *
+ * 가상 스레드에서는 Tomcat 워커 수가 더 이상 동시 요청 수를 제한하지 않으므로,
+ * 그대로 두면 수천 개의 요청이 Hikari 대기열에 쌓였다가 connection-timeout으로 한꺼번에 실패한다.
+ * DB 커넥션 풀 크기만큼만 API 요청을 동시에 실행하고, admission-timeout 안에 순서가 오지 않으면 503으로 빠르게 거절.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class DbAdmissionFilter extends OncePerRequestFilter {
+
+    private static final int RETRY_AFTER_SECONDS = 1;
+
+    private final Semaphore permits;
+    private final long timeoutMillis;
+
+    public DbAdmissionFilter(HikariDataSource primaryDataSource,
+                             @Value("${app.virtual-threads.db-permits:0}") int permits,
+                             @Value("${app.virtual-threads.admission-timeout:2000}") long timeoutMillis) {
+        // 0이면 primary 커넥션 풀 크기와 같게
+        int size = permits > 0 ? permits : primaryDataSource.getMaximumPoolSize();
+        this.permits = new Semaphore(size, true);
+        this.timeoutMillis = timeoutMillis;
+        log.info("DB admission limit enabled: permits={}, timeout={}ms", size, timeoutMillis);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", String.valueOf(RETRY_AFTER_SECONDS));
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write(
+                "{\"message\":\"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요\",\"status\":503}"
+            );
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+}
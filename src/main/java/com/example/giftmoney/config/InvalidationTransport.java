@@ -0,0 +1,64 @@
+package com.example.giftmoney.config;
+
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 간 캐시 무효화 이벤트 전달 방식
+ *
+ * - PostgresNotifyTransport: PostgreSQL LISTEN/NOTIFY (추가 인프라 없음)
+ * - NONE: 단일 인스턴스 (로컬 무효화만)
+ */
+public interface InvalidationTransport extends AutoCloseable {
+
+    InvalidationTransport NONE = new InvalidationTransport() {
+        @Override
+        public void publish(Event event) {
+        }
+
+        @Override
+        public void subscribe(Consumer<Event> consumer) {
+        }
+    };
+
+    /**
+     * 다른 인스턴스로 이벤트 전송 (실패해도 예외를 던지지 않음 - 캐시 TTL이 최종 안전장치)
+     */
+    void publish(Event event);
+
+    /**
+     * 다른 인스턴스의 이벤트 수신 시작
+     * 연결이 끊겼다 복구되면 놓친 이벤트가 있을 수 있으므로 Event.all()을 전달한다.
+     */
+    void subscribe(Consumer<Event> consumer);
+
+    @Override
+    default void close() {
+    }
+
+    /**
+     * @param userId null이면 모든 사용자
+     * @param origin 발행한 인스턴스 ID (자기 이벤트는 무시)
+     */
+    record Event(Long userId, CacheInvalidationBus.Scope scope, String origin) {
+
+        // 수신 연결 복구 시 전체 무효화 (발행 인스턴스 없음)
+        public static Event all() {
+            return new Event(null, CacheInvalidationBus.Scope.ALL, "");
+        }
+
+        // 페이로드 형식: userId|scope|origin (전체는 userId = *)
+        public String encode() {
+            return (userId != null ? userId.toString() : "*") + "|" + scope.name() + "|" + origin;
+        }
+
+        public static Event decode(String payload) {
+            String[] parts = payload.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 무효화 이벤트입니다: " + payload);
+            }
+            Long userId = "*".equals(parts[0]) ? null : Long.valueOf(parts[0]);
+            return new Event(userId, CacheInvalidationBus.Scope.valueOf(parts[1]), parts[2]);
+        }
+    }
+
+}
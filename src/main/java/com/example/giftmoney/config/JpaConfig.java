@@ -0,0 +1,138 @@
+package com.example.giftmoney.config;
+
+import com.example.giftmoney.domain.entity.AccountPurge;
+import com.example.giftmoney.domain.entity.Counterparty;
+import com.example.giftmoney.domain.entity.DataVersion;
+import com.example.giftmoney.domain.entity.GiftMoneyChange;
+import com.example.giftmoney.domain.entity.Dimension;
+import com.example.giftmoney.domain.entity.EmailVerification;
+import com.example.giftmoney.domain.entity.GiftMoney;
+import com.example.giftmoney.domain.entity.ShardAssignment;
+import com.example.giftmoney.domain.entity.ShardMove;
+import com.example.giftmoney.domain.entity.User;
+import com.example.giftmoney.repository.AccountPurgeRepository;
+import com.example.giftmoney.repository.CounterpartyRepository;
+import com.example.giftmoney.repository.DataVersionRepository;
+import com.example.giftmoney.repository.GiftMoneyChangeRepository;
+import com.example.giftmoney.repository.DimensionRepository;
+import com.example.giftmoney.repository.EmailVerificationRepository;
+import com.example.giftmoney.repository.GiftMoneyRepository;
+import com.example.giftmoney.repository.ShardAssignmentRepository;
+import com.example.giftmoney.repository.ShardMoveRepository;
+import com.example.giftmoney.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JPA 구성 - 디렉터리 DB와 샤드 DB를 별도 영속성 단위로 분리
+ *
+ * - 디렉터리 (기본 @Transactional): users, email_verifications, account_purges, shard_assignments, shard_moves
+ * - 샤드 (@ShardTransactional): gift_money, counterparties, dimensions → ShardRoutingDataSource
+ *
+ * spring.jpa.* 설정(ddl-auto, 네이밍 전략 등)은 두 영속성 단위에 동일하게 적용된다.
+ */
+@Configuration
+public class JpaConfig {
+
+    public static final String SHARD_TRANSACTION_MANAGER = "shardTransactionManager";
+
+    private static final List<Class<?>> DIRECTORY_ENTITIES = List.of(
+            User.class, EmailVerification.class, AccountPurge.class, ShardAssignment.class, ShardMove.class);
+
+    private static final List<Class<?>> SHARD_ENTITIES = List.of(
+            GiftMoney.class, Counterparty.class, Dimension.class, DataVersion.class,
+            GiftMoneyChange.class);
+
+    @Bean
+    @Primary
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(
+            EntityManagerFactoryBuilder builder, DataSource dataSource,
+            JpaProperties jpaProperties, HibernateProperties hibernateProperties,
+            ConfigurableListableBeanFactory beanFactory) {
+        return builder.dataSource(dataSource)
+                .managedTypes(managedTypes(DIRECTORY_ENTITIES))
+                .properties(vendorProperties(jpaProperties, hibernateProperties, beanFactory))
+                .persistenceUnit("directory")
+                .build();
+    }
+
+    @Bean
+    public LocalContainerEntityManagerFactoryBean shardEntityManagerFactory(
+            EntityManagerFactoryBuilder builder, ShardRoutingDataSource shardDataSource,
+            JpaProperties jpaProperties, HibernateProperties hibernateProperties,
+            ConfigurableListableBeanFactory beanFactory) {
+        return builder.dataSource(shardDataSource)
+                .managedTypes(managedTypes(SHARD_ENTITIES))
+                .properties(vendorProperties(jpaProperties, hibernateProperties, beanFactory))
+                .persistenceUnit("shard")
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(
+            @Qualifier("entityManagerFactory") EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @Bean(SHARD_TRANSACTION_MANAGER)
+    public JpaTransactionManager shardTransactionManager(
+            @Qualifier("shardEntityManagerFactory") EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    private static PersistenceManagedTypes managedTypes(List<Class<?>> entities) {
+        return PersistenceManagedTypes.of(entities.stream().map(Class::getName).toList(), List.of());
+    }
+
+    // Spring Boot 기본 EntityManagerFactory와 같은 Hibernate 설정 (ddl-auto, 네이밍 전략, 빈 컨테이너)
+    private static Map<String, Object> vendorProperties(JpaProperties jpaProperties,
+                                                        HibernateProperties hibernateProperties,
+                                                        ConfigurableListableBeanFactory beanFactory) {
+        Map<String, Object> properties = hibernateProperties.determineHibernateProperties(
+                jpaProperties.getProperties(), new HibernateSettings());
+        properties.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory));
+        return properties;
+    }
+
+    @Configuration
+    @EnableJpaRepositories(
+            basePackageClasses = UserRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+                    UserRepository.class, EmailVerificationRepository.class, AccountPurgeRepository.class,
+                    ShardAssignmentRepository.class, ShardMoveRepository.class}))
+    static class DirectoryRepositories {
+    }
+
+    @Configuration
+    @EnableJpaRepositories(
+            basePackageClasses = GiftMoneyRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+                    GiftMoneyRepository.class, CounterpartyRepository.class, DimensionRepository.class,
+                    DataVersionRepository.class, GiftMoneyChangeRepository.class}),
+            entityManagerFactoryRef = "shardEntityManagerFactory",
+            transactionManagerRef = SHARD_TRANSACTION_MANAGER)
+    static class ShardRepositories {
+    }
+
+}
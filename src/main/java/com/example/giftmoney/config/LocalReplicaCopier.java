@@ -0,0 +1,195 @@
+package com.example.giftmoney.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 테스트용 복제본 채우기 (app.datasource.replica-copy-interval 설정 시, H2 전용)
+ *
+ * 내장 H2에는 복제 기능이 없으므로 primary 내용을 주기적으로 복제본 DB에 통째로 복사해 복제를 흉내낸다.
+ * - 시작 시: primary 스키마(SCRIPT NODATA)를 복제본에 생성하고 첫 복사 (웹 서버가 요청을 받기 전)
+ * - 이후 interval마다: 한 스냅샷으로 읽은 전체 행을 복제본의 한 트랜잭션에서 교체 (읽는 쪽은 이전 내용 또는 새 내용만 봄)
+ * - 복사 시각을 replica_copy_status에 기록 → replica-lag-query로 실제 지연(마지막 복사 이후 경과 시간)을 확인
+ *
+ * 운영 복제본은 PostgreSQL 스트리밍 복제를 사용하며 이 클래스는 쓰지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.datasource.replica-copy-interval")
+public class LocalReplicaCopier implements SmartInitializingSingleton {
+
+    private static final String STATUS_TABLE = "replica_copy_status";
+
+    private final HikariDataSource primaryDataSource;
+    private final List<String> replicaUrls;
+    private final String replicaUsername;
+    private final String replicaPassword;
+    private final Set<String> initialized = ConcurrentHashMap.newKeySet();
+
+    public LocalReplicaCopier(HikariDataSource primaryDataSource,
+                              @Value("${app.datasource.replica-urls:}") List<String> replicaUrls,
+                              @Value("${app.datasource.replica-username:${spring.datasource.username}}") String replicaUsername,
+                              @Value("${app.datasource.replica-password:${spring.datasource.password}}") String replicaPassword) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaUrls = replicaUrls.stream().filter(url -> !url.isBlank()).toList();
+        this.replicaUsername = replicaUsername;
+        this.replicaPassword = replicaPassword;
+    }
+
+    // 모든 싱글톤 생성 후 (ddl-auto로 primary 스키마가 만들어진 뒤), 웹 서버 시작 전에 첫 복사
+    @Override
+    public void afterSingletonsInstantiated() {
+        copy();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica-copy-interval}")
+    public void copy() {
+        if (replicaUrls.isEmpty()) {
+            return;
+        }
+
+        Snapshot snapshot;
+        try {
+            snapshot = readPrimary();
+        } catch (SQLException e) {
+            log.warn("Replica copy skipped, primary read failed: {}", e.getMessage());
+            return;
+        }
+
+        for (String url : replicaUrls) {
+            try (Connection replica = DriverManager.getConnection(url, replicaUsername, replicaPassword)) {
+                if (initialized.add(url)) {
+                    createSchema(replica, snapshot.schema());
+                    log.info("Replica schema copied from primary: url={}, tables={}", url, snapshot.tables().size());
+                }
+                replaceRows(replica, snapshot.tables());
+            } catch (SQLException e) {
+                initialized.remove(url);
+                log.warn("Replica copy failed: url={}, {}", url, e.getMessage());
+            }
+        }
+    }
+
+    // 스키마 스크립트와 전체 행을 한 스냅샷에서 읽음
+    private Snapshot readPrimary() throws SQLException {
+        try (Connection primary = primaryDataSource.getConnection()) {
+            primary.setAutoCommit(false);
+            primary.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            try {
+                List<String> schema = new ArrayList<>();
+                try (Statement statement = primary.createStatement();
+                     ResultSet rs = statement.executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS")) {
+                    while (rs.next()) {
+                        schema.add(rs.getString(1));
+                    }
+                }
+
+                List<TableRows> tables = new ArrayList<>();
+                try (ResultSet rs = primary.getMetaData().getTables(null, primary.getSchema(), "%", new String[]{"TABLE"})) {
+                    while (rs.next()) {
+                        tables.add(readTable(primary, rs.getString("TABLE_NAME")));
+                    }
+                }
+                return new Snapshot(schema, tables);
+            } finally {
+                primary.rollback();
+            }
+        }
+    }
+
+    private TableRows readTable(Connection primary, String table) throws SQLException {
+        try (Statement statement = primary.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT * FROM \"" + table + "\"")) {
+            ResultSetMetaData meta = rs.getMetaData();
+            List<String> columns = new ArrayList<>();
+            for (int i = 1; i <= meta.getColumnCount(); i++) {
+                columns.add(meta.getColumnName(i));
+            }
+
+            List<Object[]> rows = new ArrayList<>();
+            while (rs.next()) {
+                Object[] row = new Object[columns.size()];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = rs.getObject(i + 1);
+                }
+                rows.add(row);
+            }
+            return new TableRows(table, columns, rows);
+        }
+    }
+
+    // 복제본은 primary가 이미 검증한 행을 통째로 받으므로 외래 키 검사는 끔 (테이블 순서와 무관하게 교체)
+    private void createSchema(Connection replica, List<String> schema) throws SQLException {
+        try (Statement statement = replica.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : schema) {
+                if (!sql.startsWith("CREATE USER")) {
+                    statement.execute(sql);
+                }
+            }
+            statement.execute("CREATE TABLE " + STATUS_TABLE + " (copied_at TIMESTAMP NOT NULL)");
+            statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        }
+    }
+
+    private void replaceRows(Connection replica, List<TableRows> tables) throws SQLException {
+        replica.setAutoCommit(false);
+        try {
+            for (TableRows table : tables) {
+                try (Statement statement = replica.createStatement()) {
+                    statement.executeUpdate("DELETE FROM \"" + table.name() + "\"");
+                }
+                if (table.rows().isEmpty()) {
+                    continue;
+                }
+
+                String columns = String.join(", ", table.columns().stream().map(c -> "\"" + c + "\"").toList());
+                String placeholders = String.join(", ", Collections.nCopies(table.columns().size(), "?"));
+                try (PreparedStatement insert = replica.prepareStatement(
+                        "INSERT INTO \"" + table.name() + "\" (" + columns + ") OVERRIDING SYSTEM VALUE VALUES (" + placeholders + ")")) {
+                    for (Object[] row : table.rows()) {
+                        for (int i = 0; i < row.length; i++) {
+                            insert.setObject(i + 1, row[i]);
+                        }
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                }
+            }
+
+            try (Statement statement = replica.createStatement()) {
+                statement.executeUpdate("DELETE FROM " + STATUS_TABLE);
+                statement.executeUpdate("INSERT INTO " + STATUS_TABLE + " VALUES (CURRENT_TIMESTAMP)");
+            }
+            replica.commit();
+        } catch (SQLException e) {
+            replica.rollback();
+            throw e;
+        }
+    }
+
+    private record Snapshot(List<String> schema, List<TableRows> tables) {
+    }
+
+    private record TableRows(String name, List<String> columns, List<Object[]> rows) {
+    }
+
+}
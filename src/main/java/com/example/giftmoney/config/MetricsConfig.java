@@ -0,0 +1,43 @@
+package com.example.giftmoney.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * HTTP 요청 메트릭(http.server.requests)에 처리한 컨트롤러 메서드 태그 추가
+ *
+ * 기본 태그(method, uri, status, outcome)에 handler=GiftMoneyController.getAll 형식을 더함
+ * → 같은 URI를 produces로 나눈 메서드(JSON 목록 / NDJSON 스트리밍)도 따로 집계.
+ * 컨트롤러가 아닌 요청(정적 자원, 필터에서 끝난 401/503)은 handler=none
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final KeyValue NO_HANDLER = KeyValue.of("handler", "none");
+
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context).and(handler(context));
+            }
+        };
+    }
+
+    private static KeyValue handler(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod method) {
+            return KeyValue.of("handler", method.getBeanType().getSimpleName() + "." + method.getMethod().getName());
+        }
+        return NO_HANDLER;
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.example.giftmoney.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 기반 캐시 무효화 전파
+ *
+ * - 발행: 전용 스레드에서 primary 풀 커넥션으로 pg_notify() (요청 스레드/트랜잭션과 분리)
+ * - 수신: 풀 밖의 전용 커넥션 하나로 LISTEN 후 getNotifications() 대기
+ * - 수신 연결이 끊기면 재연결하고, 그 사이 놓친 이벤트 대신 전체 무효화(Event.all) 전달
+ */
+@Slf4j
+public class PostgresNotifyTransport implements InvalidationTransport {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final int POLL_TIMEOUT_MILLIS = 5000;
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String channel;
+    private final ExecutorService publisher = Executors.newSingleThreadExecutor(daemon("cache-notify-publisher"));
+
+    private volatile boolean running = true;
+    private volatile Connection listenConnection;
+    private Thread listener;
+
+    public PostgresNotifyTransport(DataSource dataSource, String url, String username, String password,
+                                   String channel) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("잘못된 NOTIFY 채널 이름입니다: " + channel);
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.channel = channel;
+    }
+
+    @Override
+    public void publish(Event event) {
+        try {
+            publisher.execute(() -> {
+                try {
+                    jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> { }, channel, event.encode());
+                } catch (RuntimeException e) {
+                    log.warn("Cache invalidation NOTIFY failed: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Cache invalidation publisher stopped");
+        }
+    }
+
+    @Override
+    public synchronized void subscribe(Consumer<Event> consumer) {
+        if (listener != null) {
+            throw new IllegalStateException("이미 구독 중입니다");
+        }
+        listener = daemon("cache-notify-listener").newThread(() -> listen(consumer));
+        listener.start();
+    }
+
+    private void listen(Consumer<Event> consumer) {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                listenConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("Cache invalidation listening: channel={}", channel);
+
+                // 재연결이면 끊긴 동안의 이벤트를 알 수 없으므로 전체 무효화
+                if (connectedBefore) {
+                    consumer.accept(Event.all());
+                }
+                connectedBefore = true;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(consumer, notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Cache invalidation listener disconnected, retrying: {}", e.getMessage());
+                    sleep(RECONNECT_DELAY_MILLIS);
+                }
+            } finally {
+                listenConnection = null;
+            }
+        }
+    }
+
+    private void dispatch(Consumer<Event> consumer, String payload) {
+        try {
+            consumer.accept(Event.decode(payload));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring cache invalidation payload: {}", payload, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        publisher.shutdown();
+        Connection connection = listenConnection;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                log.debug("Cache invalidation listener close failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.example.giftmoney.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reactive 읽기 API 구성 (app.reactive.enabled=true)
+ *
+ * R2DBC 접속 정보는 JDBC 설정(spring.datasource.url, app.sharding.shard-urls)에서 변환해 사용.
+ * ConnectionFactory를 빈으로 등록하지 않음 → Spring Boot의 DataSource/JPA 자동 구성은 그대로 유지
+ * (R2dbcAutoConfiguration은 application.yml에서 제외).
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveConfig {
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username:}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    @Value("${app.sharding.shard-urls:}")
+    private List<String> shardUrls;
+
+    @Value("${app.sharding.shard-username:${spring.datasource.username:}}")
+    private String shardUsername;
+
+    @Value("${app.sharding.shard-password:${spring.datasource.password:}}")
+    private String shardPassword;
+
+    // 샤드당 R2DBC 커넥션 수 - 요청마다 커넥션을 점유하지 않으므로 작은 풀로 많은 동시 조회 처리
+    @Value("${app.reactive.pool-size:10}")
+    private int poolSize;
+
+    @Value("${app.reactive.max-idle-time:300000}")
+    private long maxIdleTime;
+
+    @Bean(destroyMethod = "close")
+    public ReactiveShardClients reactiveShardClients() {
+        List<ConnectionPool> pools = new ArrayList<>();
+        pools.add(pool(url, username, password, "r2dbc-shard-0"));
+        for (String shardUrl : shardUrls) {
+            if (!shardUrl.isBlank()) {
+                pools.add(pool(shardUrl, shardUsername, shardPassword, "r2dbc-shard-" + pools.size()));
+            }
+        }
+        log.info("Reactive read API enabled: shards={}, poolSize={}", pools.size(), poolSize);
+        return new ReactiveShardClients(pools);
+    }
+
+    private ConnectionPool pool(String jdbcUrl, String username, String password, String name) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(toR2dbcUrl(jdbcUrl)).mutate();
+        if (!username.isBlank()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isBlank()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name(name)
+                .initialSize(1)
+                .maxSize(poolSize)
+                .maxIdleTime(Duration.ofMillis(maxIdleTime))
+                .build());
+    }
+
+    /**
+     * JDBC URL → R2DBC URL
+     * - jdbc:postgresql://host:port/db?... → r2dbc:postgresql://host:port/db (JDBC 전용 파라미터 제외)
+     * - jdbc:h2:mem:name;... → r2dbc:h2:mem:///name;... (로컬 개발용, 같은 JVM의 인메모리 DB 공유)
+     */
+    static String toR2dbcUrl(String jdbcUrl) {
+        if (jdbcUrl.startsWith("jdbc:h2:mem:")) {
+            return "r2dbc:h2:mem:///" + jdbcUrl.substring("jdbc:h2:mem:".length());
+        }
+        if (jdbcUrl.startsWith("jdbc:postgresql:")) {
+            int query = jdbcUrl.indexOf('?');
+            return "r2dbc:" + jdbcUrl.substring("jdbc:".length(), query < 0 ? jdbcUrl.length() : query);
+        }
+        throw new IllegalArgumentException("Reactive 읽기 API를 지원하지 않는 DB입니다: " + jdbcUrl);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.example.giftmoney.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.List;
+
+/**
+ * 샤드별 R2DBC 클라이언트 (Reactive 읽기 API 전용)
+ *
+ * 샤드 번호는 ShardRoutingDataSource와 같음 (0 = primary DB, 1..N = app.sharding.shard-urls).
+ * JDBC 커넥션 풀과 별도의 R2DBC 커넥션 풀을 사용하므로, 대시보드 조회가 늘어도 쓰기 요청의 JDBC 커넥션을 점유하지 않는다.
+ */
+public class ReactiveShardClients implements AutoCloseable {
+
+    private final List<ConnectionPool> pools;
+    private final List<DatabaseClient> clients;
+
+    public ReactiveShardClients(List<ConnectionPool> pools) {
+        this.pools = List.copyOf(pools);
+        this.clients = this.pools.stream()
+                .map(pool -> DatabaseClient.create(pool))
+                .toList();
+    }
+
+    public DatabaseClient shard(int shard) {
+        if (shard < 0 || shard >= clients.size()) {
+            throw new IllegalArgumentException("존재하지 않는 샤드입니다: " + shard);
+        }
+        return clients.get(shard);
+    }
+
+    @Override
+    public void close() {
+        pools.forEach(ConnectionPool::dispose);
+    }
+
+}
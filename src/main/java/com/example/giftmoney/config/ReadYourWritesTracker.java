@@ -0,0 +1,62 @@
+package com.example.giftmoney.config;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 마지막 쓰기 시각 기록 (read-your-writes)
+ *
+ * 쓰기 트랜잭션 커밋 후 window 동안은 같은 사용자의 읽기를 primary로 보내
+ * 복제 지연 때문에 방금 저장한 데이터가 안 보이는 문제를 막는다.
+ * 인스턴스 로컬 기록이므로 같은 사용자의 요청이 다른 인스턴스로 가면 적용되지 않는다.
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowMillis;
+    private final Map<Long, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public void markWrite(Long userId) {
+        lastWriteAt.put(userId, System.currentTimeMillis());
+    }
+
+    public boolean isSticky(Long userId) {
+        Long writtenAt = lastWriteAt.get(userId);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - writtenAt < windowMillis) {
+            return true;
+        }
+        lastWriteAt.remove(userId, writtenAt);
+        return false;
+    }
+
+    /**
+     * window가 지난 기록 정리 - 쓰고 다시 읽지 않은 사용자의 기록이 계속 쌓이지 않도록 주기적으로 호출
+     */
+    public void sweep() {
+        long cutoff = System.currentTimeMillis() - windowMillis;
+        lastWriteAt.values().removeIf(writtenAt -> writtenAt <= cutoff);
+    }
+
+    /**
+     * 현재 요청의 인증 사용자 ID (JwtAuthenticationFilter가 Long principal 설정)
+     *
+     * @return 인증되지 않은 요청이나 백그라운드 작업이면 null
+     */
+    public static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.example.giftmoney.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본(replica)으로 보내는 라우팅 DataSource
+ *
+ * - @Transactional(readOnly = true) → 정상 상태인 복제본 중 하나 (라운드 로빈)
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 밖) → primary
+ * - 최근에 쓰기를 한 사용자(read-your-writes) 또는 정상 복제본이 없으면 → primary
+ *
+ * 트랜잭션의 readOnly 여부는 커넥션을 실제로 가져올 때 결정되므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private static final Object WRITE_MARKER = new Object();
+
+    private final List<String> replicaKeys;
+    private final Map<String, DataSource> replicas;
+    private final ReadYourWritesTracker tracker;
+    private final Map<String, Boolean> healthy = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, ReadYourWritesTracker tracker) {
+        this.replicas = replicas;
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.tracker = tracker;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        replicaKeys.forEach(key -> healthy.put(key, true));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Object key = route(ReadYourWritesTracker.currentUserId());
+        log.debug("Routing connection to {}", key);
+        return key;
+    }
+
+    private Object route(Long userId) {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteMarker(userId);
+            return PRIMARY;
+        }
+
+        if (userId != null && tracker.isSticky(userId)) {
+            return PRIMARY;
+        }
+
+        return nextHealthyReplica();
+    }
+
+    /**
+     * 복제 지연 확인 - 지연이 maxLagSeconds를 넘거나 확인에 실패한 복제본은 라우팅에서 제외
+     */
+    public void checkReplicaLag(String lagQuery, double maxLagSeconds) {
+        for (String key : replicaKeys) {
+            String problem;
+            try (Connection connection = replicas.get(key).getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(lagQuery)) {
+                double lag = rs.next() ? rs.getDouble(1) : 0;
+                problem = lag > maxLagSeconds ? "lag=" + lag + "s" : null;
+            } catch (Exception e) {
+                problem = "error=" + e.getMessage();
+            }
+
+            // 상태가 바뀔 때만 로그
+            Boolean previous = healthy.put(key, problem == null);
+            if (problem != null && Boolean.TRUE.equals(previous)) {
+                log.warn("Replica excluded, routing reads to primary: replica={}, {}", key, problem);
+            } else if (problem == null && Boolean.FALSE.equals(previous)) {
+                log.info("Replica recovered: replica={}", key);
+            }
+        }
+    }
+
+    private Object nextHealthyReplica() {
+        int size = replicaKeys.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (healthy.get(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋되면 해당 사용자를 read-your-writes 대상으로 기록 (트랜잭션당 한 번)
+     */
+    private void registerWriteMarker(Long userId) {
+        if (userId == null
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(WRITE_MARKER, userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.markWrite(userId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.example.giftmoney.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 데이터(gift_money, counterparties, dimensions)용 샤드 라우팅 DataSource
+ *
+ * ShardContext의 샤드 번호로 대상 DB를 선택한다.
+ * 샤드 0은 디렉터리 DB(users 등)와 같은 DataSource이므로, 샤드를 추가하지 않으면 기존과 동일하게 동작한다.
+ * 분석 작업(WorkloadContext)은 같은 샤드의 분석 전용 풀을 사용 → 무거운 통계/가져오기가 OLTP 커넥션을 점유하지 않음.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final List<DataSource> shards;
+
+    public ShardRoutingDataSource(List<DataSource> shards, List<DataSource> analyticsShards) {
+        if (analyticsShards.size() != shards.size()) {
+            throw new IllegalArgumentException("분석용 풀 수가 샤드 수와 다릅니다");
+        }
+        this.shards = List.copyOf(shards);
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+            targets.put(analyticsKey(i), analyticsShards.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.get(ShardContext.DEFAULT_SHARD));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        int shard = ShardContext.current();
+        return WorkloadContext.isAnalytics() ? analyticsKey(shard) : shard;
+    }
+
+    private static String analyticsKey(int shard) {
+        return "analytics-" + shard;
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public DataSource shard(int shard) {
+        if (shard < 0 || shard >= shards.size()) {
+            throw new IllegalArgumentException("존재하지 않는 샤드입니다: " + shard);
+        }
+        return shards.get(shard);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.example.giftmoney.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬/테스트용 샤드 스키마 생성 (app.sharding.schema-action=create)
+ *
+ * ddl-auto는 샤드 0(디렉터리 DB)에만 적용되므로, 샤드 1..N에는 샤드 엔티티 스키마를 따로 생성한다.
+ * 샤드 이전 시 gift_money/counterparties ID를 그대로 옮기므로 샤드마다 ID 시작값을 겹치지 않게 지정한다.
+ * 운영 DB는 db/migration/V10__sharding.sql을 샤드마다 실행한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.sharding.schema-action", havingValue = "create")
+public class ShardSchemaInitializer implements ApplicationRunner {
+
+    // 샤드별 ID 구간 (shard * ID_RANGE + 1부터 발급)
+    public static final long ID_RANGE = 1_000_000_000_000L;
+
+    private final EntityManagerFactory shardEntityManagerFactory;
+    private final ShardRoutingDataSource shardDataSource;
+
+    public ShardSchemaInitializer(@Qualifier("shardEntityManagerFactory") EntityManagerFactory shardEntityManagerFactory,
+                                  ShardRoutingDataSource shardDataSource) {
+        this.shardEntityManagerFactory = shardEntityManagerFactory;
+        this.shardDataSource = shardDataSource;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        SessionFactory sessionFactory = shardEntityManagerFactory.unwrap(SessionFactory.class);
+
+        for (int shard = 1; shard < shardDataSource.shardCount(); shard++) {
+            ShardContext.run(shard, () -> sessionFactory.getSchemaManager().exportMappedObjects(true));
+
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(shardDataSource.shard(shard));
+            long start = shard * ID_RANGE + 1;
+            jdbcTemplate.execute("ALTER TABLE gift_money ALTER COLUMN id RESTART WITH " + start);
+            jdbcTemplate.execute("ALTER TABLE counterparties ALTER COLUMN id RESTART WITH " + start);
+            log.info("Shard schema created: shard={}, idStart={}", shard, start);
+        }
+    }
+
+}
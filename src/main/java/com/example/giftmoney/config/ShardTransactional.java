@@ -0,0 +1,26 @@
+package com.example.giftmoney.config;
+
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 샤드 DB 트랜잭션 (gift_money, counterparties, dimensions)
+ *
+ * 디렉터리 엔티티(users 등)는 기본 @Transactional, 사용자 데이터는 이 어노테이션을 사용한다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional(transactionManager = JpaConfig.SHARD_TRANSACTION_MANAGER)
+public @interface ShardTransactional {
+
+    @AliasFor(annotation = Transactional.class)
+    boolean readOnly() default false;
+
+}
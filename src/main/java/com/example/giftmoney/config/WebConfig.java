@@ -1,18 +1,37 @@
 package com.example.giftmoney.config;
 
+import com.example.giftmoney.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.filter.CharacterEncodingFilter;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ObjectMapper objectMapper;
+
+    public WebConfig(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
     @Bean
     public CharacterEncodingFilter characterEncodingFilter() {
         CharacterEncodingFilter filter = new CharacterEncodingFilter();
@@ -21,10 +40,77 @@ public class WebConfig implements WebMvcConfigurer {
         return filter;
     }
 
+    /**
+     * 내용 해시 URL의 정적 자원 (/js/dashboard-<md5>.js) - 내용이 바뀌면 URL도 바뀌므로 1년 immutable 캐시
+     *
+     * 해시 없는 URL(/js/dashboard.js)은 Spring Boot 기본 처리(/**, 매번 재검증) 그대로 → 이전 HTML이 참조해도 오래된 파일에 묶이지 않음.
+     * 해시 URL 생성(ResourceUrlEncodingFilter)과 .br/.gz 선택은 spring.web.resources.chain 설정과 같음.
+     *
+     * ⚡ 성능: 다시 방문할 때 스크립트 요청 없음 (조건부 요청/304 왕복도 없음)
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String directory : List.of("js", "css")) {
+            registry.addResourceHandler("/" + directory + "/{file:.+-[0-9a-f]+\\.(?:js|css)}")
+                    .addResourceLocations("classpath:/static/" + directory + "/")
+                    .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+    }
+
     @Override
     public void configureMessageConverters(List<HttpMessageConverter<?>> converters) {
         StringHttpMessageConverter stringConverter = new StringHttpMessageConverter(StandardCharsets.UTF_8);
         stringConverter.setWriteAcceptCharset(false);
         converters.add(stringConverter);
     }
+
+    /**
+     * 바이너리 JSON 응답 (Accept: application/cbor, application/x-jackson-smile)
+     *
+     * 기본 CBOR/Smile 변환기는 Spring Boot의 Jackson 설정(날짜를 문자열로 등)을 사용하지 않으므로
+     * 애플리케이션 ObjectMapper 설정을 복사한 변환기로 교체 → JSON과 같은 구조, 형식만 다름.
+     * JSON 변환기 바로 뒤에 두어 Accept가 없거나 와일드카드인 요청(브라우저)은 계속 JSON으로 응답.
+     *
+     * ⚡ 성능: 텍스트 인코딩(숫자/날짜 문자열 변환, 이스케이프)이 없어 직렬화 CPU와 응답 크기 감소
+     *         (비교: scripts/bench/binary-formats)
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+
+        int json = 0;
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                json = i + 1;
+                break;
+            }
+        }
+        converters.add(json, new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory())));
+        converters.add(json, new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory())));
+        converters.add(ndjsonErrorConverter());
+    }
+
+    /**
+     * NDJSON 스트리밍 요청(Accept: application/x-ndjson)의 오류 응답 - ErrorResponse를 JSON 한 줄로
+     * (없으면 스트리밍 시작 전 400/503 오류 본문을 쓸 변환기가 없어 500으로 바뀜)
+     */
+    private MappingJackson2HttpMessageConverter ndjsonErrorConverter() {
+        MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            public boolean canRead(Class<?> clazz, MediaType mediaType) {
+                return false;
+            }
+
+            @Override
+            public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+                return ErrorResponse.class.isAssignableFrom(clazz) && super.canWrite(clazz, mediaType);
+            }
+        };
+        converter.setSupportedMediaTypes(List.of(MediaType.APPLICATION_NDJSON));
+        return converter;
+    }
 }
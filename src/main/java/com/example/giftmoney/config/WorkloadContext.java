@@ -0,0 +1,29 @@
+package com.example.giftmoney.config;
+
+/**
+ * 현재 스레드의 작업 부류 (OLTP / 분석)
+ *
+ * AnalyticsBulkheadFilter가 통계/가져오기 요청에 분석 작업을 표시하면,
+ * ShardRoutingDataSource가 같은 샤드의 분석 전용 커넥션 풀을 사용한다.
+ * 표시가 없으면 OLTP 풀을 사용한다.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Boolean> ANALYTICS = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static void setAnalytics() {
+        ANALYTICS.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        ANALYTICS.remove();
+    }
+
+    public static boolean isAnalytics() {
+        return ANALYTICS.get() != null;
+    }
+
+}
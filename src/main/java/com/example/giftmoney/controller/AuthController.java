@@ -4,16 +4,22 @@ import com.example.giftmoney.dto.LoginRequest;
 import com.example.giftmoney.dto.LoginResponse;
 import com.example.giftmoney.dto.RegisterRequest;
 import com.example.giftmoney.dto.UserResponse;
+import com.example.giftmoney.security.JwtAuthenticationFilter;
 import com.example.giftmoney.service.AuthService;
 import com.example.giftmoney.service.EmailService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.Map;
 
 @RestController
@@ -25,16 +31,59 @@ public class AuthController {
     private final AuthService authService;
     private final EmailService emailService;
 
+    // 서버 렌더링 첫 화면 사용 시 페이지 요청용 토큰 쿠키 발급
+    @Value("${app.ssr.enabled:false}")
+    private boolean ssrEnabled;
+
+    @Value("${jwt.expiration}")
+    private long tokenValidityMillis;
+
     @PostMapping("/register")
-    public ResponseEntity<LoginResponse> register(@Valid @RequestBody RegisterRequest request) {
+    public ResponseEntity<LoginResponse> register(@Valid @RequestBody RegisterRequest request,
+                                                 HttpServletRequest httpRequest) {
         LoginResponse response = authService.register(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return withPageToken(ResponseEntity.status(HttpStatus.CREATED), response.getToken(), httpRequest)
+                .body(response);
     }
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request,
+                                               HttpServletRequest httpRequest) {
         LoginResponse response = authService.login(request);
-        return ResponseEntity.ok(response);
+        return withPageToken(ResponseEntity.ok(), response.getToken(), httpRequest).body(response);
+    }
+
+    /**
+     * 로그아웃 - 페이지 토큰/변경 알림 구독 쿠키 삭제 (JWT 자체는 클라이언트가 localStorage에서 삭제)
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(HttpServletRequest httpRequest) {
+        ResponseCookie cookie = pageTokenCookie("", Duration.ZERO, httpRequest);
+        ResponseCookie eventsCookie = GiftMoneyController.eventsTokenCookie("", Duration.ZERO, httpRequest);
+        return ResponseEntity.noContent()
+                .header(HttpHeaders.SET_COOKIE, cookie.toString())
+                .header(HttpHeaders.SET_COOKIE, eventsCookie.toString())
+                .build();
+    }
+
+    private ResponseEntity.BodyBuilder withPageToken(ResponseEntity.BodyBuilder builder, String token,
+                                                     HttpServletRequest httpRequest) {
+        if (!ssrEnabled) {
+            return builder;
+        }
+        ResponseCookie cookie = pageTokenCookie(token, Duration.ofMillis(tokenValidityMillis), httpRequest);
+        return builder.header(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    // 🔒 보안: HttpOnly(스크립트에서 읽기 불가), SameSite=Lax(다른 사이트의 하위 요청에는 전송 안 함)
+    private static ResponseCookie pageTokenCookie(String value, Duration maxAge, HttpServletRequest httpRequest) {
+        return ResponseCookie.from(JwtAuthenticationFilter.PAGE_TOKEN_COOKIE, value)
+                .httpOnly(true)
+                .secure(httpRequest.isSecure())
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(maxAge)
+                .build();
     }
 
     @GetMapping("/me")
@@ -43,6 +92,17 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @DeleteMapping("/me")
+    public ResponseEntity<Map<String, String>> deleteAccount(
+            @AuthenticationPrincipal Long userId,
+            @RequestBody Map<String, String> request) {
+        authService.deleteAccount(userId, request.get("password"));
+        log.info("회원 탈퇴 요청: userId={}", userId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                "message", "회원 탈퇴가 접수되었습니다. 데이터는 순차적으로 삭제됩니다."
+        ));
+    }
+
     @GetMapping("/verify-email")
     public ResponseEntity<Map<String, String>> verifyEmail(@RequestParam String token) {
         try {
@@ -0,0 +1,40 @@
+package com.example.giftmoney.controller;
+
+import com.example.giftmoney.dto.DashboardBootstrapResponse;
+import com.example.giftmoney.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final DashboardService dashboardService;
+
+    /**
+     * 대시보드 첫 화면 (사용자 정보 + 목록 첫 페이지 + 요약 통계)
+     * - 목록은 GET /api/gift-money?fields=...&total=true 첫 페이지와 같은 형식
+     */
+    @GetMapping("/bootstrap")
+    public ResponseEntity<DashboardBootstrapResponse> bootstrap(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String transactionType) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다");
+        }
+        DashboardBootstrapResponse response = dashboardService.bootstrap(
+                userId, fields, Math.min(size, MAX_PAGE_SIZE), transactionType);
+        return ResponseEntity.ok(response);
+    }
+
+}
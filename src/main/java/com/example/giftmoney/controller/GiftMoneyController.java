@@ -1,48 +1,183 @@
 package com.example.giftmoney.controller;
 
+import com.example.giftmoney.dto.GiftMoneyChangesResponse;
+import com.example.giftmoney.dto.GiftMoneyListResponse;
+import com.example.giftmoney.dto.GiftMoneyMutationResponse;
 import com.example.giftmoney.dto.GiftMoneyRequest;
 import com.example.giftmoney.dto.GiftMoneyResponse;
 import com.example.giftmoney.dto.GiftMoneyStatisticsResponse;
+import com.example.giftmoney.dto.GiftMoneySummaryDelta;
+import com.example.giftmoney.security.JwtAuthenticationFilter;
+import com.example.giftmoney.security.JwtTokenProvider;
+import com.example.giftmoney.service.ChangeEventHub;
 import com.example.giftmoney.service.GiftMoneyService;
+import com.example.giftmoney.service.NdjsonStreamService;
+import com.example.giftmoney.service.SingleFlight;
+import com.example.giftmoney.service.StatisticsCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
 
 @RestController
 @RequestMapping("/api/gift-money")
 @RequiredArgsConstructor
 public class GiftMoneyController {
 
+    private static final int MAX_CHANGES = 5000;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final GiftMoneyService service;
+    private final StatisticsCache statisticsCache;
+    private final SingleFlight singleFlight;
+    private final ChangeEventHub changeEventHub;
+    private final NdjsonStreamService ndjsonStreamService;
+    private final JwtTokenProvider tokenProvider;
+
+    // 구독 쿠키 유효 시간 (SSE 연결 최대 유지 시간보다 길게 → 만료 후 자동 재연결에도 사용)
+    @Value("${app.events.token-ttl:3600000}")
+    private long eventsTokenTtlMillis;
 
+    /**
+     * 등록/수정/삭제 공통: summary=true이면 {item, summaryDelta} (요약 통계를 다시 조회하지 않고 화면 갱신)
+     */
     @PostMapping
-    public ResponseEntity<GiftMoneyResponse> create(
+    public ResponseEntity<?> create(
             @AuthenticationPrincipal Long userId,
-            @Valid @RequestBody GiftMoneyRequest request) {
-        GiftMoneyResponse response = service.create(userId, request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            @Valid @RequestBody GiftMoneyRequest request,
+            @RequestParam(defaultValue = "false") boolean summary) {
+        GiftMoneyMutationResponse response = service.create(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(summary ? response : response.getItem());
     }
 
+    /**
+     * 목록 조회
+     * - fields 또는 cursor를 지정하면 간단 응답 (요청 필드만, content/hasNext/nextCursor, total=true일 때만 total)
+     * - 지정하지 않으면 기존 Page 응답
+     */
     @GetMapping
-    public ResponseEntity<Page<GiftMoneyResponse>> findAll(
+    public ResponseEntity<?> findAll(
             @AuthenticationPrincipal Long userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String search,
-            @RequestParam(required = false) String transactionType) {
+            @RequestParam(required = false) String transactionType,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean total) {
+        if (fields != null || cursor != null) {
+            if (page < 0 || size < 1) {
+                throw new IllegalArgumentException("page는 0 이상, size는 1 이상이어야 합니다");
+            }
+            int limit = Math.min(size, MAX_PAGE_SIZE);
+            GiftMoneyListResponse response = singleFlight.run(userId,
+                    Arrays.asList("lean-list", page, limit, search, transactionType, fields, cursor, total),
+                    () -> service.findList(userId, fields, cursor, page, limit, search, transactionType, total));
+            return ResponseEntity.ok(response);
+        }
+
+        // JPA 페이지 조회는 offset을 int로 전달 - 넘치면 500 대신 400
+        if ((long) page * size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("page가 너무 큽니다");
+        }
+
         // 날짜 기준 내림차순 정렬 (최신순)
         PageRequest pageRequest = PageRequest.of(page, size,
             org.springframework.data.domain.Sort.by(
                 org.springframework.data.domain.Sort.Direction.DESC, "eventDate"));
-        Page<GiftMoneyResponse> response = service.findAll(userId, pageRequest, search, transactionType);
+        // 같은 사용자의 같은 목록 조회가 동시에 들어오면 쿼리 한 번으로 처리
+        Page<GiftMoneyResponse> response = singleFlight.run(userId,
+                Arrays.asList("list", page, size, search, transactionType),
+                () -> service.findAll(userId, pageRequest, search, transactionType));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 목록 전체 NDJSON 스트리밍 (Accept: application/x-ndjson) - 목록 조회와 같은 조건, 페이지 없음
+     * 응답 스트림에 직접 씀 (요청 스레드에서 실행 → 샤드/분석 풀 설정 유지)
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamAll(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String transactionType,
+            HttpServletResponse response) throws IOException {
+        ndjsonStreamService.writeGiftMoney(userId, search, transactionType, response);
+    }
+
+    /**
+     * 증분 동기화 (since 이후 등록/수정/삭제만, 처음에는 since=0)
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<GiftMoneyChangesResponse> changes(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "1000") int limit) {
+        if (since < 0 || limit < 1) {
+            throw new IllegalArgumentException("since는 0 이상, limit은 1 이상이어야 합니다");
+        }
+        GiftMoneyChangesResponse response = service.changes(userId, since, after, Math.min(limit, MAX_CHANGES));
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 변경 알림 구독 쿠키 발급 - 구독 경로에서만 인증되는 단기 토큰을 HttpOnly 쿠키로 전달
+     * (EventSource는 헤더를 지정할 수 없음, 토큰을 URL에 넣지 않기 위해 쿠키 사용)
+     */
+    @PostMapping("/events/session")
+    public ResponseEntity<Void> eventsSession(@AuthenticationPrincipal Long userId, HttpServletRequest httpRequest) {
+        String token = tokenProvider.createScopedToken(userId, JwtTokenProvider.EVENTS_SCOPE, eventsTokenTtlMillis);
+        return ResponseEntity.noContent()
+                .header(HttpHeaders.SET_COOKIE, eventsTokenCookie(token, Duration.ofMillis(eventsTokenTtlMillis), httpRequest).toString())
+                .build();
+    }
+
+    // 🔒 보안: HttpOnly, SameSite=Strict, 구독 경로로 한정 → 다른 요청에는 전송되지 않음
+    public static ResponseCookie eventsTokenCookie(String value, Duration maxAge, HttpServletRequest httpRequest) {
+        return ResponseCookie.from(JwtAuthenticationFilter.EVENTS_TOKEN_COOKIE, value)
+                .httpOnly(true)
+                .secure(httpRequest.isSecure())
+                .sameSite("Strict")
+                .path("/api/gift-money/events")
+                .maxAge(maxAge)
+                .build();
+    }
+
+    /**
+     * 변경 알림 구독 (SSE) - 쓰기 커밋마다 change 이벤트 {version, summary}
+     * EventSource는 헤더를 지정할 수 없으므로 구독 쿠키(POST /events/session)로 인증 (JwtAuthenticationFilter)
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(@AuthenticationPrincipal Long userId) {
+        SseEmitter emitter = changeEventHub.subscribe(userId);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                // 프록시(nginx)의 응답 버퍼링 비활성화 → 이벤트 즉시 전달
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<GiftMoneyResponse> findById(
             @AuthenticationPrincipal Long userId,
@@ -52,26 +187,32 @@ public class GiftMoneyController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<GiftMoneyResponse> update(
+    public ResponseEntity<?> update(
             @AuthenticationPrincipal Long userId,
             @PathVariable Long id,
-            @Valid @RequestBody GiftMoneyRequest request) {
-        GiftMoneyResponse response = service.update(userId, id, request);
-        return ResponseEntity.ok(response);
+            @Valid @RequestBody GiftMoneyRequest request,
+            @RequestParam(defaultValue = "false") boolean summary) {
+        GiftMoneyMutationResponse response = service.update(userId, id, request);
+        return ResponseEntity.ok(summary ? response : response.getItem());
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(
+    public ResponseEntity<GiftMoneyMutationResponse> delete(
             @AuthenticationPrincipal Long userId,
-            @PathVariable Long id) {
-        service.delete(userId, id);
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean summary) {
+        GiftMoneySummaryDelta delta = service.delete(userId, id);
+        if (summary) {
+            return ResponseEntity.ok(new GiftMoneyMutationResponse(null, delta));
+        }
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/statistics")
     public ResponseEntity<GiftMoneyStatisticsResponse> getStatistics(
             @AuthenticationPrincipal Long userId) {
-        GiftMoneyStatisticsResponse stats = service.getStatistics(userId);
+        GiftMoneyStatisticsResponse stats = statisticsCache.get(userId, "summary",
+                () -> service.getStatistics(userId));
         return ResponseEntity.ok(stats);
     }
 
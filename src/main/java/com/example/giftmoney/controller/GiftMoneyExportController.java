@@ -0,0 +1,50 @@
+package com.example.giftmoney.controller;
+
+import com.example.giftmoney.service.GiftMoneyExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 전체 장부 내보내기 (CSV / XLSX)
+ *
+ * 응답 스트림에 직접 씀 (요청 스레드에서 실행 → 샤드/분석 풀 설정 유지, 응답 본문을 메모리에 만들지 않음)
+ */
+@RestController
+@RequestMapping("/api/gift-money/export")
+@RequiredArgsConstructor
+public class GiftMoneyExportController {
+
+    private static final String XLSX_CONTENT_TYPE =
+            "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private final GiftMoneyExportService exportService;
+
+    @GetMapping("/csv")
+    public void exportCsv(@AuthenticationPrincipal Long userId, HttpServletResponse response) throws IOException {
+        prepare(response, "text/csv; charset=UTF-8", "csv");
+        exportService.writeCsv(userId, response.getOutputStream());
+    }
+
+    @GetMapping("/xlsx")
+    public void exportXlsx(@AuthenticationPrincipal Long userId, HttpServletResponse response) throws IOException {
+        prepare(response, XLSX_CONTENT_TYPE, "xlsx");
+        exportService.writeXlsx(userId, response.getOutputStream());
+    }
+
+    private static void prepare(HttpServletResponse response, String contentType, String extension) {
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=gift_money_"
+                + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "." + extension);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.example.giftmoney.controller;
+
+import com.example.giftmoney.dto.*;
+import com.example.giftmoney.service.ReactiveStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive 읽기 API (app.reactive.enabled=true)
+ *
+ * 기존 서블릿 스택과 함께 동작 - Flux 반환 시 Spring MVC가 비동기 요청으로 처리하므로
+ * DB 응답을 기다리는 동안 요청 스레드를 반납한다.
+ * - Accept: application/json → 기존 API와 같은 JSON 배열
+ * - Accept: application/x-ndjson → 행 단위 스트리밍 (클라이언트가 읽는 속도에 맞춰 DB에서 읽음)
+ */
+@RestController
+@RequestMapping("/api/reactive")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveStatisticsController {
+
+    private static final int MAX_STREAM_SIZE = 100_000;
+
+    private final ReactiveStatisticsService reactiveStatisticsService;
+
+    /**
+     * 연도별 통계 조회
+     */
+    @GetMapping("/statistics/yearly")
+    public Flux<YearlyStatisticsDto> getYearlyStatistics(@AuthenticationPrincipal Long userId) {
+        return reactiveStatisticsService.getYearlyStatistics(userId);
+    }
+
+    /**
+     * 행사 유형별 통계 조회
+     */
+    @GetMapping("/statistics/event-type")
+    public Flux<EventTypeStatisticsDto> getEventTypeStatistics(@AuthenticationPrincipal Long userId) {
+        return reactiveStatisticsService.getEventTypeStatistics(userId);
+    }
+
+    /**
+     * 월별 통계 조회 (최근 N개월)
+     */
+    @GetMapping("/statistics/monthly")
+    public Flux<MonthlyStatisticsDto> getMonthlyStatistics(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(defaultValue = "12") Integer months) {
+        return reactiveStatisticsService.getMonthlyStatistics(userId, months);
+    }
+
+    /**
+     * 관계별 통계 조회
+     */
+    @GetMapping("/statistics/relation")
+    public Flux<RelationStatisticsDto> getRelationStatistics(@AuthenticationPrincipal Long userId) {
+        return reactiveStatisticsService.getRelationStatistics(userId);
+    }
+
+    /**
+     * 경조금 목록 조회 (최신순, 최대 limit건)
+     */
+    @GetMapping("/gift-money")
+    public Flux<GiftMoneyResponse> streamGiftMoney(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String transactionType,
+            @RequestParam(defaultValue = "1000") int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다");
+        }
+        return reactiveStatisticsService.streamGiftMoney(userId, search, transactionType,
+                Math.min(limit, MAX_STREAM_SIZE));
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.example.giftmoney.controller;
+
+import com.example.giftmoney.dto.ShardMoveRequest;
+import com.example.giftmoney.dto.ShardMoveResponse;
+import com.example.giftmoney.service.ShardMoveService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+
+/**
+ * 샤드 운영 API (사용자 샤드 이전)
+ *
+ * JWT 인증에 더해 X-Admin-Token 헤더가 app.sharding.admin-token과 일치해야 한다.
+ * 토큰이 설정되지 않으면 비활성화.
+ */
+@RestController
+@RequestMapping("/api/admin/shard-moves")
+@RequiredArgsConstructor
+public class ShardAdminController {
+
+    private final ShardMoveService shardMoveService;
+
+    @Value("${app.sharding.admin-token:}")
+    private String adminToken;
+
+    @PostMapping
+    public ResponseEntity<?> requestMove(
+            @RequestHeader(value = "X-Admin-Token", required = false) String token,
+            @Valid @RequestBody ShardMoveRequest request) {
+        if (!authorized(token)) {
+            return forbidden();
+        }
+        ShardMoveResponse response = ShardMoveResponse.from(
+                shardMoveService.request(request.getUserId(), request.getTargetShard()));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getMove(
+            @RequestHeader(value = "X-Admin-Token", required = false) String token,
+            @PathVariable Long id) {
+        if (!authorized(token)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(ShardMoveResponse.from(shardMoveService.find(id)));
+    }
+
+    private boolean authorized(String token) {
+        return !adminToken.isBlank() && token != null && MessageDigest.isEqual(
+                adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ResponseEntity<Map<String, Object>> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("message", "접근 권한이 없습니다.", "status", 403));
+    }
+
+}
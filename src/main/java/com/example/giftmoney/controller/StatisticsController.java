@@ -1,12 +1,22 @@
 package com.example.giftmoney.controller;
 
 import com.example.giftmoney.dto.*;
+import com.example.giftmoney.service.NdjsonStreamService;
+import com.example.giftmoney.service.SingleFlight;
+import com.example.giftmoney.service.StatisticsCache;
 import com.example.giftmoney.service.StatisticsService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 
 @RestController
@@ -14,7 +24,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class StatisticsController {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final StatisticsService statisticsService;
+    private final StatisticsCache statisticsCache;
+    private final SingleFlight singleFlight;
+    private final NdjsonStreamService ndjsonStreamService;
 
     /**
      * 연도별 통계 조회
@@ -22,27 +37,60 @@ public class StatisticsController {
     @GetMapping("/yearly")
     public ResponseEntity<List<YearlyStatisticsDto>> getYearlyStatistics(
             @AuthenticationPrincipal Long userId) {
-        List<YearlyStatisticsDto> stats = statisticsService.getYearlyStatistics(userId);
+        List<YearlyStatisticsDto> stats = statisticsCache.get(userId, "yearly",
+                () -> statisticsService.getYearlyStatistics(userId));
         return ResponseEntity.ok(stats);
     }
 
     /**
-     * 인물별 통계 조회
+     * 인물별 통계 조회 (잔액 내림차순, 페이지)
      */
     @GetMapping("/person")
-    public ResponseEntity<List<PersonStatisticsDto>> getPersonStatistics(
-            @AuthenticationPrincipal Long userId) {
-        List<PersonStatisticsDto> stats = statisticsService.getPersonStatistics(userId);
+    public ResponseEntity<Page<PersonStatisticsDto>> getPersonStatistics(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        PageRequest pageRequest = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE),
+                Sort.by(Sort.Direction.DESC, "balance").and(Sort.by("id")));
+        Page<PersonStatisticsDto> stats = singleFlight.run(userId, Arrays.asList("person", page, size),
+                () -> statisticsService.getPersonStatistics(userId, pageRequest));
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * 인물별 통계 전체 NDJSON 스트리밍 (Accept: application/x-ndjson, 잔액 내림차순, 페이지 없음)
+     */
+    @GetMapping(value = "/person", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamPersonStatistics(
+            @AuthenticationPrincipal Long userId,
+            HttpServletResponse response) throws IOException {
+        ndjsonStreamService.writePersonStatistics(userId, response);
+    }
+
+    /**
+     * 인물별 거래 내역 조회 (최신순)
+     */
+    @GetMapping("/person/{id}/history")
+    public ResponseEntity<Page<GiftMoneyResponse>> getPersonHistory(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        PageRequest pageRequest = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE),
+                Sort.by(Sort.Direction.DESC, "eventDate"));
+        Page<GiftMoneyResponse> history = singleFlight.run(userId, Arrays.asList("person-history", id, page, size),
+                () -> statisticsService.getPersonHistory(userId, id, pageRequest));
+        return ResponseEntity.ok(history);
+    }
+
     /**
      * 행사 유형별 통계 조회
      */
     @GetMapping("/event-type")
     public ResponseEntity<List<EventTypeStatisticsDto>> getEventTypeStatistics(
             @AuthenticationPrincipal Long userId) {
-        List<EventTypeStatisticsDto> stats = statisticsService.getEventTypeStatistics(userId);
+        List<EventTypeStatisticsDto> stats = statisticsCache.get(userId, "event-type",
+                () -> statisticsService.getEventTypeStatistics(userId));
         return ResponseEntity.ok(stats);
     }
 
@@ -53,7 +101,8 @@ public class StatisticsController {
     public ResponseEntity<List<MonthlyStatisticsDto>> getMonthlyStatistics(
             @AuthenticationPrincipal Long userId,
             @RequestParam(defaultValue = "12") Integer months) {
-        List<MonthlyStatisticsDto> stats = statisticsService.getMonthlyStatistics(userId, months);
+        List<MonthlyStatisticsDto> stats = statisticsCache.get(userId, "monthly:" + months,
+                () -> statisticsService.getMonthlyStatistics(userId, months));
         return ResponseEntity.ok(stats);
     }
 
@@ -63,7 +112,8 @@ public class StatisticsController {
     @GetMapping("/relation")
     public ResponseEntity<List<RelationStatisticsDto>> getRelationStatistics(
             @AuthenticationPrincipal Long userId) {
-        List<RelationStatisticsDto> stats = statisticsService.getRelationStatistics(userId);
+        List<RelationStatisticsDto> stats = statisticsCache.get(userId, "relation",
+                () -> statisticsService.getRelationStatistics(userId));
         return ResponseEntity.ok(stats);
     }
 
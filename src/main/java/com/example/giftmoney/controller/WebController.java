@@ -1,11 +1,18 @@
 package com.example.giftmoney.controller;
 
+import com.example.giftmoney.service.PageFragmentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
 @Controller
+@RequiredArgsConstructor
 public class WebController {
 
+    private final PageFragmentService pageFragmentService;
+
     @GetMapping("/")
     public String home() {
         return "redirect:/login";
@@ -21,13 +28,18 @@ public class WebController {
         return "register";
     }
 
+    /**
+     * 페이지 토큰 쿠키가 있으면 첫 화면을 서버에서 렌더링 (view), 없으면 빈 화면을 스크립트가 채움
+     */
     @GetMapping("/dashboard")
-    public String dashboard() {
+    public String dashboard(@AuthenticationPrincipal Long userId, Model model) {
+        pageFragmentService.dashboard(userId).ifPresent(view -> model.addAttribute("view", view));
         return "dashboard";
     }
 
     @GetMapping("/statistics")
-    public String statistics() {
+    public String statistics(@AuthenticationPrincipal Long userId, Model model) {
+        pageFragmentService.statistics(userId).ifPresent(view -> model.addAttribute("view", view));
         return "statistics";
     }
 
@@ -0,0 +1,75 @@
+package com.example.giftmoney.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 탈퇴 후 데이터 삭제 작업 (진행 상황 체크포인트)
+ *
+ * users 행은 마지막 단계에서 삭제되므로 user_id는 FK 없이 값으로만 보관한다.
+ */
+@Entity
+@Table(name = "account_purges", indexes = {
+    @Index(name = "idx_account_purges_phase", columnList = "phase")
+})
+@Getter
+@Setter
+@EntityListeners(AuditingEntityListener.class)
+public class AccountPurge {
+
+    public enum Phase {
+        GIFT_MONEY,
+        COUNTERPARTIES,
+        DIMENSIONS,
+        CHANGE_LOG,
+        DATA_VERSION,
+        EMAIL_VERIFICATIONS,
+        USER,
+        COMPLETED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Phase phase = Phase.GIFT_MONEY;
+
+    @Column(nullable = false)
+    private Long deletedGiftMoney = 0L;
+
+    @Column(nullable = false)
+    private Long deletedVerifications = 0L;
+
+    // 다른 인스턴스가 같은 작업을 동시에 처리하지 않도록 하는 임대(lease) 만료 시각
+    private LocalDateTime lockedUntil;
+
+    private LocalDateTime lastCheckpointAt;
+
+    private LocalDateTime completedAt;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public static AccountPurge of(User user) {
+        AccountPurge purge = new AccountPurge();
+        purge.setUserId(user.getId());
+        purge.setEmail(user.getEmail());
+        purge.setPhase(Phase.GIFT_MONEY);
+        return purge;
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.example.giftmoney.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 상대방(인물) - 사용자별 (이름, 관계) 단위
+ *
+ * 받은/보낸 합계와 건수, 마지막 행사 정보는 gift_money 쓰기 시점에 원자적 UPDATE로 갱신한다.
+ * 인물별 통계는 이 테이블을 (user_id, balance) 인덱스로 페이지 조회한다.
+ */
+@Entity
+@Table(name = "counterparties", indexes = {
+    @Index(name = "idx_counterparties_user_balance", columnList = "user_id, balance DESC, id"),
+    @Index(name = "idx_counterparties_user_name", columnList = "user_id, name, relation_id")
+})
+@Getter
+@Setter
+@EntityListeners(AuditingEntityListener.class)
+public class Counterparty {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    // 관계 사전 키 (미지정이면 null)
+    @Column(name = "relation_id")
+    private Integer relationId;
+
+    @Column(nullable = false)
+    private long receivedTotal;
+
+    @Column(nullable = false)
+    private long receivedCount;
+
+    @Column(nullable = false)
+    private long sentTotal;
+
+    @Column(nullable = false)
+    private long sentCount;
+
+    // receivedTotal - sentTotal (정렬 인덱스용으로 함께 유지)
+    @Column(nullable = false)
+    private long balance;
+
+    private LocalDate lastEventDate;
+
+    // 마지막 행사 유형 사전 키
+    @Column(name = "last_event_type_id")
+    private Integer lastEventTypeId;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public static Counterparty of(Long userId, String name, Integer relationId) {
+        Counterparty counterparty = new Counterparty();
+        counterparty.setUserId(userId);
+        counterparty.setName(name);
+        counterparty.setRelationId(relationId);
+        return counterparty;
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.example.giftmoney.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 사용자 데이터 버전 (샤드 DB)
+ *
+ * gift_money 쓰기 트랜잭션마다 같은 트랜잭션에서 1 증가 → 커밋된 쓰기가 있으면 반드시 값이 바뀐다.
+ * 목록/통계 응답의 ETag와 변경 로그(GiftMoneyChange)의 seq로 사용 (DataVersionService).
+ */
+@Entity
+@Table(name = "data_versions")
+@Getter
+@Setter
+public class DataVersion {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    // 이 seq 이하의 변경 로그는 정리됨 → 이보다 이전 지점에서 동기화하는 클라이언트는 전체 다시 받기
+    @Column(name = "compacted_seq", nullable = false)
+    private Long compactedSeq;
+
+    public static DataVersion of(Long userId) {
+        DataVersion dataVersion = new DataVersion();
+        dataVersion.setUserId(userId);
+        dataVersion.setVersion(0L);
+        dataVersion.setCompactedSeq(0L);
+        return dataVersion;
+    }
+
+}
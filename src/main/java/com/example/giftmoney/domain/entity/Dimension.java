@@ -0,0 +1,50 @@
+package com.example.giftmoney.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 사용자별 차원 사전 (행사 유형, 관계)
+ *
+ * gift_money 행은 문자열 대신 작은 정수 키(event_type_id, relation_id)만 저장하고,
+ * 라벨은 이 테이블에서 한 번만 보관한다. 한 번 생성된 항목은 변경되지 않는다.
+ */
+@Entity
+@Table(name = "dimensions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_dimensions_user_kind_label", columnNames = {"user_id", "kind", "label"})
+})
+@Getter
+@Setter
+public class Dimension {
+
+    public enum Kind {
+        EVENT_TYPE,
+        RELATION
+    }
+
+    public static final int MAX_LABEL_LENGTH = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Kind kind;
+
+    @Column(nullable = false, length = MAX_LABEL_LENGTH)
+    private String label;
+
+    public static Dimension of(Long userId, Kind kind, String label) {
+        Dimension dimension = new Dimension();
+        dimension.setUserId(userId);
+        dimension.setKind(kind);
+        dimension.setLabel(label);
+        return dimension;
+    }
+
+}
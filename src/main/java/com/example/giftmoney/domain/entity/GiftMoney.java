@@ -1,22 +1,31 @@
 package com.example.giftmoney.domain.entity;
 
+import com.example.giftmoney.domain.value.Money;
+import com.example.giftmoney.domain.value.MoneyConverter;
+import com.example.giftmoney.domain.value.TransactionType;
+import com.example.giftmoney.domain.value.TransactionTypeConverter;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Check;
+import org.hibernate.annotations.PartitionKey;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "gift_money", indexes = {
     @Index(name = "idx_user_id", columnList = "user_id"),
+    @Index(name = "idx_gift_money_user_event_date", columnList = "user_id, event_date DESC, id DESC"),
+    @Index(name = "idx_gift_money_event_type", columnList = "user_id, event_type_id"),
+    @Index(name = "idx_gift_money_counterparty", columnList = "counterparty_id, event_date DESC"),
     @Index(name = "idx_event_date", columnList = "event_date"),
     @Index(name = "idx_name", columnList = "name")
 })
+@Check(name = "chk_gift_money_transaction_type", constraints = "transaction_type IN (0, 1)")
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
@@ -26,27 +35,40 @@ public class GiftMoney {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
-    private User user;
+    // 소유자 ID (users는 디렉터리 DB에 있으므로 연관관계 대신 ID만 보관)
+    // 파티션 키 - ⚡ 성능: Hibernate가 UPDATE/DELETE의 WHERE 절에 user_id를 함께 넣어 해시 파티션 하나만 접근
+    @PartitionKey
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
 
     @Column(nullable = false)
     private LocalDate eventDate;
 
-    @Column(nullable = false, length = 50)
-    private String eventType;
+    // 행사 유형 사전 키 (dimensions.id, 라벨은 DimensionDictionary로 변환)
+    @Column(name = "event_type_id", nullable = false)
+    private Integer eventTypeId;
 
-    @Column(nullable = false, length = 10)
-    private String transactionType = "RECEIVED";  // RECEIVED(받은 축의금) or SENT(보낸 축의금)
+    // SMALLINT 코드 (0 = RECEIVED, 1 = SENT)
+    // 받은/보낸 탭 목록은 V7의 부분 인덱스 (user_id, event_date) WHERE transaction_type = ? 사용
+    @Convert(converter = TransactionTypeConverter.class)
+    @Column(name = "transaction_type", nullable = false)
+    private TransactionType transactionType = TransactionType.RECEIVED;
 
     @Column(name = "name", nullable = false, length = 100)
     private String name;
 
-    @Column(name = "relation", length = 50)
-    private String relation;
+    // 관계 사전 키 (dimensions.id, 미지정이면 null)
+    @Column(name = "relation_id")
+    private Integer relationId;
 
-    @Column(nullable = false, precision = 10, scale = 0)
-    private BigDecimal amount;
+    // 상대방(인물) 키 - (이름, 관계)가 같은 항목은 같은 counterparties 행을 참조
+    @Column(name = "counterparty_id", nullable = false)
+    private Long counterpartyId;
+
+    // 원 단위 정수 금액 (BIGINT)
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false)
+    private Money amount;
 
     @Column(length = 50)
     private String contact;
@@ -0,0 +1,61 @@
+package com.example.giftmoney.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * gift_money 변경 로그 (샤드 DB, 추가 전용)
+ *
+ * seq는 쓰기 트랜잭션의 사용자 데이터 버전(DataVersion) → 사용자별로 단조 증가하고 커밋 순서와 같다.
+ * 한 트랜잭션의 변경(예: Excel 가져오기)은 같은 seq를 가진다.
+ * 내용은 저장하지 않고 ID만 기록 → 동기화 시 현재 행을 조회해 전달 (없으면 삭제)
+ *
+ * 키는 (user_id, seq, gift_money_id) - 샤드 이전 시 행을 그대로 복사해도 충돌하지 않음
+ */
+@Entity
+@Table(name = "gift_money_changes", indexes = {
+    @Index(name = "idx_gift_money_changes_changed_at", columnList = "changed_at"),
+    @Index(name = "idx_gift_money_changes_item", columnList = "user_id, gift_money_id, seq")
+})
+@IdClass(GiftMoneyChange.Key.class)
+@Getter
+@Setter
+public class GiftMoneyChange {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "seq")
+    private Long seq;
+
+    @Id
+    @Column(name = "gift_money_id")
+    private Long giftMoneyId;
+
+    // 기록 시점의 삭제 여부 (동기화 응답은 현재 행 존재 여부 기준)
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long seq;
+        private Long giftMoneyId;
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.example.giftmoney.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 → 샤드 디렉터리 (디렉터리 DB)
+ *
+ * 행이 없는 사용자는 샤드 0 (샤딩 도입 전 사용자).
+ * moving = true인 동안은 샤드 이전 중이므로 쓰기 요청을 받지 않는다.
+ */
+@Entity
+@Table(name = "shard_assignments")
+@Getter
+@Setter
+@EntityListeners(AuditingEntityListener.class)
+public class ShardAssignment {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private Integer shard;
+
+    @Column(nullable = false)
+    private Boolean moving = false;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    public static ShardAssignment of(Long userId, int shard) {
+        ShardAssignment assignment = new ShardAssignment();
+        assignment.setUserId(userId);
+        assignment.setShard(shard);
+        assignment.setMoving(false);
+        return assignment;
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.example.giftmoney.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 샤드 이전 작업 (진행 상황 체크포인트)
+ *
+ * FREEZE → COPY → SWITCH → CLEANUP → COMPLETED 순서로 진행하며,
+ * 단계 사이에는 디렉터리 캐시 TTL 이상 대기해 모든 인스턴스가 변경을 반영하도록 한다.
+ */
+@Entity
+@Table(name = "shard_moves", indexes = {
+    @Index(name = "idx_shard_moves_phase", columnList = "phase")
+})
+@Getter
+@Setter
+@EntityListeners(AuditingEntityListener.class)
+public class ShardMove {
+
+    public enum Phase {
+        FREEZE,     // 쓰기 차단 (moving = true)
+        COPY,       // 원본 샤드 → 대상 샤드 복사
+        SWITCH,     // 디렉터리의 샤드 변경
+        CLEANUP,    // 쓰기 재개 후 원본 샤드 데이터 삭제
+        COMPLETED,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Integer sourceShard;
+
+    @Column(nullable = false)
+    private Integer targetShard;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Phase phase = Phase.FREEZE;
+
+    @Column(nullable = false)
+    private Long copiedRows = 0L;
+
+    @Column(nullable = false)
+    private Long deletedRows = 0L;
+
+    // 이 시각 이후에 다음 단계 진행 (캐시 TTL 대기)
+    private LocalDateTime notBefore;
+
+    // 다른 인스턴스가 같은 작업을 동시에 처리하지 않도록 하는 임대(lease) 만료 시각
+    private LocalDateTime lockedUntil;
+
+    @Column(length = 500)
+    private String error;
+
+    private LocalDateTime completedAt;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public static ShardMove of(Long userId, int sourceShard, int targetShard) {
+        ShardMove move = new ShardMove();
+        move.setUserId(userId);
+        move.setSourceShard(sourceShard);
+        move.setTargetShard(targetShard);
+        move.setPhase(Phase.FREEZE);
+        return move;
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.example.giftmoney.domain.value;
+
+/**
+ * 차원 키(event_type_id, relation_id) → 라벨 변환
+ */
+@FunctionalInterface
+public interface DimensionLabels {
+
+    String label(Integer id);
+
+}
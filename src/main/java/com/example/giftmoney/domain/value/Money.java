@@ -0,0 +1,85 @@
+package com.example.giftmoney.domain.value;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * 원화 금액 값 객체 (long 기반)
+ *
+ * KRW는 소수 단위가 없으므로 BigDecimal 대신 long으로 표현한다.
+ * - 합계: Math.addExact로 오버플로 검사
+ * - 평균: 정수 나눗셈 (소수점 이하 버림)
+ * - JSON: 숫자 그대로 직렬화 (기존 API 응답 형식 유지)
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0L);
+
+    // 건당 최대 금액 (기존 NUMERIC(10,0) 범위) → 합계가 BIGINT/long 범위를 넘지 않도록 입력에서 제한
+    public static final long MAX_AMOUNT = 9_999_999_999L;
+
+    private final long amount;
+
+    private Money(long amount) {
+        this.amount = amount;
+    }
+
+    @JsonCreator
+    public static Money of(long amount) {
+        return amount == 0L ? ZERO : new Money(amount);
+    }
+
+    @JsonValue
+    public long toLong() {
+        return amount;
+    }
+
+    public Money plus(Money other) {
+        return of(Math.addExact(amount, other.amount));
+    }
+
+    public Money minus(Money other) {
+        return of(Math.subtractExact(amount, other.amount));
+    }
+
+    public boolean isPositive() {
+        return amount > 0L;
+    }
+
+    /**
+     * 오버플로 검사 합계 (통계 집계용 primitive 헬퍼)
+     */
+    public static long sum(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    /**
+     * 정수 나눗셈 평균 (건수가 0이면 0)
+     */
+    public static long average(long total, long count) {
+        return count == 0L ? 0L : total / count;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(amount, other.amount);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Money)) return false;
+        return amount == ((Money) o).amount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(amount);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(amount);
+    }
+
+}
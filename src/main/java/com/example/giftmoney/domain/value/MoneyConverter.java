@@ -0,0 +1,19 @@
+package com.example.giftmoney.domain.value;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.toLong();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(Long value) {
+        return value == null ? null : Money.of(value);
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.example.giftmoney.domain.value;
+
+/**
+ * 거래 유형 (받은/보낸 경조금)
+ *
+ * DB에는 SMALLINT 코드로 저장 (0 = RECEIVED, 1 = SENT).
+ * 코드 값은 부분 인덱스 조건과 통계 쿼리에서 그대로 사용하므로 변경하면 안 된다.
+ */
+public enum TransactionType {
+
+    RECEIVED((short) 0),  // 받은 경조금
+    SENT((short) 1);      // 보낸 경조금
+
+    private final short code;
+
+    TransactionType(short code) {
+        this.code = code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public static TransactionType fromCode(short code) {
+        for (TransactionType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 거래 유형 코드입니다: " + code);
+    }
+
+    /**
+     * API 문자열 값 변환 (RECEIVED / SENT)
+     */
+    public static TransactionType from(String value) {
+        for (TransactionType type : values()) {
+            if (type.name().equals(value)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("거래 유형은 RECEIVED 또는 SENT만 가능합니다");
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.example.giftmoney.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 대시보드 첫 화면 데이터 (사용자 정보 + 목록 첫 페이지 + 요약 통계)
+ */
+@Getter
+@Builder
+public class DashboardBootstrapResponse {
+
+    private UserResponse user;
+    private GiftMoneyListResponse list;
+    private GiftMoneyStatisticsResponse summary;
+
+}
@@ -0,0 +1,29 @@
+package com.example.giftmoney.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 증분 동기화 응답 (GET /api/gift-money/changes)
+ *
+ * 다음 요청에는 응답의 since/after를 그대로 전달한다.
+ * reset = true이면 전체 목록을 다시 받은 뒤 since부터 동기화한다.
+ */
+@Getter
+@Builder
+public class GiftMoneyChangesResponse {
+
+    private boolean reset;
+    private long since;
+    private Long after;
+    private boolean hasMore;
+
+    // 등록/수정된 행의 현재 값
+    private List<GiftMoneyResponse> upserts;
+
+    // 삭제된 행 ID (tombstone)
+    private List<Long> deleted;
+
+}
@@ -0,0 +1,28 @@
+package com.example.giftmoney.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경조금 목록 간단 응답 (GET /api/gift-money?fields=...)
+ *
+ * Page JSON의 pageable/sort 메타데이터 없이 목록과 다음 페이지 정보만 전달한다.
+ * - content: 요청한 필드만 포함 (id는 항상 포함)
+ * - nextCursor: 다음 페이지 요청에 cursor=로 전달 (hasNext가 false이면 없음)
+ * - total: total=true로 요청한 경우에만 포함 (COUNT 쿼리 추가)
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GiftMoneyListResponse {
+
+    private List<Map<String, Object>> content;
+    private boolean hasNext;
+    private String nextCursor;
+    private Long total;
+
+}
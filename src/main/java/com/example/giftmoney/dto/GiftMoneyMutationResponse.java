@@ -0,0 +1,20 @@
+package com.example.giftmoney.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 등록/수정/삭제 결과 + 요약 통계 변화량 (?summary=true)
+ *
+ * item은 삭제이면 null (응답에서 생략)
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GiftMoneyMutationResponse {
+
+    private GiftMoneyResponse item;
+    private GiftMoneySummaryDelta summaryDelta;
+
+}
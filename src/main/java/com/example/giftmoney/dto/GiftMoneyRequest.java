@@ -1,10 +1,10 @@
 package com.example.giftmoney.dto;
 
+import com.example.giftmoney.domain.value.Money;
 import jakarta.validation.constraints.*;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Getter
@@ -31,7 +31,8 @@ public class GiftMoneyRequest {
 
     @NotNull(message = "금액은 필수입니다")
     @Positive(message = "금액은 양수여야 합니다")
-    private BigDecimal amount;
+    @Max(value = Money.MAX_AMOUNT, message = "금액은 9,999,999,999원 이하여야 합니다")
+    private Long amount;
 
     @Pattern(regexp = "^$|^\\d{2,3}-\\d{3,4}-\\d{4}$", message = "올바른 전화번호 형식이 아닙니다")
     private String contact;
@@ -1,10 +1,11 @@
 package com.example.giftmoney.dto;
 
 import com.example.giftmoney.domain.entity.GiftMoney;
+import com.example.giftmoney.domain.value.DimensionLabels;
+import com.example.giftmoney.domain.value.Money;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -18,20 +19,22 @@ public class GiftMoneyResponse {
     private String transactionType;
     private String name;
     private String relation;
-    private BigDecimal amount;
+    private Long counterpartyId;
+    private Money amount;
     private String contact;
     private String memo;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    public static GiftMoneyResponse from(GiftMoney giftMoney) {
+    public static GiftMoneyResponse from(GiftMoney giftMoney, DimensionLabels labels) {
         return GiftMoneyResponse.builder()
                 .id(giftMoney.getId())
                 .eventDate(giftMoney.getEventDate())
-                .eventType(giftMoney.getEventType())
-                .transactionType(giftMoney.getTransactionType())
+                .eventType(labels.label(giftMoney.getEventTypeId()))
+                .transactionType(giftMoney.getTransactionType().name())
                 .name(giftMoney.getName())
-                .relation(giftMoney.getRelation())
+                .relation(labels.label(giftMoney.getRelationId()))
+                .counterpartyId(giftMoney.getCounterpartyId())
                 .amount(giftMoney.getAmount())
                 .contact(giftMoney.getContact())
                 .memo(giftMoney.getMemo())
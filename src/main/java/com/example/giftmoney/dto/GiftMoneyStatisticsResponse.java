@@ -5,8 +5,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.math.BigDecimal;
-
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,18 +12,18 @@ import java.math.BigDecimal;
 public class GiftMoneyStatisticsResponse {
 
     // 받은 축의금 통계
-    private BigDecimal receivedTotalAmount = BigDecimal.ZERO;
-    private Long receivedCount = 0L;
-    private Double receivedAvgAmount = 0.0;
+    private long receivedTotalAmount;
+    private long receivedCount;
+    private long receivedAvgAmount;
 
     // 보낸 축의금 통계
-    private BigDecimal sentTotalAmount = BigDecimal.ZERO;
-    private Long sentCount = 0L;
-    private Double sentAvgAmount = 0.0;
+    private long sentTotalAmount;
+    private long sentCount;
+    private long sentAvgAmount;
 
     // 전체 통계
-    private BigDecimal totalAmount = BigDecimal.ZERO;
-    private Long totalCount = 0L;
-    private Double avgAmount = 0.0;
+    private long totalAmount;
+    private long totalCount;
+    private long avgAmount;
 
 }
@@ -0,0 +1,44 @@
+package com.example.giftmoney.dto;
+
+import com.example.giftmoney.domain.value.Money;
+import com.example.giftmoney.domain.value.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 등록/수정/삭제로 바뀐 요약 통계의 합계/건수 변화량 (음수 가능)
+ *
+ * 필드 이름은 GiftMoneyStatisticsResponse와 같음 → 클라이언트가 표시 중인 요약에 더하고 평균/전체 값은 다시 계산
+ */
+@Getter
+@AllArgsConstructor
+public class GiftMoneySummaryDelta {
+
+    private long receivedTotalAmount;
+    private long receivedCount;
+    private long sentTotalAmount;
+    private long sentCount;
+
+    public static GiftMoneySummaryDelta added(TransactionType type, Money amount) {
+        return of(type, amount.toLong(), 1);
+    }
+
+    public static GiftMoneySummaryDelta removed(TransactionType type, Money amount) {
+        return of(type, -amount.toLong(), -1);
+    }
+
+    public GiftMoneySummaryDelta plus(GiftMoneySummaryDelta other) {
+        return new GiftMoneySummaryDelta(
+                receivedTotalAmount + other.receivedTotalAmount,
+                receivedCount + other.receivedCount,
+                sentTotalAmount + other.sentTotalAmount,
+                sentCount + other.sentCount);
+    }
+
+    private static GiftMoneySummaryDelta of(TransactionType type, long amount, long count) {
+        return type == TransactionType.RECEIVED
+                ? new GiftMoneySummaryDelta(amount, count, 0, 0)
+                : new GiftMoneySummaryDelta(0, 0, amount, count);
+    }
+
+}
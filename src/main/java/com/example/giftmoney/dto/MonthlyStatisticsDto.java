@@ -5,19 +5,17 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class MonthlyStatisticsDto {
 
-    private Integer year;
-    private Integer month;
-    private BigDecimal receivedTotal;
-    private Long receivedCount;
-    private BigDecimal sentTotal;
-    private Long sentCount;
+    private int year;
+    private int month;
+    private long receivedTotal;
+    private long receivedCount;
+    private long sentTotal;
+    private long sentCount;
 
 }
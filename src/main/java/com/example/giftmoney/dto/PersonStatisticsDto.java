@@ -5,7 +5,6 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Getter
@@ -14,13 +13,14 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class PersonStatisticsDto {
 
+    private Long id;  // 상대방(인물) ID - 거래 내역 조회 키
     private String name;
     private String relation;
-    private BigDecimal receivedTotal;
-    private Long receivedCount;
-    private BigDecimal sentTotal;
-    private Long sentCount;
-    private BigDecimal balance;
+    private long receivedTotal;
+    private long receivedCount;
+    private long sentTotal;
+    private long sentCount;
+    private long balance;
     private LocalDate lastEventDate;
     private String lastEventType;
 
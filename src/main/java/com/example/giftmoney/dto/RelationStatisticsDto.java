@@ -5,8 +5,6 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 @Getter
 @Builder
 @NoArgsConstructor
@@ -14,11 +12,11 @@ import java.math.BigDecimal;
 public class RelationStatisticsDto {
 
     private String relation;
-    private BigDecimal receivedTotal;
-    private Long receivedCount;
-    private BigDecimal sentTotal;
-    private Long sentCount;
-    private BigDecimal averageReceived;
-    private BigDecimal averageSent;
+    private long receivedTotal;
+    private long receivedCount;
+    private long sentTotal;
+    private long sentCount;
+    private long averageReceived;
+    private long averageSent;
 
 }
@@ -0,0 +1,19 @@
+package com.example.giftmoney.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ShardMoveRequest {
+
+    @NotNull(message = "사용자 ID는 필수입니다")
+    private Long userId;
+
+    @NotNull(message = "대상 샤드는 필수입니다")
+    @Min(value = 0, message = "대상 샤드는 0 이상이어야 합니다")
+    private Integer targetShard;
+
+}
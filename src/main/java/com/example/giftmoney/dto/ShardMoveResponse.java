@@ -0,0 +1,39 @@
+package com.example.giftmoney.dto;
+
+import com.example.giftmoney.domain.entity.ShardMove;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ShardMoveResponse {
+
+    private Long id;
+    private Long userId;
+    private Integer sourceShard;
+    private Integer targetShard;
+    private String phase;
+    private Long copiedRows;
+    private Long deletedRows;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    public static ShardMoveResponse from(ShardMove move) {
+        return ShardMoveResponse.builder()
+                .id(move.getId())
+                .userId(move.getUserId())
+                .sourceShard(move.getSourceShard())
+                .targetShard(move.getTargetShard())
+                .phase(move.getPhase().name())
+                .copiedRows(move.getCopiedRows())
+                .deletedRows(move.getDeletedRows())
+                .error(move.getError())
+                .createdAt(move.getCreatedAt())
+                .completedAt(move.getCompletedAt())
+                .build();
+    }
+
+}
@@ -5,19 +5,17 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class YearlyStatisticsDto {
 
-    private Integer year;
-    private BigDecimal receivedTotal;
-    private Long receivedCount;
-    private BigDecimal sentTotal;
-    private Long sentCount;
-    private BigDecimal difference;
+    private int year;
+    private long receivedTotal;
+    private long receivedCount;
+    private long sentTotal;
+    private long sentCount;
+    private long difference;
 
 }
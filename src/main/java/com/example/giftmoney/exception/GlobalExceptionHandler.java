@@ -2,6 +2,7 @@ package com.example.giftmoney.exception;
 
 import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -10,6 +11,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -38,6 +40,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    // 금액 합계 오버플로 (Money.sum 등 Math.addExact) - 서버 오류가 아닌 입력 범위 문제
+    @ExceptionHandler(ArithmeticException.class)
+    public ResponseEntity<ErrorResponse> handleArithmeticException(ArithmeticException ex) {
+        log.warn("ArithmeticException: {}", ex.getMessage());
+        ErrorResponse response = new ErrorResponse("금액 합계가 허용 범위를 넘었습니다");
+        return ResponseEntity.badRequest().body(response);
+    }
+
     @ExceptionHandler(JwtException.class)
     public ResponseEntity<ErrorResponse> handleJwtException(JwtException ex) {
         log.warn("JWT Exception: {}", ex.getMessage());
@@ -59,6 +69,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
     }
 
+    // 분석 풀의 문장 실행 시간 제한(app.analytics.statement-timeout) 초과
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleQueryTimeoutException(QueryTimeoutException ex) {
+        log.warn("Query timeout: {}", ex.getMessage());
+        ErrorResponse response = new ErrorResponse("조회 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
+    // 없는 정적 자원 (배포 전 HTML이 참조하는 이전 내용 해시 URL 등)
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNoResourceFoundException(NoResourceFoundException ex) {
+        log.debug("No static resource: {}", ex.getResourcePath());
+        ErrorResponse response = new ErrorResponse("요청한 자원을 찾을 수 없습니다.");
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException ex) {
         log.error("Runtime Exception occurred: {}", ex.getMessage(), ex);
@@ -0,0 +1,26 @@
+package com.example.giftmoney.repository;
+
+import com.example.giftmoney.domain.entity.AccountPurge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AccountPurgeRepository extends JpaRepository<AccountPurge, Long> {
+
+    @Query("SELECT p.id FROM AccountPurge p WHERE p.phase <> :completed " +
+           "AND (p.lockedUntil IS NULL OR p.lockedUntil < :now) ORDER BY p.id")
+    List<Long> findClaimableIds(@Param("completed") AccountPurge.Phase completed, @Param("now") LocalDateTime now);
+
+    // 조건부 UPDATE로 작업 임대 획득 (여러 인스턴스 중 하나만 성공)
+    @Modifying
+    @Query("UPDATE AccountPurge p SET p.lockedUntil = :until WHERE p.id = :id " +
+           "AND (p.lockedUntil IS NULL OR p.lockedUntil < :now)")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+}
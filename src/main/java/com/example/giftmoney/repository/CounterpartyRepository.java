@@ -0,0 +1,96 @@
+package com.example.giftmoney.repository;
+
+import com.example.giftmoney.domain.entity.Counterparty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface CounterpartyRepository extends JpaRepository<Counterparty, Long> {
+
+    // relationId가 null이면 relation_id IS NULL 조건으로 조회
+    Optional<Counterparty> findByUserIdAndNameAndRelationId(Long userId, String name, Integer relationId);
+
+    Optional<Counterparty> findByIdAndUserId(Long id, Long userId);
+
+    // 호출자 트랜잭션에서 생성 (이미 있거나 동시에 생성 중이면 무시 - uk_counterparties_user_name_relation)
+    @Modifying
+    @Query(value = "INSERT INTO counterparties (user_id, name, relation_id, received_total, received_count, " +
+           "sent_total, sent_count, balance, created_at) " +
+           "VALUES (:userId, :name, :relationId, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("name") String name, @Param("relationId") Integer relationId);
+
+    // ⚡ 성능: 인물별 통계 - 집계 없이 (user_id, balance) 인덱스 페이지 조회
+    @Query("SELECT c FROM Counterparty c WHERE c.userId = :userId AND (c.receivedCount + c.sentCount) > 0")
+    Page<Counterparty> findActiveByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // ========== 누적 합계 갱신 (행 잠금으로 동시 쓰기 직렬화) ==========
+
+    // 항목 추가: 합계/건수 증가, 더 최근 행사면 마지막 행사 정보 교체
+    @Modifying
+    @Query(value = "UPDATE counterparties SET " +
+           "received_total = received_total + :receivedTotal, " +
+           "received_count = received_count + :receivedCount, " +
+           "sent_total = sent_total + :sentTotal, " +
+           "sent_count = sent_count + :sentCount, " +
+           "balance = balance + :receivedTotal - :sentTotal, " +
+           "last_event_type_id = CASE WHEN last_event_date IS NULL OR last_event_date <= :eventDate " +
+           "    THEN :eventTypeId ELSE last_event_type_id END, " +
+           "last_event_date = CASE WHEN last_event_date IS NULL OR last_event_date <= :eventDate " +
+           "    THEN :eventDate ELSE last_event_date END " +
+           "WHERE id = :id",
+           nativeQuery = true)
+    int addEntries(@Param("id") Long id,
+                   @Param("receivedTotal") long receivedTotal, @Param("receivedCount") long receivedCount,
+                   @Param("sentTotal") long sentTotal, @Param("sentCount") long sentCount,
+                   @Param("eventDate") LocalDate eventDate, @Param("eventTypeId") Integer eventTypeId);
+
+    // 항목 제거: 합계/건수 감소 (마지막 행사 정보는 refreshLastEvent로 재계산)
+    @Modifying
+    @Query(value = "UPDATE counterparties SET " +
+           "received_total = received_total - :receivedTotal, " +
+           "received_count = received_count - :receivedCount, " +
+           "sent_total = sent_total - :sentTotal, " +
+           "sent_count = sent_count - :sentCount, " +
+           "balance = balance - :receivedTotal + :sentTotal " +
+           "WHERE id = :id",
+           nativeQuery = true)
+    int removeEntries(@Param("id") Long id,
+                      @Param("receivedTotal") long receivedTotal, @Param("receivedCount") long receivedCount,
+                      @Param("sentTotal") long sentTotal, @Param("sentCount") long sentCount);
+
+    // 마지막 행사 정보 재계산 (idx_gift_money_counterparty 인덱스로 해당 인물 행만 조회)
+    // gift_money 조회에 user_id 조건 포함 → 파티션 하나만 접근
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE counterparties SET " +
+           "last_event_date = (SELECT MAX(g.event_date) FROM gift_money g " +
+           "    WHERE g.user_id = :userId AND g.counterparty_id = :id), " +
+           "last_event_type_id = (SELECT g.event_type_id FROM gift_money g " +
+           "    WHERE g.user_id = :userId AND g.counterparty_id = :id " +
+           "    ORDER BY g.event_date DESC, g.id DESC LIMIT 1) " +
+           "WHERE id = :id",
+           nativeQuery = true)
+    int refreshLastEvent(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 남은 항목이 없는 인물 삭제
+    @Modifying
+    @Query(value = "DELETE FROM counterparties WHERE id = :id AND received_count = 0 AND sent_count = 0 " +
+           "AND NOT EXISTS (SELECT 1 FROM gift_money g WHERE g.user_id = :userId AND g.counterparty_id = :id)",
+           nativeQuery = true)
+    int deleteIfEmpty(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM counterparties WHERE id IN (" +
+           "SELECT id FROM counterparties WHERE user_id = :userId LIMIT :batchSize)",
+           nativeQuery = true)
+    int deleteBatchByUserId(@Param("userId") Long userId, @Param("batchSize") int batchSize);
+
+}
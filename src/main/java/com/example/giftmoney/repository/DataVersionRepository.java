@@ -0,0 +1,42 @@
+package com.example.giftmoney.repository;
+
+import com.example.giftmoney.domain.entity.DataVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface DataVersionRepository extends JpaRepository<DataVersion, Long> {
+
+    @Query("SELECT v.version FROM DataVersion v WHERE v.userId = :userId")
+    Optional<Long> findVersion(@Param("userId") Long userId);
+
+    @Query("SELECT v.compactedSeq FROM DataVersion v WHERE v.userId = :userId")
+    Optional<Long> findCompactedSeq(@Param("userId") Long userId);
+
+    // 원자적 증가 (조회 후 수정하지 않음 → 동시 쓰기에도 누락 없음), 행이 없으면 0
+    @Modifying
+    @Query(value = "UPDATE data_versions SET version = version + 1 WHERE user_id = :userId", nativeQuery = true)
+    int increment(@Param("userId") Long userId);
+
+    // 첫 쓰기: 호출자 트랜잭션에서 행 생성 (이미 있거나 동시에 생성 중이면 무시)
+    @Modifying
+    @Query(value = "INSERT INTO data_versions (user_id, version, compacted_seq) VALUES (:userId, 0, 0) " +
+                   "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE data_versions SET compacted_seq = GREATEST(compacted_seq, :seq) WHERE user_id = :userId",
+           nativeQuery = true)
+    int raiseCompactedSeq(@Param("userId") Long userId, @Param("seq") long seq);
+
+    @Modifying
+    @Query(value = "DELETE FROM data_versions WHERE user_id = :userId", nativeQuery = true)
+    int deleteByUserId(@Param("userId") Long userId);
+
+}
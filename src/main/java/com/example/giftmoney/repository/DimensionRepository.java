@@ -0,0 +1,30 @@
+package com.example.giftmoney.repository;
+
+import com.example.giftmoney.domain.entity.Dimension;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DimensionRepository extends JpaRepository<Dimension, Integer> {
+
+    List<Dimension> findByUserId(Long userId);
+
+    // 호출자 트랜잭션에서 생성 (이미 있거나 동시에 생성 중이면 무시 - 유니크 제약)
+    @Modifying
+    @Query(value = "INSERT INTO dimensions (user_id, kind, label) VALUES (:userId, :kind, :label) " +
+           "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("kind") String kind, @Param("label") String label);
+
+    @Modifying
+    @Query(value = "DELETE FROM dimensions WHERE id IN (" +
+           "SELECT id FROM dimensions WHERE user_id = :userId LIMIT :batchSize)",
+           nativeQuery = true)
+    int deleteBatchByUserId(@Param("userId") Long userId, @Param("batchSize") int batchSize);
+
+}
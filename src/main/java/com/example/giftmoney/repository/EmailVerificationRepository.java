@@ -2,6 +2,9 @@ package com.example.giftmoney.repository;
 
 import com.example.giftmoney.domain.entity.EmailVerification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -15,4 +18,10 @@ public interface EmailVerificationRepository extends JpaRepository<EmailVerifica
 
     Optional<EmailVerification> findTopByEmailOrderByCreatedAtDesc(String email);
 
+    @Modifying
+    @Query(value = "DELETE FROM email_verifications WHERE id IN (" +
+           "SELECT id FROM email_verifications WHERE email = :email LIMIT :batchSize)",
+           nativeQuery = true)
+    int deleteBatchByEmail(@Param("email") String email, @Param("batchSize") int batchSize);
+
 }
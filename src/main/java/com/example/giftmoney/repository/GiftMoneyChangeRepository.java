@@ -0,0 +1,88 @@
+package com.example.giftmoney.repository;
+
+import com.example.giftmoney.domain.entity.GiftMoneyChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GiftMoneyChangeRepository extends JpaRepository<GiftMoneyChange, GiftMoneyChange.Key> {
+
+    // 등록/수정된 행을 한 문장으로 기록 (Excel 가져오기도 ID 묶음당 INSERT 하나)
+    @Modifying
+    @Query(value = "INSERT INTO gift_money_changes (user_id, seq, gift_money_id, deleted, changed_at) " +
+                   "SELECT user_id, :seq, id, false, :changedAt FROM gift_money " +
+                   "WHERE user_id = :userId AND id IN (:ids)",
+           nativeQuery = true)
+    int insertUpserts(@Param("userId") Long userId,
+                      @Param("seq") long seq,
+                      @Param("ids") List<Long> ids,
+                      @Param("changedAt") LocalDateTime changedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO gift_money_changes (user_id, seq, gift_money_id, deleted, changed_at) " +
+                   "VALUES (:userId, :seq, :id, true, :changedAt)",
+           nativeQuery = true)
+    int insertDelete(@Param("userId") Long userId,
+                     @Param("seq") long seq,
+                     @Param("id") Long id,
+                     @Param("changedAt") LocalDateTime changedAt);
+
+    // 커서 (since, after) 이후 변경 - PK (user_id, seq, gift_money_id) 인덱스 범위 조회
+    // [0] gift_money_id, [1] seq
+    @Query(value = "SELECT gift_money_id, seq FROM gift_money_changes " +
+                   "WHERE user_id = :userId AND (seq > :since OR (seq = :since AND gift_money_id > :after)) " +
+                   "ORDER BY seq, gift_money_id LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> findChanges(@Param("userId") Long userId,
+                               @Param("since") long since,
+                               @Param("after") long after,
+                               @Param("limit") int limit);
+
+    // 정리할 로그가 있는 사용자: 보관 기간이 지났고 같은 항목의 더 최근 로그가 있는 행, 또는 오래된 삭제 표시
+    // 항목별 최신 로그만 남은 사용자는 다시 선택되지 않음 (idx_gift_money_changes_item)
+    @Query(value = "SELECT DISTINCT c.user_id FROM gift_money_changes c " +
+                   "WHERE c.changed_at < :cutoff AND ((c.deleted = true AND c.changed_at < :tombstoneCutoff) " +
+                   "OR EXISTS (SELECT 1 FROM gift_money_changes n WHERE n.user_id = c.user_id " +
+                   "AND n.gift_money_id = c.gift_money_id AND n.seq > c.seq)) LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findCompactable(@Param("cutoff") LocalDateTime cutoff,
+                               @Param("tombstoneCutoff") LocalDateTime tombstoneCutoff,
+                               @Param("limit") int limit);
+
+    // 보관 기간이 지난 로그를 항목별 최신 seq 하나로 합침 (그 항목의 더 최근 로그가 있으면 삭제)
+    // since 이후 변경을 받는 클라이언트는 남은 최신 로그로 같은 항목을 받으므로 증분 동기화 유지
+    @Modifying
+    @Query(value = "DELETE FROM gift_money_changes c WHERE c.user_id = :userId AND c.changed_at < :cutoff " +
+                   "AND EXISTS (SELECT 1 FROM gift_money_changes n WHERE n.user_id = c.user_id " +
+                   "AND n.gift_money_id = c.gift_money_id AND n.seq > c.seq)",
+           nativeQuery = true)
+    int deleteSuperseded(@Param("userId") Long userId, @Param("cutoff") LocalDateTime cutoff);
+
+    // 삭제 표시 보관 기간이 지난 것 중 가장 큰 seq
+    @Query(value = "SELECT MAX(seq) FROM gift_money_changes " +
+                   "WHERE user_id = :userId AND deleted = true AND changed_at < :tombstoneCutoff",
+           nativeQuery = true)
+    Optional<Long> findStaleTombstoneSeq(@Param("userId") Long userId,
+                                         @Param("tombstoneCutoff") LocalDateTime tombstoneCutoff);
+
+    @Modifying
+    @Query(value = "DELETE FROM gift_money_changes WHERE user_id = :userId AND deleted = true AND seq <= :seq",
+           nativeQuery = true)
+    int deleteTombstonesUpTo(@Param("userId") Long userId, @Param("seq") long seq);
+
+    // PK 단위로 batchSize행씩 삭제 (Excel 가져오기는 여러 행이 같은 seq이므로 seq로 자르면 한 번에 전부 삭제됨)
+    @Modifying
+    @Query(value = "DELETE FROM gift_money_changes WHERE user_id = :userId AND (seq, gift_money_id) IN (" +
+                   "SELECT seq, gift_money_id FROM gift_money_changes WHERE user_id = :userId " +
+                   "ORDER BY seq, gift_money_id LIMIT :batchSize)",
+           nativeQuery = true)
+    int deleteBatchByUserId(@Param("userId") Long userId, @Param("batchSize") int batchSize);
+
+}
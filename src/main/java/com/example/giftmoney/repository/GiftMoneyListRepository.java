@@ -0,0 +1,109 @@
+package com.example.giftmoney.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경조금 목록 조회 - 요청한 필드(fields=)만 SELECT 목록에 넣는 동적 네이티브 쿼리
+ *
+ * Spring Data 파생 쿼리는 항상 엔티티 전체(memo TEXT 포함)를 읽으므로 목록 화면용 조회만 따로 둔다.
+ * 컬럼 이름은 COLUMNS 화이트리스트에서만 가져옴 (사용자 입력을 SQL에 넣지 않음).
+ * 정렬은 (event_date DESC, id DESC) → idx_gift_money_user_event_date 인덱스 순서 그대로 읽음
+ */
+@Repository
+public class GiftMoneyListRepository {
+
+    // API 필드 이름 → 컬럼 (id, event_date는 커서 계산용으로 항상 조회)
+    public static final Map<String, String> COLUMNS = columns();
+
+    @PersistenceContext(unitName = "shard")
+    private EntityManager entityManager;
+
+    /**
+     * @param columns   COLUMNS의 값 중 추가로 조회할 컬럼
+     * @param afterDate 커서 (이 행 다음부터), null이면 offset 사용
+     * @return [0] id, [1] event_date, [2..] columns 순서
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object[]> find(Long userId, List<String> columns, Short transactionType, String search,
+                               LocalDate afterDate, Long afterId, long offset, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT g.id, g.event_date");
+        for (String column : columns) {
+            sql.append(", g.").append(column);
+        }
+        sql.append(" FROM gift_money g");
+        Map<String, Object> params = new LinkedHashMap<>();
+        appendWhere(sql, params, userId, transactionType, search);
+        if (afterDate != null) {
+            sql.append(" AND (g.event_date < :afterDate OR (g.event_date = :afterDate AND g.id < :afterId))");
+            params.put("afterDate", afterDate);
+            params.put("afterId", afterId);
+        }
+        sql.append(" ORDER BY g.event_date DESC, g.id DESC LIMIT :limit");
+        params.put("limit", limit);
+        if (afterDate == null && offset > 0) {
+            sql.append(" OFFSET :offset");
+            params.put("offset", offset);
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+        return (List<Object[]>) query.getResultList();
+    }
+
+    public long count(Long userId, Short transactionType, String search) {
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM gift_money g");
+        Map<String, Object> params = new LinkedHashMap<>();
+        appendWhere(sql, params, userId, transactionType, search);
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    private static void appendWhere(StringBuilder sql, Map<String, Object> params,
+                                    Long userId, Short transactionType, String search) {
+        sql.append(" WHERE g.user_id = :userId");
+        params.put("userId", userId);
+        if (transactionType != null) {
+            sql.append(" AND g.transaction_type = :transactionType");
+            params.put("transactionType", transactionType);
+        }
+        if (search != null) {
+            sql.append(" AND g.name LIKE :search ESCAPE '\\'");
+            params.put("search", likePattern(search));
+        }
+    }
+
+    /**
+     * 부분 일치 LIKE 패턴 (ESCAPE '\\')
+     * LIKE 특수문자는 그대로 검색 - 목록/NDJSON/reactive 목록이 모두 이 패턴을 사용해 같은 결과를 반환
+     */
+    public static String likePattern(String search) {
+        return "%" + search.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    private static Map<String, String> columns() {
+        Map<String, String> columns = new LinkedHashMap<>();
+        columns.put("eventType", "event_type_id");
+        columns.put("transactionType", "transaction_type");
+        columns.put("name", "name");
+        columns.put("relation", "relation_id");
+        columns.put("counterpartyId", "counterparty_id");
+        columns.put("amount", "amount");
+        columns.put("contact", "contact");
+        columns.put("memo", "memo");
+        columns.put("createdAt", "created_at");
+        columns.put("updatedAt", "updated_at");
+        return Collections.unmodifiableMap(columns);
+    }
+
+}
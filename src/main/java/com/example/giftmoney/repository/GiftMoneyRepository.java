@@ -1,166 +1,148 @@
 package com.example.giftmoney.repository;
 
 import com.example.giftmoney.domain.entity.GiftMoney;
-import com.example.giftmoney.dto.*;
+import com.example.giftmoney.domain.value.TransactionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface GiftMoneyRepository extends JpaRepository<GiftMoney, Long> {
 
-    // ⚡ 성능: JOIN FETCH로 N+1 쿼리 문제 해결
-    @Query("SELECT g FROM GiftMoney g JOIN FETCH g.user WHERE g.user.id = :userId")
+    // users는 디렉터리 DB에 있으므로 user_id 컬럼으로만 조회 (조인 없음)
+    @Query("SELECT g FROM GiftMoney g WHERE g.userId = :userId")
     Page<GiftMoney> findByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    @Query("SELECT g FROM GiftMoney g JOIN FETCH g.user WHERE g.user.id = :userId AND g.name LIKE %:name%")
+    // name: GiftMoneyListRepository.likePattern으로 만든 패턴 (LIKE 특수문자는 그대로 검색)
+    @Query("SELECT g FROM GiftMoney g WHERE g.userId = :userId AND g.name LIKE :name ESCAPE '\\'")
     Page<GiftMoney> findByUserIdAndNameContaining(@Param("userId") Long userId, @Param("name") String name, Pageable pageable);
 
-    // transactionType 필터링 추가 (JOIN FETCH 포함)
-    @Query("SELECT g FROM GiftMoney g JOIN FETCH g.user WHERE g.user.id = :userId AND g.transactionType = :transactionType")
-    Page<GiftMoney> findByUserIdAndTransactionType(@Param("userId") Long userId, @Param("transactionType") String transactionType, Pageable pageable);
+    // transactionType 필터링 추가
+    // ⚡ 성능: 받은/보낸 탭 목록은 부분 인덱스 (user_id, event_date DESC) WHERE transaction_type = 0/1 범위 스캔
+    @Query("SELECT g FROM GiftMoney g WHERE g.userId = :userId AND g.transactionType = :transactionType")
+    Page<GiftMoney> findByUserIdAndTransactionType(@Param("userId") Long userId, @Param("transactionType") TransactionType transactionType, Pageable pageable);
 
-    @Query("SELECT g FROM GiftMoney g JOIN FETCH g.user WHERE g.user.id = :userId AND g.transactionType = :transactionType AND g.name LIKE %:name%")
+    @Query("SELECT g FROM GiftMoney g WHERE g.userId = :userId AND g.transactionType = :transactionType AND g.name LIKE :name ESCAPE '\\'")
     Page<GiftMoney> findByUserIdAndTransactionTypeAndNameContaining(
-        @Param("userId") Long userId, @Param("transactionType") String transactionType, @Param("name") String name, Pageable pageable);
+        @Param("userId") Long userId, @Param("transactionType") TransactionType transactionType, @Param("name") String name, Pageable pageable);
 
     Optional<GiftMoney> findByIdAndUserId(Long id, Long userId);
 
-    List<GiftMoney> findByUserIdAndEventDateBetween(Long userId, LocalDate start, LocalDate end);
-
-    @Query("SELECT SUM(g.amount) FROM GiftMoney g WHERE g.user.id = :userId")
-    BigDecimal getTotalAmountByUserId(@Param("userId") Long userId);
+    List<GiftMoney> findByUserIdAndIdIn(Long userId, Collection<Long> ids);
 
-    @Query("SELECT COUNT(g) FROM GiftMoney g WHERE g.user.id = :userId")
-    long countByUserId(@Param("userId") Long userId);
+    // 인물별 거래 내역 (idx_gift_money_counterparty 인덱스, user_id 조건으로 파티션 하나만 조회)
+    Page<GiftMoney> findByCounterpartyIdAndUserId(Long counterpartyId, Long userId, Pageable pageable);
 
-    @Query("SELECT AVG(g.amount) FROM GiftMoney g WHERE g.user.id = :userId")
-    Double getAverageAmountByUserId(@Param("userId") Long userId);
+    List<GiftMoney> findByUserIdAndEventDateBetween(Long userId, LocalDate start, LocalDate end);
 
-    // transactionType별 통계 쿼리 추가
-    @Query("SELECT SUM(g.amount) FROM GiftMoney g WHERE g.user.id = :userId AND g.transactionType = :transactionType")
-    BigDecimal getTotalAmountByUserIdAndTransactionType(@Param("userId") Long userId, @Param("transactionType") String transactionType);
+    @Query("SELECT COUNT(g) FROM GiftMoney g WHERE g.userId = :userId")
+    long countByUserId(@Param("userId") Long userId);
 
-    @Query("SELECT COUNT(g) FROM GiftMoney g WHERE g.user.id = :userId AND g.transactionType = :transactionType")
-    long countByUserIdAndTransactionType(@Param("userId") Long userId, @Param("transactionType") String transactionType);
+    @Query("SELECT COUNT(g) FROM GiftMoney g WHERE g.userId = :userId AND g.transactionType = :transactionType")
+    long countByUserIdAndTransactionType(@Param("userId") Long userId, @Param("transactionType") TransactionType transactionType);
 
     // ⚡ 성능: 단일 쿼리로 모든 통계 조회 (6개 쿼리 → 1개 쿼리)
-    @Query(value = "SELECT " +
-           "COALESCE(SUM(CASE WHEN transaction_type = 'RECEIVED' THEN amount ELSE 0 END), 0) as receivedTotal, " +
-           "COALESCE(COUNT(CASE WHEN transaction_type = 'RECEIVED' THEN 1 END), 0) as receivedCount, " +
-           "COALESCE(AVG(CASE WHEN transaction_type = 'RECEIVED' THEN amount END), 0.0) as receivedAvg, " +
-           "COALESCE(SUM(CASE WHEN transaction_type = 'SENT' THEN amount ELSE 0 END), 0) as sentTotal, " +
-           "COALESCE(COUNT(CASE WHEN transaction_type = 'SENT' THEN 1 END), 0) as sentCount, " +
-           "COALESCE(AVG(CASE WHEN transaction_type = 'SENT' THEN amount END), 0.0) as sentAvg, " +
-           "COALESCE(SUM(amount), 0) as total, " +
-           "COALESCE(COUNT(*), 0) as totalCount, " +
-           "COALESCE(AVG(amount), 0.0) as avgAmount " +
-           "FROM gift_money WHERE user_id = :userId",
-           nativeQuery = true)
+    // transaction_type은 SMALLINT 코드 (0 = RECEIVED, 1 = SENT) → 행마다 문자열 비교 대신 정수 비교
+    // 금액 합계는 BIGINT로 CAST (PostgreSQL의 SUM(bigint)는 numeric → BigDecimal 할당 방지)
+    // 전체 합계/건수/평균은 서비스에서 정수 연산으로 계산
+    String STATISTICS_SQL = "SELECT " +
+            "CAST(COALESCE(SUM(CASE WHEN transaction_type = 0 THEN amount ELSE 0 END), 0) AS BIGINT) as receivedTotal, " +
+            "COUNT(CASE WHEN transaction_type = 0 THEN 1 END) as receivedCount, " +
+            "CAST(COALESCE(SUM(CASE WHEN transaction_type = 1 THEN amount ELSE 0 END), 0) AS BIGINT) as sentTotal, " +
+            "COUNT(CASE WHEN transaction_type = 1 THEN 1 END) as sentCount " +
+            "FROM gift_money WHERE user_id = :userId";
+
+    @Query(value = STATISTICS_SQL, nativeQuery = true)
     List<Object[]> getStatisticsRaw(@Param("userId") Long userId);
 
     // ========== 통계 전용 쿼리 메서드 ==========
+    // 금액은 모두 BIGINT, 평균/차액은 StatisticsService에서 long 연산으로 계산
+    // SQL은 Reactive 읽기 API(ReactiveStatisticsService)와 공유
 
     // 연도별 통계
-    @Query("SELECT new com.example.giftmoney.dto.YearlyStatisticsDto(" +
-           "YEAR(g.eventDate), " +
-           "COALESCE(SUM(CASE WHEN g.transactionType = 'RECEIVED' THEN g.amount ELSE 0 END), 0), " +
-           "COALESCE(SUM(CASE WHEN g.transactionType = 'RECEIVED' THEN 1L ELSE 0L END), 0L), " +
-           "COALESCE(SUM(CASE WHEN g.transactionType = 'SENT' THEN g.amount ELSE 0 END), 0), " +
-           "COALESCE(SUM(CASE WHEN g.transactionType = 'SENT' THEN 1L ELSE 0L END), 0L), " +
-           "COALESCE(SUM(CASE WHEN g.transactionType = 'RECEIVED' THEN g.amount ELSE 0 END), 0) - " +
-           "COALESCE(SUM(CASE WHEN g.transactionType = 'SENT' THEN g.amount ELSE 0 END), 0)) " +
-           "FROM GiftMoney g " +
-           "WHERE g.user.id = :userId " +
-           "GROUP BY YEAR(g.eventDate) " +
-           "ORDER BY YEAR(g.eventDate) DESC")
-    List<YearlyStatisticsDto> getYearlyStatistics(@Param("userId") Long userId);
-
-    // 인물별 통계 (Native Query - 서브쿼리 필요)
-    @Query(value = "SELECT " +
-           "g.name as name, " +
-           "g.relation as relation, " +
-           "COALESCE(SUM(CASE WHEN g.transaction_type = 'RECEIVED' THEN g.amount ELSE 0 END), 0) as receivedTotal, " +
-           "COALESCE(SUM(CASE WHEN g.transaction_type = 'RECEIVED' THEN 1 ELSE 0 END), 0) as receivedCount, " +
-           "COALESCE(SUM(CASE WHEN g.transaction_type = 'SENT' THEN g.amount ELSE 0 END), 0) as sentTotal, " +
-           "COALESCE(SUM(CASE WHEN g.transaction_type = 'SENT' THEN 1 ELSE 0 END), 0) as sentCount, " +
-           "COALESCE(SUM(CASE WHEN g.transaction_type = 'RECEIVED' THEN g.amount ELSE 0 END), 0) - " +
-           "COALESCE(SUM(CASE WHEN g.transaction_type = 'SENT' THEN g.amount ELSE 0 END), 0) as balance, " +
-           "MAX(g.event_date) as lastEventDate, " +
-           "(SELECT g2.event_type FROM gift_money g2 " +
-           " WHERE g2.name = g.name AND g2.user_id = :userId " +
-           " ORDER BY g2.event_date DESC LIMIT 1) as lastEventType " +
-           "FROM gift_money g " +
-           "WHERE g.user_id = :userId " +
-           "GROUP BY g.name, g.relation " +
-           "ORDER BY (COALESCE(SUM(CASE WHEN g.transaction_type = 'RECEIVED' THEN g.amount ELSE 0 END), 0) - " +
-           "         COALESCE(SUM(CASE WHEN g.transaction_type = 'SENT' THEN g.amount ELSE 0 END), 0)) DESC",
-           nativeQuery = true)
-    List<Object[]> getPersonStatisticsRaw(@Param("userId") Long userId);
-
-    // 행사 유형별 통계
-    @Query(value = "SELECT " +
-           "g.event_type as eventType, " +
-           "COALESCE(SUM(CASE WHEN g.transaction_type = 'RECEIVED' THEN g.amount ELSE 0 END), 0) as receivedTotal, " +
-           "COALESCE(SUM(CASE WHEN g.transaction_type = 'RECEIVED' THEN 1 ELSE 0 END), 0) as receivedCount, " +
-           "COALESCE(SUM(CASE WHEN g.transaction_type = 'SENT' THEN g.amount ELSE 0 END), 0) as sentTotal, " +
-           "COALESCE(SUM(CASE WHEN g.transaction_type = 'SENT' THEN 1 ELSE 0 END), 0) as sentCount, " +
-           "CASE WHEN SUM(CASE WHEN g.transaction_type = 'RECEIVED' THEN 1 ELSE 0 END) > 0 " +
-           " THEN COALESCE(SUM(CASE WHEN g.transaction_type = 'RECEIVED' THEN g.amount ELSE 0 END), 0) / " +
-           "      SUM(CASE WHEN g.transaction_type = 'RECEIVED' THEN 1 ELSE 0 END) ELSE 0 END as averageReceived, " +
-           "CASE WHEN SUM(CASE WHEN g.transaction_type = 'SENT' THEN 1 ELSE 0 END) > 0 " +
-           " THEN COALESCE(SUM(CASE WHEN g.transaction_type = 'SENT' THEN g.amount ELSE 0 END), 0) / " +
-           "      SUM(CASE WHEN g.transaction_type = 'SENT' THEN 1 ELSE 0 END) ELSE 0 END as averageSent " +
-           "FROM gift_money g " +
-           "WHERE g.user_id = :userId " +
-           "GROUP BY g.event_type " +
-           "ORDER BY (COALESCE(SUM(CASE WHEN g.transaction_type = 'RECEIVED' THEN g.amount ELSE 0 END), 0) + " +
-           "         COALESCE(SUM(CASE WHEN g.transaction_type = 'SENT' THEN g.amount ELSE 0 END), 0)) DESC",
-           nativeQuery = true)
+    String YEARLY_STATISTICS_SQL = "SELECT " +
+            "CAST(EXTRACT(YEAR FROM g.event_date) AS INTEGER) as eventYear, " +
+            "CAST(COALESCE(SUM(CASE WHEN g.transaction_type = 0 THEN g.amount ELSE 0 END), 0) AS BIGINT) as receivedTotal, " +
+            "COALESCE(SUM(CASE WHEN g.transaction_type = 0 THEN 1 ELSE 0 END), 0) as receivedCount, " +
+            "CAST(COALESCE(SUM(CASE WHEN g.transaction_type = 1 THEN g.amount ELSE 0 END), 0) AS BIGINT) as sentTotal, " +
+            "COALESCE(SUM(CASE WHEN g.transaction_type = 1 THEN 1 ELSE 0 END), 0) as sentCount " +
+            "FROM gift_money g " +
+            "WHERE g.user_id = :userId " +
+            "GROUP BY CAST(EXTRACT(YEAR FROM g.event_date) AS INTEGER) " +
+            "ORDER BY CAST(EXTRACT(YEAR FROM g.event_date) AS INTEGER) DESC";
+
+    @Query(value = YEARLY_STATISTICS_SQL, nativeQuery = true)
+    List<Object[]> getYearlyStatisticsRaw(@Param("userId") Long userId);
+
+    // 행사 유형별 통계 (정수 키로 집계 후 라벨 조인)
+    String EVENT_TYPE_STATISTICS_SQL = "SELECT " +
+            "d.label as eventType, " +
+            "s.receivedTotal, s.receivedCount, s.sentTotal, s.sentCount " +
+            "FROM (SELECT g.event_type_id as dim_id, " +
+            "CAST(COALESCE(SUM(CASE WHEN g.transaction_type = 0 THEN g.amount ELSE 0 END), 0) AS BIGINT) as receivedTotal, " +
+            "COALESCE(SUM(CASE WHEN g.transaction_type = 0 THEN 1 ELSE 0 END), 0) as receivedCount, " +
+            "CAST(COALESCE(SUM(CASE WHEN g.transaction_type = 1 THEN g.amount ELSE 0 END), 0) AS BIGINT) as sentTotal, " +
+            "COALESCE(SUM(CASE WHEN g.transaction_type = 1 THEN 1 ELSE 0 END), 0) as sentCount " +
+            "FROM gift_money g " +
+            "WHERE g.user_id = :userId " +
+            "GROUP BY g.event_type_id) s " +
+            "JOIN dimensions d ON d.id = s.dim_id " +
+            "ORDER BY (s.receivedTotal + s.sentTotal) DESC";
+
+    @Query(value = EVENT_TYPE_STATISTICS_SQL, nativeQuery = true)
     List<Object[]> getEventTypeStatisticsRaw(@Param("userId") Long userId);
 
     // 월별 통계 (최근 N개월)
-    @Query("SELECT new com.example.giftmoney.dto.MonthlyStatisticsDto(" +
-           "YEAR(g.eventDate), " +
-           "MONTH(g.eventDate), " +
-           "COALESCE(SUM(CASE WHEN g.transactionType = 'RECEIVED' THEN g.amount ELSE 0 END), 0), " +
-           "COALESCE(SUM(CASE WHEN g.transactionType = 'RECEIVED' THEN 1L ELSE 0L END), 0L), " +
-           "COALESCE(SUM(CASE WHEN g.transactionType = 'SENT' THEN g.amount ELSE 0 END), 0), " +
-           "COALESCE(SUM(CASE WHEN g.transactionType = 'SENT' THEN 1L ELSE 0L END), 0L)) " +
-           "FROM GiftMoney g " +
-           "WHERE g.user.id = :userId " +
-           "AND g.eventDate >= :startDate " +
-           "GROUP BY YEAR(g.eventDate), MONTH(g.eventDate) " +
-           "ORDER BY YEAR(g.eventDate) DESC, MONTH(g.eventDate) DESC")
-    List<MonthlyStatisticsDto> getMonthlyStatistics(@Param("userId") Long userId, @Param("startDate") LocalDate startDate);
-
-    // 관계별 통계
-    @Query(value = "SELECT " +
-           "COALESCE(g.relation, '미지정') as relation, " +
-           "COALESCE(SUM(CASE WHEN g.transaction_type = 'RECEIVED' THEN g.amount ELSE 0 END), 0) as receivedTotal, " +
-           "COALESCE(SUM(CASE WHEN g.transaction_type = 'RECEIVED' THEN 1 ELSE 0 END), 0) as receivedCount, " +
-           "COALESCE(SUM(CASE WHEN g.transaction_type = 'SENT' THEN g.amount ELSE 0 END), 0) as sentTotal, " +
-           "COALESCE(SUM(CASE WHEN g.transaction_type = 'SENT' THEN 1 ELSE 0 END), 0) as sentCount, " +
-           "CASE WHEN SUM(CASE WHEN g.transaction_type = 'RECEIVED' THEN 1 ELSE 0 END) > 0 " +
-           " THEN COALESCE(SUM(CASE WHEN g.transaction_type = 'RECEIVED' THEN g.amount ELSE 0 END), 0) / " +
-           "      SUM(CASE WHEN g.transaction_type = 'RECEIVED' THEN 1 ELSE 0 END) ELSE 0 END as averageReceived, " +
-           "CASE WHEN SUM(CASE WHEN g.transaction_type = 'SENT' THEN 1 ELSE 0 END) > 0 " +
-           " THEN COALESCE(SUM(CASE WHEN g.transaction_type = 'SENT' THEN g.amount ELSE 0 END), 0) / " +
-           "      SUM(CASE WHEN g.transaction_type = 'SENT' THEN 1 ELSE 0 END) ELSE 0 END as averageSent " +
-           "FROM gift_money g " +
-           "WHERE g.user_id = :userId " +
-           "GROUP BY COALESCE(g.relation, '미지정') " +
-           "ORDER BY (COALESCE(SUM(CASE WHEN g.transaction_type = 'RECEIVED' THEN g.amount ELSE 0 END), 0) + " +
-           "         COALESCE(SUM(CASE WHEN g.transaction_type = 'SENT' THEN g.amount ELSE 0 END), 0)) DESC",
-           nativeQuery = true)
+    String MONTHLY_STATISTICS_SQL = "SELECT " +
+            "CAST(EXTRACT(YEAR FROM g.event_date) AS INTEGER) as eventYear, " +
+            "CAST(EXTRACT(MONTH FROM g.event_date) AS INTEGER) as eventMonth, " +
+            "CAST(COALESCE(SUM(CASE WHEN g.transaction_type = 0 THEN g.amount ELSE 0 END), 0) AS BIGINT) as receivedTotal, " +
+            "COALESCE(SUM(CASE WHEN g.transaction_type = 0 THEN 1 ELSE 0 END), 0) as receivedCount, " +
+            "CAST(COALESCE(SUM(CASE WHEN g.transaction_type = 1 THEN g.amount ELSE 0 END), 0) AS BIGINT) as sentTotal, " +
+            "COALESCE(SUM(CASE WHEN g.transaction_type = 1 THEN 1 ELSE 0 END), 0) as sentCount " +
+            "FROM gift_money g " +
+            "WHERE g.user_id = :userId " +
+            "AND g.event_date >= :startDate " +
+            "GROUP BY CAST(EXTRACT(YEAR FROM g.event_date) AS INTEGER), CAST(EXTRACT(MONTH FROM g.event_date) AS INTEGER) " +
+            "ORDER BY CAST(EXTRACT(YEAR FROM g.event_date) AS INTEGER) DESC, CAST(EXTRACT(MONTH FROM g.event_date) AS INTEGER) DESC";
+
+    @Query(value = MONTHLY_STATISTICS_SQL, nativeQuery = true)
+    List<Object[]> getMonthlyStatisticsRaw(@Param("userId") Long userId, @Param("startDate") LocalDate startDate);
+
+    // 관계별 통계 (정수 키로 집계 후 라벨 조인, 미지정은 NULL 키 하나로 묶임)
+    String RELATION_STATISTICS_SQL = "SELECT " +
+            "COALESCE(d.label, '미지정') as relation, " +
+            "s.receivedTotal, s.receivedCount, s.sentTotal, s.sentCount " +
+            "FROM (SELECT g.relation_id as dim_id, " +
+            "CAST(COALESCE(SUM(CASE WHEN g.transaction_type = 0 THEN g.amount ELSE 0 END), 0) AS BIGINT) as receivedTotal, " +
+            "COALESCE(SUM(CASE WHEN g.transaction_type = 0 THEN 1 ELSE 0 END), 0) as receivedCount, " +
+            "CAST(COALESCE(SUM(CASE WHEN g.transaction_type = 1 THEN g.amount ELSE 0 END), 0) AS BIGINT) as sentTotal, " +
+            "COALESCE(SUM(CASE WHEN g.transaction_type = 1 THEN 1 ELSE 0 END), 0) as sentCount " +
+            "FROM gift_money g " +
+            "WHERE g.user_id = :userId " +
+            "GROUP BY g.relation_id) s " +
+            "LEFT JOIN dimensions d ON d.id = s.dim_id " +
+            "ORDER BY (s.receivedTotal + s.sentTotal) DESC";
+
+    @Query(value = RELATION_STATISTICS_SQL, nativeQuery = true)
     List<Object[]> getRelationStatisticsRaw(@Param("userId") Long userId);
 
+    // ========== 회원 탈퇴 데이터 삭제 ==========
+
+    // 한 번에 최대 batchSize건만 삭제 (엔티티 로딩 없이, 짧은 트랜잭션 단위로 반복 호출)
+    @Modifying
+    @Query(value = "DELETE FROM gift_money WHERE user_id = :userId AND id IN (" +
+           "SELECT id FROM gift_money WHERE user_id = :userId LIMIT :batchSize)",
+           nativeQuery = true)
+    int deleteBatchByUserId(@Param("userId") Long userId, @Param("batchSize") int batchSize);
+
 }
@@ -0,0 +1,9 @@
+package com.example.giftmoney.repository;
+
+import com.example.giftmoney.domain.entity.ShardAssignment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ShardAssignmentRepository extends JpaRepository<ShardAssignment, Long> {
+}
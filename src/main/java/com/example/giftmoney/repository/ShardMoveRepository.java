@@ -0,0 +1,30 @@
+package com.example.giftmoney.repository;
+
+import com.example.giftmoney.domain.entity.ShardMove;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ShardMoveRepository extends JpaRepository<ShardMove, Long> {
+
+    @Query("SELECT m.id FROM ShardMove m WHERE m.phase NOT IN :finished " +
+           "AND (m.notBefore IS NULL OR m.notBefore < :now) " +
+           "AND (m.lockedUntil IS NULL OR m.lockedUntil < :now) ORDER BY m.id")
+    List<Long> findClaimableIds(@Param("finished") Collection<ShardMove.Phase> finished, @Param("now") LocalDateTime now);
+
+    boolean existsByUserIdAndPhaseNotIn(Long userId, Collection<ShardMove.Phase> phases);
+
+    // 조건부 UPDATE로 작업 임대 획득 (여러 인스턴스 중 하나만 성공)
+    @Modifying
+    @Query("UPDATE ShardMove m SET m.lockedUntil = :until WHERE m.id = :id " +
+           "AND (m.lockedUntil IS NULL OR m.lockedUntil < :now)")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+}
@@ -1,7 +1,13 @@
 package com.example.giftmoney.security;
 
+import com.example.giftmoney.config.AppMetrics;
+import com.example.giftmoney.config.ShardContext;
+import com.example.giftmoney.service.ShardDirectory;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -13,12 +19,25 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final int MOVING_RETRY_AFTER_SECONDS = 30;
+    private static final String EVENTS_PATH = "/api/gift-money/events";
+
+    // 변경 알림 구독(SSE)용 HttpOnly 쿠키 - 용도 제한 단기 토큰, 구독 경로 GET에서만 읽음
+    public static final String EVENTS_TOKEN_COOKIE = "events_token";
+
+    // 서버 렌더링 첫 화면(app.ssr.enabled)용 HttpOnly 쿠키 - 페이지 GET에서만 읽음
+    public static final String PAGE_TOKEN_COOKIE = "page_token";
+    private static final Set<String> PAGE_PATHS = Set.of("/dashboard", "/statistics");
+
     private final JwtTokenProvider tokenProvider;
+    private final ShardDirectory shardDirectory;
+    private final AppMetrics appMetrics;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -28,16 +47,57 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
-            Long userId = tokenProvider.getUserId(token);
+        Claims claims = StringUtils.hasText(token) ? verify(token) : null;
+        Long userId = claims != null && isAllowedScope(claims, request) ? claims.get("userId", Long.class) : null;
 
+        // 🔒 보안: 탈퇴(비활성화)한 계정의 토큰은 만료 전이라도 인증하지 않음
+        //         → 삭제 작업(AccountPurgeService) 중에 쓰기로 행이 다시 생기거나 일부 삭제된 데이터를 읽지 않도록
+        if (userId != null && shardDirectory.isActive(userId)) {
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
+
+            // 사용자 데이터는 이 사용자의 샤드에서 조회/저장
+            ShardContext.set(shardDirectory.shardOf(userId));
+
+            // 샤드 이전 중에는 쓰기 요청 차단 (읽기는 원본 샤드에서 계속 처리)
+            if (isWrite(request) && shardDirectory.isMoving(userId)) {
+                ShardContext.clear();
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                response.setHeader("Retry-After", String.valueOf(MOVING_RETRY_AFTER_SECONDS));
+                response.setContentType("application/json;charset=UTF-8");
+                response.getWriter().write(
+                    "{\"message\":\"데이터 이전 중입니다. 잠시 후 다시 시도해주세요\",\"status\":503}"
+                );
+                return;
+            }
         }
 
-        filterChain.doFilter(request, response);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ShardContext.clear();
+        }
+    }
+
+    private Claims verify(String token) {
+        Timer.Sample sample = appMetrics.start();
+        Claims claims = tokenProvider.parseClaims(token);
+        appMetrics.jwtVerified(sample, claims != null);
+        return claims;
+    }
+
+    // 용도 제한 토큰(scope)은 해당 경로에서만 인증 → 구독 쿠키로 다른 API 호출 불가
+    private boolean isAllowedScope(Claims claims, HttpServletRequest request) {
+        String scope = claims.get(JwtTokenProvider.SCOPE_CLAIM, String.class);
+        return scope == null
+                || (JwtTokenProvider.EVENTS_SCOPE.equals(scope) && EVENTS_PATH.equals(request.getRequestURI()));
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method);
     }
 
     private String resolveToken(HttpServletRequest request) {
@@ -45,6 +105,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
         }
+        if (!"GET".equals(request.getMethod())) {
+            return null;
+        }
+        // EventSource(SSE)는 요청 헤더를 지정할 수 없으므로 구독 쿠키 사용
+        // 🔒 보안: 토큰을 URL(쿼리 문자열)에 넣지 않음 → 접근 로그/프록시 로그/브라우저 기록에 남지 않음
+        if (EVENTS_PATH.equals(request.getRequestURI())) {
+            return cookie(request, EVENTS_TOKEN_COOKIE);
+        }
+        // 페이지 이동은 Authorization 헤더를 보낼 수 없으므로 쿠키 사용
+        // API는 쿠키를 읽지 않음 → 다른 사이트에서 보낸 요청(CSRF)으로 쓰기 불가
+        if (PAGE_PATHS.contains(request.getRequestURI())) {
+            return cookie(request, PAGE_TOKEN_COOKIE);
+        }
+        return null;
+    }
+
+    private static String cookie(HttpServletRequest request, String name) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
         return null;
     }
 
@@ -15,6 +15,10 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    // 용도 제한 토큰의 scope 클레임 (일반 로그인 토큰에는 없음)
+    public static final String SCOPE_CLAIM = "scope";
+    public static final String EVENTS_SCOPE = "events";
+
     private final SecretKey secretKey;
     private final long validityInMilliseconds;
 
@@ -40,6 +44,38 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * 용도 제한 단기 토큰 (예: 변경 알림 구독 쿠키) - JwtAuthenticationFilter가 해당 경로에서만 인증
+     */
+    public String createScopedToken(Long userId, String scope, long validityMillis) {
+        Claims claims = Jwts.claims().setSubject(String.valueOf(userId));
+        claims.put("userId", userId);
+        claims.put(SCOPE_CLAIM, scope);
+
+        Date now = new Date();
+        return Jwts.builder()
+                .setClaims(claims)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + validityMillis))
+                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * 서명/만료 검증 후 클레임 (유효하지 않으면 null) - 요청마다 한 번만 파싱
+     */
+    public Claims parseClaims(String token) {
+        try {
+            return Jwts.parserBuilder()
+                    .setSigningKey(secretKey)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     public Long getUserId(String token) {
         return Jwts.parserBuilder()
                 .setSigningKey(secretKey)
@@ -1,5 +1,6 @@
 package com.example.giftmoney.security;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -39,6 +40,8 @@ public class SecurityConfig {
                         .ignoringRequestMatchers("/api/**"))  // API는 CSRF 비활성화
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(Flux 등)의 재디스패치는 최초 요청에서 이미 인증/인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/", "/login", "/register", "/css/**", "/js/**", "/api/auth/**", "/api/template/**", "/h2-console/**", "/error").permitAll()
                         .requestMatchers("/api/**").authenticated()  // API는 JWT 인증
                         .anyRequest().permitAll())  // 웹 페이지는 클라이언트에서 JWT로 인증 처리
@@ -0,0 +1,222 @@
+package com.example.giftmoney.service;
+
+import com.example.giftmoney.config.CacheInvalidationBus;
+import com.example.giftmoney.config.JpaConfig;
+import com.example.giftmoney.config.ShardContext;
+import com.example.giftmoney.domain.entity.AccountPurge;
+import com.example.giftmoney.domain.entity.AccountPurge.Phase;
+import com.example.giftmoney.repository.AccountPurgeRepository;
+import com.example.giftmoney.repository.CounterpartyRepository;
+import com.example.giftmoney.repository.DataVersionRepository;
+import com.example.giftmoney.repository.DimensionRepository;
+import com.example.giftmoney.repository.GiftMoneyChangeRepository;
+import com.example.giftmoney.repository.EmailVerificationRepository;
+import com.example.giftmoney.repository.GiftMoneyRepository;
+import com.example.giftmoney.repository.ShardAssignmentRepository;
+import com.example.giftmoney.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 탈퇴 계정 데이터 삭제 백그라운드 작업
+ *
+ * 동작 방식:
+ * 1. 탈퇴 요청 시 AuthService가 계정을 비활성화하고 AccountPurge 작업을 등록
+ *    - 비활성 계정의 토큰은 JwtAuthenticationFilter에서 거부 → 삭제 중 쓰기/읽기 없음
+ *    - 진행 중이던 요청이 끝나도록 start-delay-seconds 뒤에 시작
+ * 2. 스케줄러가 작업 임대(lease)를 획득한 뒤 batch-size 단위로 삭제
+ *    - 배치마다 별도 트랜잭션 → 커넥션을 오래 점유하지 않음
+ *    - 엔티티를 로딩하지 않는 DELETE ... LIMIT → 힙 사용량 일정
+ * 3. 배치마다 삭제 건수와 단계를 체크포인트로 저장 → 중단되어도 이어서 진행
+ * 4. 모든 하위 데이터 삭제 후 마지막으로 users 행 삭제
+ *
+ * 사용자 데이터(gift_money, counterparties, dimensions, gift_money_changes, data_versions)는 사용자의 샤드에서 별도 트랜잭션으로 삭제하고,
+ * 체크포인트는 디렉터리 DB에 저장한다. 삭제 커밋 후 체크포인트 저장 전에 중단되어도
+ * 다음 실행에서 남은 행을 이어서 삭제하므로 결과는 같다 (삭제 건수 통계만 일부 누락될 수 있음).
+ */
+@Slf4j
+@Service
+public class AccountPurgeService {
+
+    private final AccountPurgeRepository purgeRepository;
+    private final GiftMoneyRepository giftMoneyRepository;
+    private final CounterpartyRepository counterpartyRepository;
+    private final DimensionRepository dimensionRepository;
+    private final DataVersionRepository dataVersionRepository;
+    private final GiftMoneyChangeRepository changeRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final EmailVerificationRepository verificationRepository;
+    private final UserRepository userRepository;
+    private final ShardAssignmentRepository shardAssignmentRepository;
+    private final ShardDirectory shardDirectory;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate shardTransactionTemplate;
+
+    public AccountPurgeService(AccountPurgeRepository purgeRepository,
+                               GiftMoneyRepository giftMoneyRepository,
+                               CounterpartyRepository counterpartyRepository,
+                               DimensionRepository dimensionRepository,
+                               DataVersionRepository dataVersionRepository,
+                               GiftMoneyChangeRepository changeRepository,
+                               CacheInvalidationBus cacheInvalidationBus,
+                               EmailVerificationRepository verificationRepository,
+                               UserRepository userRepository,
+                               ShardAssignmentRepository shardAssignmentRepository,
+                               ShardDirectory shardDirectory,
+                               TransactionTemplate transactionTemplate,
+                               @Qualifier(JpaConfig.SHARD_TRANSACTION_MANAGER) PlatformTransactionManager shardTransactionManager) {
+        this.purgeRepository = purgeRepository;
+        this.giftMoneyRepository = giftMoneyRepository;
+        this.counterpartyRepository = counterpartyRepository;
+        this.dimensionRepository = dimensionRepository;
+        this.dataVersionRepository = dataVersionRepository;
+        this.changeRepository = changeRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.verificationRepository = verificationRepository;
+        this.userRepository = userRepository;
+        this.shardAssignmentRepository = shardAssignmentRepository;
+        this.shardDirectory = shardDirectory;
+        this.transactionTemplate = transactionTemplate;
+        this.shardTransactionTemplate = new TransactionTemplate(shardTransactionManager);
+    }
+
+    @Value("${app.account-purge.batch-size:1000}")
+    private int batchSize;
+
+    // 한 번의 실행에서 처리할 최대 배치 수 (남은 작업은 다음 실행에서 이어서 처리)
+    @Value("${app.account-purge.max-batches-per-run:200}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.account-purge.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Scheduled(fixedDelayString = "${app.account-purge.interval:60000}")
+    public void purgePendingAccounts() {
+        List<Long> ids = purgeRepository.findClaimableIds(Phase.COMPLETED, LocalDateTime.now());
+
+        for (Long id : ids) {
+            if (claim(id)) {
+                run(id);
+            }
+        }
+    }
+
+    private boolean claim(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                purgeRepository.claim(id, now, now.plusSeconds(leaseSeconds)));
+        return claimed != null && claimed > 0;
+    }
+
+    private void run(Long id) {
+        try {
+            // 첫 배치 전에 모든 인스턴스의 캐시를 비우고 SSE 연결 종료 (탈퇴 시 전파가 누락된 경우 대비)
+            // 트랜잭션 밖에서 발행 → 삭제 시작 전에 바로 전달
+            purgeRepository.findById(id)
+                    .filter(purge -> purge.getPhase() == Phase.GIFT_MONEY && purge.getLastCheckpointAt() == null)
+                    .ifPresent(purge -> cacheInvalidationBus.publish(purge.getUserId(), CacheInvalidationBus.Scope.ALL));
+
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                Boolean hasMore = transactionTemplate.execute(status -> purgeNextBatch(id));
+                if (!Boolean.TRUE.equals(hasMore)) {
+                    return;
+                }
+            }
+
+            // 남은 작업은 임대를 반납하고 다음 실행에서 이어서 처리
+            transactionTemplate.executeWithoutResult(status ->
+                    purgeRepository.findById(id).ifPresent(purge -> purge.setLockedUntil(null)));
+        } catch (Exception e) {
+            // 임대가 만료되면 다음 실행에서 마지막 체크포인트부터 재시도
+            log.error("계정 데이터 삭제 실패: purgeId={}", id, e);
+        }
+    }
+
+    /**
+     * 현재 단계의 배치 하나를 삭제하고 체크포인트를 저장
+     *
+     * @return 남은 작업이 있으면 true
+     */
+    private boolean purgeNextBatch(Long id) {
+        AccountPurge purge = purgeRepository.findById(id).orElse(null);
+        if (purge == null || purge.getPhase() == Phase.COMPLETED) {
+            return false;
+        }
+
+        switch (purge.getPhase()) {
+            case GIFT_MONEY -> {
+                int deleted = onUserShard(purge.getUserId(), () -> giftMoneyRepository.deleteBatchByUserId(purge.getUserId(), batchSize));
+                purge.setDeletedGiftMoney(purge.getDeletedGiftMoney() + deleted);
+                if (deleted < batchSize) {
+                    purge.setPhase(Phase.COUNTERPARTIES);
+                }
+            }
+            case COUNTERPARTIES -> {
+                int deleted = onUserShard(purge.getUserId(), () -> counterpartyRepository.deleteBatchByUserId(purge.getUserId(), batchSize));
+                if (deleted < batchSize) {
+                    purge.setPhase(Phase.DIMENSIONS);
+                }
+            }
+            case DIMENSIONS -> {
+                // 사전은 gift_money가 모두 삭제된 뒤에 삭제 (참조 중인 키가 남지 않도록)
+                int deleted = onUserShard(purge.getUserId(), () -> dimensionRepository.deleteBatchByUserId(purge.getUserId(), batchSize));
+                if (deleted < batchSize) {
+                    cacheInvalidationBus.publish(purge.getUserId(), CacheInvalidationBus.Scope.DIMENSIONS);
+                    purge.setPhase(Phase.CHANGE_LOG);
+                }
+            }
+            case CHANGE_LOG -> {
+                int deleted = onUserShard(purge.getUserId(), () -> changeRepository.deleteBatchByUserId(purge.getUserId(), batchSize));
+                if (deleted < batchSize) {
+                    purge.setPhase(Phase.DATA_VERSION);
+                }
+            }
+            case DATA_VERSION -> {
+                // 사용자당 한 행 - 변경 로그를 모두 지운 뒤 삭제 (로그 seq가 버전을 참조)
+                onUserShard(purge.getUserId(), () -> dataVersionRepository.deleteByUserId(purge.getUserId()));
+                purge.setPhase(Phase.EMAIL_VERIFICATIONS);
+            }
+            case EMAIL_VERIFICATIONS -> {
+                int deleted = verificationRepository.deleteBatchByEmail(purge.getEmail(), batchSize);
+                purge.setDeletedVerifications(purge.getDeletedVerifications() + deleted);
+                if (deleted < batchSize) {
+                    purge.setPhase(Phase.USER);
+                }
+            }
+            case USER -> {
+                userRepository.findById(purge.getUserId()).ifPresent(userRepository::delete);
+                shardAssignmentRepository.findById(purge.getUserId()).ifPresent(shardAssignmentRepository::delete);
+                cacheInvalidationBus.publish(purge.getUserId(), CacheInvalidationBus.Scope.ALL);
+                purge.setPhase(Phase.COMPLETED);
+                purge.setCompletedAt(LocalDateTime.now());
+                log.info("계정 데이터 삭제 완료: userId={}, giftMoney={}, verifications={}",
+                        purge.getUserId(), purge.getDeletedGiftMoney(), purge.getDeletedVerifications());
+            }
+            default -> {
+                return false;
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        purge.setLastCheckpointAt(now);
+        purge.setLockedUntil(purge.getPhase() == Phase.COMPLETED ? null : now.plusSeconds(leaseSeconds));
+        return purge.getPhase() != Phase.COMPLETED;
+    }
+
+    // 사용자 샤드에서 별도 트랜잭션으로 실행
+    private int onUserShard(Long userId, Supplier<Integer> delete) {
+        Integer deleted = ShardContext.call(shardDirectory.shardOf(userId),
+                () -> shardTransactionTemplate.execute(status -> delete.get()));
+        return deleted != null ? deleted : 0;
+    }
+
+}
@@ -1,17 +1,24 @@
 package com.example.giftmoney.service;
 
+import com.example.giftmoney.config.CacheInvalidationBus;
+import com.example.giftmoney.domain.entity.AccountPurge;
 import com.example.giftmoney.domain.entity.User;
 import com.example.giftmoney.dto.LoginRequest;
 import com.example.giftmoney.dto.LoginResponse;
 import com.example.giftmoney.dto.RegisterRequest;
 import com.example.giftmoney.dto.UserResponse;
+import com.example.giftmoney.repository.AccountPurgeRepository;
 import com.example.giftmoney.repository.UserRepository;
 import com.example.giftmoney.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -21,6 +28,13 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider tokenProvider;
     private final EmailService emailService;
+    private final AccountPurgeRepository accountPurgeRepository;
+    private final ShardDirectory shardDirectory;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    // 탈퇴 후 데이터 삭제 시작까지 대기 (인증이 끝난 진행 중 요청이 마무리되도록, 디렉터리 캐시 TTL보다 길게)
+    @Value("${app.account-purge.start-delay-seconds:60}")
+    private long purgeStartDelaySeconds;
 
     @Transactional
     public LoginResponse register(RegisterRequest request) {
@@ -51,6 +65,7 @@ public class AuthService {
         user.setEmailVerified(true);
 
         User saved = userRepository.save(user);
+        shardDirectory.assign(saved.getId());
 
         // JWT 토큰 생성하여 바로 로그인 처리
         String token = tokenProvider.createToken(saved.getId(), saved.getUserId());
@@ -69,6 +84,10 @@ public class AuthService {
             throw new IllegalArgumentException("아이디 또는 비밀번호가 잘못되었습니다");
         }
 
+        if (!user.getEnabled()) {
+            throw new IllegalArgumentException("탈퇴 처리 중인 계정입니다");
+        }
+
         // 이메일 인증 확인
         if (!user.getEmailVerified()) {
             throw new IllegalArgumentException("이메일 인증이 필요합니다. 이메일을 확인해주세요.");
@@ -84,10 +103,42 @@ public class AuthService {
 
     public UserResponse getCurrentUser(Long userId) {
         User user = userRepository.findById(userId)
+                .filter(User::getEnabled)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
         return UserResponse.from(user);
     }
 
+    /**
+     * 회원 탈퇴
+     * 계정은 즉시 비활성화하고, 데이터 삭제는 AccountPurgeService가 백그라운드에서 배치로 처리
+     */
+    @Transactional
+    public void deleteAccount(Long userId, String password) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+
+        if (!user.getEnabled()) {
+            throw new IllegalArgumentException("이미 탈퇴 처리 중인 계정입니다");
+        }
+
+        if (password == null || !passwordEncoder.matches(password, user.getPassword())) {
+            throw new IllegalArgumentException("비밀번호가 일치하지 않습니다");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        user.setEnabled(false);
+        user.setDeletionRequestedAt(now);
+        userRepository.save(user);
+
+        // 시작 전까지 임대 중으로 두어 삭제 작업이 바로 가져가지 않음
+        AccountPurge purge = AccountPurge.of(user);
+        purge.setLockedUntil(now.plusSeconds(purgeStartDelaySeconds));
+        accountPurgeRepository.save(purge);
+
+        // 커밋 후 모든 인스턴스에서 디렉터리 캐시(활성 여부) 갱신 → 이 계정의 토큰 거부, SSE 연결 종료
+        cacheInvalidationBus.publish(userId, CacheInvalidationBus.Scope.ALL);
+    }
+
     public boolean isUserIdAvailable(String userId) {
         return !userRepository.existsByUserId(userId);
     }
@@ -98,7 +149,8 @@ public class AuthService {
         return user.getUserId();
     }
 
-    @Transactional
+    // 트랜잭션 없이 실행 - OTP 저장은 EmailService가 짧은 트랜잭션으로 처리하고, SMTP 전송 동안 커넥션을 점유하지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void sendPasswordResetOtp(String userId, String email) {
         User user = userRepository.findByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 아이디를 찾을 수 없습니다"));
@@ -0,0 +1,349 @@
+package com.example.giftmoney.service;
+
+import com.example.giftmoney.config.CacheInvalidationBus;
+import com.example.giftmoney.config.JpaConfig;
+import com.example.giftmoney.config.ShardContext;
+import com.example.giftmoney.dto.GiftMoneyStatisticsResponse;
+import com.example.giftmoney.repository.DataVersionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 장부 변경 실시간 알림 (SSE, GET /api/gift-money/events)
+ *
+ * - 쓰기 커밋 후 CacheInvalidationBus(GIFT_MONEY) 이벤트를 받아, 이 인스턴스에 연결된 해당 사용자의 구독자에게
+ *   change 이벤트 {version, summary} 전송 → 다른 인스턴스에서 커밋된 변경도 전달 (LISTEN/NOTIFY)
+ * - 변경된 행은 version을 받은 클라이언트가 증분 동기화(/api/gift-money/changes)로 가져옴
+ * - 요약 통계는 사용자당 한 번 계산해 모든 구독자에게 전송 (primary에서 조회 → 복제 지연 없음)
+ * - 느린 구독자: 구독자마다 보낼 이벤트를 하나만 보관하고 새 이벤트로 교체 (중간 상태는 건너뜀, 메모리 일정)
+ * - 전송(블로킹 쓰기)은 요약 계산 스레드와 분리된 전송 풀에서 실행 → 읽지 않는 클라이언트가 다른 사용자의 알림을 막지 않음
+ *   전송 풀이 가득 차면 대기열 없이 건너뛰고 다음 이벤트/heartbeat 때 다시 시도,
+ *   send-timeout 이상 쓰기가 끝나지 않는 구독자는 heartbeat 때 연결 종료
+ * - heartbeat 주석을 주기적으로 보내 프록시의 유휴 연결 종료 방지 및 끊어진 연결 정리
+ */
+@Slf4j
+@Component
+public class ChangeEventHub implements CacheInvalidationBus.Listener, DisposableBean {
+
+    private static final long RETRY_MILLIS = 5000;
+
+    private final GiftMoneyService giftMoneyService;
+    private final DataVersionRepository dataVersionRepository;
+    private final ShardDirectory shardDirectory;
+    private final TransactionTemplate transaction;
+    private final long timeoutMillis;
+    private final int maxPerUser;
+    private final int maxTotal;
+    private final long sendTimeoutNanos;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Set<Long> pendingUsers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor;
+    private final ThreadPoolExecutor sendExecutor;
+
+    // GiftMoneyService → CacheInvalidationBus → 구독 허브(Listener) 순환 참조 → 처음 사용할 때 주입
+    public ChangeEventHub(@Lazy GiftMoneyService giftMoneyService,
+                          DataVersionRepository dataVersionRepository,
+                          ShardDirectory shardDirectory,
+                          @Qualifier(JpaConfig.SHARD_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
+                          @Value("${app.events.timeout:1800000}") long timeoutMillis,
+                          @Value("${app.events.max-per-user:5}") int maxPerUser,
+                          @Value("${app.events.max-total:10000}") int maxTotal,
+                          @Value("${app.events.threads:2}") int threads,
+                          @Value("${app.events.send-threads:32}") int sendThreads,
+                          @Value("${app.events.send-timeout:10000}") long sendTimeoutMillis) {
+        this.giftMoneyService = giftMoneyService;
+        this.dataVersionRepository = dataVersionRepository;
+        this.shardDirectory = shardDirectory;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.timeoutMillis = timeoutMillis;
+        this.maxPerUser = maxPerUser;
+        this.maxTotal = maxTotal;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "change-events-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 필요할 때만 스레드 생성, 최대 sendThreads개 (대기열 없음 → 가득 차면 RejectedExecutionException)
+        AtomicInteger sendThreadSequence = new AtomicInteger();
+        this.sendExecutor = new ThreadPoolExecutor(0, sendThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "change-events-send-" + sendThreadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 구독 등록 (전체 구독 수 초과 시 null)
+     */
+    public SseEmitter subscribe(Long userId) {
+        if (total.incrementAndGet() > maxTotal) {
+            total.decrementAndGet();
+            log.warn("SSE subscriber limit reached: total={}", maxTotal);
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter, sequence.incrementAndGet());
+        // 추가/삭제는 사용자 키 단위로 원자적으로 (빈 집합 삭제와 새 구독 추가가 엇갈리지 않도록)
+        Set<Subscriber> userSubscribers = subscribers.compute(userId, (id, current) -> {
+            Set<Subscriber> set = current != null ? current : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+
+        // 사용자당 연결 수 제한: 초과분은 오래된 연결부터 종료 (닫지 않은 탭이 쌓이지 않도록)
+        while (userSubscribers.size() > maxPerUser) {
+            Subscriber oldest = userSubscribers.stream()
+                    .min(Comparator.comparingLong(Subscriber::sequence))
+                    .orElse(subscriber);
+            if (oldest == subscriber) {
+                break;
+            }
+            oldest.close();
+        }
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+
+        // 응답 헤더를 바로 보내 EventSource 연결을 열고 재연결 간격 지정
+        subscriber.offer(Event.OPEN);
+        return emitter;
+    }
+
+    @Override
+    public void evict(Long userId, CacheInvalidationBus.Scope scope) {
+        if (!subscribers.containsKey(userId)) {
+            return;
+        }
+        if (scope == CacheInvalidationBus.Scope.GIFT_MONEY) {
+            // 계산이 대기 중이면 합침 (연속 쓰기는 한 번만 계산)
+            if (pendingUsers.add(userId)) {
+                executor.execute(() -> publish(userId));
+            }
+        } else if (scope == CacheInvalidationBus.Scope.ALL) {
+            // 계정 삭제 → 연결 종료
+            Set<Subscriber> userSubscribers = subscribers.get(userId);
+            if (userSubscribers != null) {
+                userSubscribers.forEach(Subscriber::close);
+            }
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        // 이벤트 유실(재연결 등) → 모든 구독자에게 다시 조회하도록 알림
+        subscribers.keySet().forEach(userId -> evict(userId, CacheInvalidationBus.Scope.GIFT_MONEY));
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.heartbeat:15000}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            if (subscriber.isStalled(now)) {
+                subscriber.drop();
+            } else {
+                subscriber.offerIfIdle(Event.HEARTBEAT);
+            }
+        }));
+    }
+
+    private void publish(Long userId) {
+        pendingUsers.remove(userId);
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+        if (userSubscribers == null || userSubscribers.isEmpty()) {
+            return;
+        }
+
+        try {
+            Change change = ShardContext.call(shardDirectory.shardOf(userId), () -> transaction.execute(status ->
+                    new Change(dataVersionRepository.findVersion(userId).orElse(0L),
+                            giftMoneyService.getStatistics(userId))));
+            Event event = new Event("change", change);
+            userSubscribers.forEach(subscriber -> subscriber.offer(event));
+        } catch (RuntimeException e) {
+            log.warn("SSE change event failed: userId={}", userId, e);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        boolean[] removed = {false};
+        subscribers.computeIfPresent(subscriber.userId, (id, set) -> {
+            removed[0] = set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        if (removed[0]) {
+            total.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.values().forEach(userSubscribers ->
+                userSubscribers.forEach(Subscriber::close));
+        subscribers.clear();
+        executor.shutdownNow();
+        sendExecutor.shutdownNow();
+    }
+
+    public record Change(long version, GiftMoneyStatisticsResponse summary) {
+    }
+
+    // name == null이면 주석(heartbeat)
+    private record Event(String name, Object data) {
+        static final Event OPEN = new Event(null, "open");
+        static final Event HEARTBEAT = new Event(null, "heartbeat");
+    }
+
+    /**
+     * 구독자 - 이벤트 전송과 연결 종료는 모두 전송 풀에서 한 스레드씩 실행
+     * (SseEmitter의 send/complete는 같은 모니터를 사용 → 쓰기가 막힌 연결을 다른 스레드에서 닫으면 그 스레드도 막힘)
+     */
+    private final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final long sequence;
+        private final AtomicReference<Event> pending = new AtomicReference<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile boolean closed;
+        // 진행 중인 쓰기 시작 시각 (0이면 쓰는 중 아님)
+        private volatile long writeStartedAt;
+        private volatile Thread writer;
+
+        private Subscriber(Long userId, SseEmitter emitter, long sequence) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.sequence = sequence;
+        }
+
+        long sequence() {
+            return sequence;
+        }
+
+        void offer(Event event) {
+            pending.set(event);
+            drain();
+        }
+
+        // 보낼 이벤트가 있으면 heartbeat는 생략
+        void offerIfIdle(Event event) {
+            if (pending.compareAndSet(null, event)) {
+                drain();
+            }
+        }
+
+        // 구독 해제 후 연결 종료 (쓰는 중이면 쓰기가 끝난 뒤 전송 스레드에서 종료)
+        void close() {
+            closed = true;
+            remove(this);
+            drain();
+        }
+
+        boolean isStalled(long now) {
+            long startedAt = writeStartedAt;
+            return startedAt != 0 && now - startedAt > sendTimeoutNanos;
+        }
+
+        // 쓰기가 끝나지 않는 구독자 종료 → 막힌 전송 스레드 중단 (클라이언트는 재연결)
+        void drop() {
+            log.warn("SSE subscriber stalled, closing: userId={}", userId);
+            close();
+            Thread thread = writer;
+            if (thread != null && writeStartedAt != 0) {
+                thread.interrupt();
+            }
+        }
+
+        private void drain() {
+            if (sending.compareAndSet(false, true)) {
+                try {
+                    sendExecutor.execute(this::sendPending);
+                } catch (RejectedExecutionException e) {
+                    // 전송 풀이 모두 사용 중 → 이벤트는 보관해 두고 다음 이벤트/heartbeat 때 다시 시도
+                    // 종료 요청이면 진행 중인 쓰기가 없으므로(sending 획득) 바로 종료
+                    if (closed) {
+                        complete(null);
+                    }
+                    sending.set(false);
+                }
+            }
+        }
+
+        private void sendPending() {
+            try {
+                writer = Thread.currentThread();
+                Event event;
+                while (!closed && (event = pending.getAndSet(null)) != null) {
+                    writeStartedAt = System.nanoTime();
+                    if (event.name() == null) {
+                        emitter.send(SseEmitter.event().comment(String.valueOf(event.data())).reconnectTime(RETRY_MILLIS));
+                    } else {
+                        emitter.send(SseEmitter.event().name(event.name()).data(event.data(), MediaType.APPLICATION_JSON));
+                    }
+                    writeStartedAt = 0;
+                }
+                if (closed) {
+                    complete(null);
+                    return;
+                }
+            } catch (Exception e) {
+                // 연결 끊김 또는 쓰기 시간 초과(drop) → 구독 해제
+                log.debug("SSE send failed: userId={}, reason={}", userId, e.getMessage());
+                remove(this);
+                complete(e);
+                return;
+            } finally {
+                writeStartedAt = 0;
+                writer = null;
+                // 인터럽트(drop)가 풀 스레드에 남지 않도록 정리
+                Thread.interrupted();
+                sending.set(false);
+            }
+            if (pending.get() != null || closed) {
+                drain();
+            }
+        }
+
+        private void complete(Exception error) {
+            if (completed.compareAndSet(false, true)) {
+                if (error != null) {
+                    emitter.completeWithError(error);
+                } else {
+                    emitter.complete();
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.example.giftmoney.service;
+
+import com.example.giftmoney.config.JpaConfig;
+import com.example.giftmoney.config.ShardContext;
+import com.example.giftmoney.config.ShardRoutingDataSource;
+import com.example.giftmoney.repository.DataVersionRepository;
+import com.example.giftmoney.repository.GiftMoneyChangeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * gift_money 변경 로그 기록과 정리 (증분 동기화: GET /api/gift-money/changes)
+ *
+ * - 기록: 쓰기 트랜잭션 안에서 사용자 데이터 버전을 올리고 그 값을 seq로 변경된 ID 기록 (쓰기와 함께 커밋/롤백)
+ * - 정리(compaction): 보관 기간(retention-days)이 지난 로그는 항목(gift_money_id)별 최신 seq 하나로 합침
+ *   → 오래된 구간은 "항목별 마지막 변경" 스냅샷이 되고, 뒤처진 클라이언트도 그 이후 변경만 증분으로 받음
+ * - 삭제 표시(tombstone)는 tombstone-retention-days가 지나야 삭제하고 compacted_seq를 올림
+ *   → 그보다 이전 지점에서 동기화하는 클라이언트만 reset 응답을 받고 전체 목록을 다시 받음 (삭제를 놓칠 수 있으므로)
+ * - 정리는 멱등 (여러 인스턴스가 동시에 실행해도 결과 같음)
+ */
+@Slf4j
+@Service
+public class ChangeLogService {
+
+    // IN 목록 크기 제한 (PostgreSQL 바인드 파라미터 수 제한 32767)
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    private final GiftMoneyChangeRepository changeRepository;
+    private final DataVersionRepository dataVersionRepository;
+    private final DataVersionService dataVersionService;
+    private final ShardRoutingDataSource shardDataSource;
+    private final TransactionTemplate shardTransactionTemplate;
+
+    public ChangeLogService(GiftMoneyChangeRepository changeRepository,
+                            DataVersionRepository dataVersionRepository,
+                            DataVersionService dataVersionService,
+                            ShardRoutingDataSource shardDataSource,
+                            @Qualifier(JpaConfig.SHARD_TRANSACTION_MANAGER) PlatformTransactionManager shardTransactionManager) {
+        this.changeRepository = changeRepository;
+        this.dataVersionRepository = dataVersionRepository;
+        this.dataVersionService = dataVersionService;
+        this.shardDataSource = shardDataSource;
+        this.shardTransactionTemplate = new TransactionTemplate(shardTransactionManager);
+    }
+
+    @Value("${app.change-log.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${app.change-log.tombstone-retention-days:365}")
+    private int tombstoneRetentionDays;
+
+    // 한 번의 실행에서 샤드당 정리할 최대 사용자 수
+    @Value("${app.change-log.max-users-per-run:500}")
+    private int maxUsersPerRun;
+
+    /**
+     * 등록/수정 기록 (호출자의 샤드 트랜잭션에서, 행이 저장된 뒤)
+     */
+    public void recordUpserts(Long userId, List<Long> ids) {
+        long seq = dataVersionService.bump(userId);
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            changeRepository.insertUpserts(userId, seq, ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())), now);
+        }
+    }
+
+    /**
+     * 삭제 기록 (호출자의 샤드 트랜잭션에서)
+     */
+    public void recordDelete(Long userId, Long id) {
+        long seq = dataVersionService.bump(userId);
+        changeRepository.insertDelete(userId, seq, id, LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${app.change-log.compaction-interval:3600000}")
+    public void compact() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusDays(retentionDays);
+        LocalDateTime tombstoneCutoff = now.minusDays(Math.max(tombstoneRetentionDays, retentionDays));
+        for (int shard = 0; shard < shardDataSource.shardCount(); shard++) {
+            try {
+                int users = ShardContext.call(shard, () -> compactShard(cutoff, tombstoneCutoff));
+                if (users > 0) {
+                    log.info("Change log compacted: shard={}, users={}", shard, users);
+                }
+            } catch (Exception e) {
+                log.error("Change log compaction failed: shard={}", shard, e);
+            }
+        }
+    }
+
+    private int compactShard(LocalDateTime cutoff, LocalDateTime tombstoneCutoff) {
+        List<Long> userIds = shardTransactionTemplate.execute(status ->
+                changeRepository.findCompactable(cutoff, tombstoneCutoff, maxUsersPerRun));
+        if (userIds == null) {
+            return 0;
+        }
+
+        // 사용자별 트랜잭션: 항목별 최신 로그만 남기고, 오래된 삭제 표시는 compacted_seq를 올린 뒤 삭제 (함께 커밋)
+        for (Long userId : userIds) {
+            shardTransactionTemplate.executeWithoutResult(status -> {
+                changeRepository.deleteSuperseded(userId, cutoff);
+                changeRepository.findStaleTombstoneSeq(userId, tombstoneCutoff).ifPresent(seq -> {
+                    dataVersionRepository.raiseCompactedSeq(userId, seq);
+                    changeRepository.deleteTombstonesUpTo(userId, seq);
+                });
+            });
+        }
+        return userIds.size();
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.example.giftmoney.service;
+
+import com.example.giftmoney.domain.entity.Counterparty;
+import com.example.giftmoney.domain.entity.GiftMoney;
+import com.example.giftmoney.domain.value.Money;
+import com.example.giftmoney.domain.value.TransactionType;
+import com.example.giftmoney.repository.CounterpartyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상대방(인물) 식별 및 누적 합계 유지
+ *
+ * - gift_money 저장 전 attach()로 (이름, 관계)에 해당하는 counterparty_id를 지정
+ * - 저장 후 add()/remove()로 합계/건수를 원자적 UPDATE (조회 후 수정하지 않음 → 동시 쓰기에도 누락 없음)
+ * - 새 인물은 업무 트랜잭션 안에서 INSERT ... ON CONFLICT DO NOTHING으로 생성 (롤백되면 함께 취소)
+ *   별도 트랜잭션은 커넥션을 하나 더 사용 → 동시 첫 쓰기가 풀을 모두 점유하면 서로 두 번째 커넥션을 기다리며 교착
+ */
+@Slf4j
+@Service
+public class CounterpartyService {
+
+    private final CounterpartyRepository counterpartyRepository;
+
+    public CounterpartyService(CounterpartyRepository counterpartyRepository) {
+        this.counterpartyRepository = counterpartyRepository;
+    }
+
+    /**
+     * 항목의 (이름, 관계)에 해당하는 인물을 찾거나 생성해 counterpartyId 지정
+     */
+    public void attach(Long userId, GiftMoney entity) {
+        entity.setCounterpartyId(findOrCreate(userId, entity.getName(), entity.getRelationId()));
+    }
+
+    /**
+     * 일괄 등록용: 같은 (이름, 관계)는 한 번만 조회
+     */
+    public void attachAll(Long userId, List<GiftMoney> entities) {
+        Map<Key, Long> resolved = new HashMap<>();
+        for (GiftMoney entity : entities) {
+            Key key = new Key(entity.getName(), entity.getRelationId());
+            entity.setCounterpartyId(resolved.computeIfAbsent(key,
+                    k -> findOrCreate(userId, k.name(), k.relationId())));
+        }
+    }
+
+    /**
+     * 저장된 항목을 인물 합계에 반영
+     */
+    public void add(GiftMoney entity) {
+        addAll(List.of(entity));
+    }
+
+    /**
+     * ⚡ 성능: 일괄 등록 시 인물별로 합산한 뒤 인물당 UPDATE 한 번
+     */
+    public void addAll(List<GiftMoney> entities) {
+        Map<Long, Delta> deltas = new LinkedHashMap<>();
+        for (GiftMoney entity : entities) {
+            deltas.computeIfAbsent(entity.getCounterpartyId(), id -> new Delta()).add(entity);
+        }
+
+        deltas.forEach((id, delta) -> counterpartyRepository.addEntries(id,
+                delta.receivedTotal, delta.receivedCount, delta.sentTotal, delta.sentCount,
+                delta.lastEventDate, delta.lastEventTypeId));
+    }
+
+    /**
+     * 수정/삭제 전 항목 값을 인물 합계에서 제외
+     *
+     * 호출 시점에 gift_money 변경이 반영되어 있어야 마지막 행사 정보가 올바르게 재계산된다.
+     */
+    public void remove(Long userId, Long counterpartyId, TransactionType type, Money amount) {
+        long value = amount.toLong();
+        if (type == TransactionType.RECEIVED) {
+            counterpartyRepository.removeEntries(counterpartyId, value, 1, 0, 0);
+        } else {
+            counterpartyRepository.removeEntries(counterpartyId, 0, 0, value, 1);
+        }
+        counterpartyRepository.refreshLastEvent(counterpartyId, userId);
+    }
+
+    /**
+     * 남은 항목이 없으면 인물 삭제
+     */
+    public void deleteIfEmpty(Long userId, Long counterpartyId) {
+        counterpartyRepository.deleteIfEmpty(counterpartyId, userId);
+    }
+
+    private Long findOrCreate(Long userId, String name, Integer relationId) {
+        Long id = find(userId, name, relationId);
+        if (id != null) {
+            return id;
+        }
+
+        // 동시에 같은 인물을 생성 중이면 그 트랜잭션이 끝날 때까지 대기 후 무시 → 커밋된 행 사용
+        if (counterpartyRepository.insertIfAbsent(userId, name, relationId) == 0) {
+            log.debug("Counterparty already created concurrently: userId={}", userId);
+        }
+
+        id = find(userId, name, relationId);
+        if (id == null) {
+            throw new IllegalStateException("인물 정보 생성에 실패했습니다: " + name);
+        }
+        return id;
+    }
+
+    private Long find(Long userId, String name, Integer relationId) {
+        return counterpartyRepository.findByUserIdAndNameAndRelationId(userId, name, relationId)
+                .map(Counterparty::getId)
+                .orElse(null);
+    }
+
+    private record Key(String name, Integer relationId) {
+    }
+
+    private static final class Delta {
+
+        private long receivedTotal;
+        private long receivedCount;
+        private long sentTotal;
+        private long sentCount;
+        private LocalDate lastEventDate;
+        private Integer lastEventTypeId;
+
+        private void add(GiftMoney entity) {
+            long value = entity.getAmount().toLong();
+            if (entity.getTransactionType() == TransactionType.RECEIVED) {
+                receivedTotal = Math.addExact(receivedTotal, value);
+                receivedCount++;
+            } else {
+                sentTotal = Math.addExact(sentTotal, value);
+                sentCount++;
+            }
+            if (lastEventDate == null || !entity.getEventDate().isBefore(lastEventDate)) {
+                lastEventDate = entity.getEventDate();
+                lastEventTypeId = entity.getEventTypeId();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.example.giftmoney.service;
+
+import com.example.giftmoney.config.JpaConfig;
+import com.example.giftmoney.dto.DashboardBootstrapResponse;
+import com.example.giftmoney.dto.GiftMoneyListResponse;
+import com.example.giftmoney.dto.GiftMoneyStatisticsResponse;
+import com.example.giftmoney.dto.UserResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대시보드 첫 화면 데이터를 한 번에 조회 (GET /api/dashboard/bootstrap)
+ *
+ * - 사용자 정보는 디렉터리 DB, 목록/요약 통계는 사용자 샤드 → 서로 다른 DB라 동시에 조회
+ *   (사용자 조회는 bootstrap 스레드, 샤드 조회는 요청 스레드)
+ * - 샤드 조회(목록 첫 페이지 + total + 요약 통계)는 하나의 읽기 전용 트랜잭션 → 커넥션 한 번만 사용
+ *   (요약 통계는 StatisticsCache에 있으면 쿼리 없음)
+ *
+ * ⚡ 성능: 첫 화면에 필요한 요청 3개(JWT 검증/필터/트랜잭션 각각) → 1개, 지연 시간은 가장 느린 조회 하나 수준
+ */
+@Slf4j
+@Service
+public class DashboardService implements DisposableBean {
+
+    private final AuthService authService;
+    private final GiftMoneyService giftMoneyService;
+    private final StatisticsCache statisticsCache;
+    private final TransactionTemplate shardReadOnly;
+    private final ExecutorService executor;
+
+    public DashboardService(AuthService authService,
+                            GiftMoneyService giftMoneyService,
+                            StatisticsCache statisticsCache,
+                            @Qualifier(JpaConfig.SHARD_TRANSACTION_MANAGER) PlatformTransactionManager shardTransactionManager,
+                            @Value("${app.bootstrap.threads:4}") int threads) {
+        this.authService = authService;
+        this.giftMoneyService = giftMoneyService;
+        this.statisticsCache = statisticsCache;
+        this.shardReadOnly = new TransactionTemplate(shardTransactionManager);
+        this.shardReadOnly.setReadOnly(true);
+        AtomicInteger sequence = new AtomicInteger();
+        // 인증 정보를 함께 넘김 (디렉터리 DB read-your-writes 라우팅이 현재 사용자 ID 사용)
+        this.executor = new DelegatingSecurityContextExecutorService(Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "bootstrap-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    public DashboardBootstrapResponse bootstrap(Long userId, String fields, int size, String transactionType) {
+        CompletableFuture<UserResponse> user = CompletableFuture.supplyAsync(
+                () -> authService.getCurrentUser(userId), executor);
+
+        DashboardBootstrapResponse.DashboardBootstrapResponseBuilder response = DashboardBootstrapResponse.builder();
+        try {
+            shardReadOnly.executeWithoutResult(status -> {
+                GiftMoneyListResponse list = giftMoneyService.findList(userId, fields, null, 0, size, null, transactionType, true);
+                GiftMoneyStatisticsResponse summary = statisticsCache.get(userId, "summary",
+                        () -> giftMoneyService.getStatistics(userId));
+                response.list(list).summary(summary);
+            });
+        } catch (RuntimeException e) {
+            user.cancel(false);
+            throw e;
+        }
+
+        try {
+            return response.user(user.join()).build();
+        } catch (CompletionException e) {
+            // 사용자 없음(IllegalArgumentException) 등은 원래 예외로 → 같은 오류 응답
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.example.giftmoney.service;
+
+import com.example.giftmoney.config.CacheInvalidationBus;
+import com.example.giftmoney.config.JpaConfig;
+import com.example.giftmoney.repository.DataVersionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 데이터 버전 (조건부 GET의 ETag 기준)
+ *
+ * - bump(): gift_money 쓰기 트랜잭션 안에서 호출 → 쓰기와 함께 커밋/롤백, 증가한 버전은 변경 로그의 seq
+ *   (버전 행 잠금이 커밋까지 유지되므로 같은 사용자의 seq는 커밋 순서대로 증가)
+ * - current(): 인스턴스 로컬 캐시 (TTL), 쓰기 커밋 후 CacheInvalidationBus로 모든 인스턴스에서 삭제
+ * - 캐시 적재 중 무효화되면 적재하지 않음 (무효화 횟수 비교) → 무효화 이전 값이 다시 캐시되지 않음
+ * - 캐시 미스 시 조회는 primary (readOnly 아님) → 복제 지연으로 이전 버전을 읽지 않음
+ */
+@Slf4j
+@Service
+public class DataVersionService implements CacheInvalidationBus.Listener {
+
+    // 캐시 항목이 이 수를 넘으면 전체 비움
+    private static final int MAX_CACHE_SIZE = 100_000;
+
+    private final DataVersionRepository dataVersionRepository;
+    private final TransactionTemplate transaction;
+    private final long cacheTtlMillis;
+
+    private final Map<Long, Entry> cache = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public DataVersionService(DataVersionRepository dataVersionRepository,
+                              @Qualifier(JpaConfig.SHARD_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
+                              @Value("${app.data-version.cache-ttl:5000}") long cacheTtlMillis) {
+        this.dataVersionRepository = dataVersionRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        // 조회 전용 - 쓰기 트랜잭션으로 열면 ETag 확인마다 read-your-writes 대상이 되어 이후 조회가 모두 primary로 감
+        this.transaction.setReadOnly(true);
+        this.cacheTtlMillis = cacheTtlMillis;
+    }
+
+    /**
+     * 사용자 데이터 버전 증가 (호출자의 샤드 트랜잭션에서)
+     *
+     * @return 증가한 버전
+     */
+    public long bump(Long userId) {
+        if (dataVersionRepository.increment(userId) > 0) {
+            return dataVersionRepository.findVersion(userId).orElseThrow();
+        }
+
+        // 첫 쓰기: 같은 트랜잭션에서 행 생성 (별도 트랜잭션은 커넥션을 하나 더 사용 → 동시 첫 쓰기가 풀을 모두 점유하면 교착)
+        // 동시에 생성 중이면 그 트랜잭션이 끝날 때까지 대기 후 무시, 이어서 증가
+        if (dataVersionRepository.insertIfAbsent(userId) == 0) {
+            log.debug("Data version already created concurrently: userId={}", userId);
+        }
+        dataVersionRepository.increment(userId);
+        return dataVersionRepository.findVersion(userId).orElseThrow();
+    }
+
+    /**
+     * 현재 사용자 데이터 버전 (쓰기가 없었으면 0)
+     */
+    public long current(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(userId);
+        if (entry != null && now - entry.loadedAt() < cacheTtlMillis) {
+            return entry.version();
+        }
+
+        long evictionsBefore = evictions.get();
+        Long version = transaction.execute(status -> dataVersionRepository.findVersion(userId).orElse(0L));
+        long value = version != null ? version : 0L;
+
+        if (evictions.get() == evictionsBefore) {
+            if (cache.size() >= MAX_CACHE_SIZE) {
+                cache.clear();
+            }
+            cache.put(userId, new Entry(value, now));
+        }
+        return value;
+    }
+
+    @Override
+    public void evict(Long userId, CacheInvalidationBus.Scope scope) {
+        evictions.incrementAndGet();
+        cache.remove(userId);
+    }
+
+    @Override
+    public void evictAll() {
+        evictions.incrementAndGet();
+        cache.clear();
+    }
+
+    private record Entry(long version, long loadedAt) {
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.example.giftmoney.service;
+
+import com.example.giftmoney.config.CacheInvalidationBus;
+import com.example.giftmoney.config.ShardContext;
+import com.example.giftmoney.domain.entity.Dimension;
+import com.example.giftmoney.domain.value.DimensionLabels;
+import com.example.giftmoney.repository.DimensionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 행사 유형/관계 라벨 ↔ 정수 키 변환 사전 (인스턴스 로컬 캐시)
+ *
+ * - 사전 항목은 추가만 되고 변경되지 않으므로, 캐시에 없으면 DB에서 다시 읽는 것만으로 일관성 유지
+ * - 새 라벨은 업무 트랜잭션 안에서 INSERT ... ON CONFLICT DO NOTHING으로 생성
+ *   (별도 트랜잭션은 커넥션을 하나 더 사용 → 동시 첫 쓰기가 풀을 모두 점유하면 서로 두 번째 커넥션을 기다리며 교착)
+ * - 라벨을 생성한 트랜잭션의 사전은 커밋 전까지 트랜잭션 로컬로만 보관하고, 완료(커밋/롤백) 후 공유 캐시에서 삭제
+ *   → 커밋되지 않은 키가 다른 요청의 캐시에 들어가지 않음
+ * - 캐시 항목은 읽어온 샤드를 기억 → 사용자가 다른 샤드로 이전되면 새 샤드에서 다시 로드 (키가 샤드마다 다름)
+ * - 사용자 수 상한(MAX_USERS)을 넘으면 전체 비우고, 항목은 TTL이 지나면 다시 로드 (한 번 접근한 사용자가 계속 남지 않음)
+ */
+@Slf4j
+@Service
+public class DimensionDictionary implements CacheInvalidationBus.Listener {
+
+    // 캐시 사용자 수가 이 수를 넘으면 전체 비움
+    private static final int MAX_USERS = 10_000;
+
+    private final DimensionRepository dimensionRepository;
+    private final long ttlMillis;
+
+    private final Map<Long, Entries> cache = new ConcurrentHashMap<>();
+
+    public DimensionDictionary(DimensionRepository dimensionRepository,
+                               @Value("${app.cache.dimensions.ttl:600000}") long ttlMillis) {
+        this.dimensionRepository = dimensionRepository;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 라벨을 정수 키로 변환 (없으면 생성)
+     *
+     * @return 라벨이 비어있으면 null
+     */
+    public Integer resolve(Long userId, Dimension.Kind kind, String label) {
+        if (label == null || label.isBlank()) {
+            return null;
+        }
+        String normalized = label.trim();
+        if (normalized.length() > Dimension.MAX_LABEL_LENGTH) {
+            throw new IllegalArgumentException("라벨은 " + Dimension.MAX_LABEL_LENGTH + "자 이내여야 합니다: " + normalized);
+        }
+
+        Integer id = entries(userId).idOf(kind, normalized);
+        if (id != null) {
+            return id;
+        }
+
+        // 다른 인스턴스가 추가했을 수 있으므로 다시 로드 후 확인
+        id = reload(userId).idOf(kind, normalized);
+        if (id != null) {
+            return id;
+        }
+
+        return create(userId, kind, normalized);
+    }
+
+    public String label(Long userId, Integer id) {
+        if (id == null) {
+            return null;
+        }
+        String label = entries(userId).labelOf(id);
+        return label != null ? label : reload(userId).labelOf(id);
+    }
+
+    public DimensionLabels labels(Long userId) {
+        return id -> label(userId, id);
+    }
+
+    public void evict(Long userId) {
+        cache.remove(userId);
+    }
+
+    @Override
+    public void evict(Long userId, CacheInvalidationBus.Scope scope) {
+        if (scope != CacheInvalidationBus.Scope.GIFT_MONEY) {
+            evict(userId);
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        cache.clear();
+    }
+
+    private Integer create(Long userId, Dimension.Kind kind, String label) {
+        // 동시에 같은 라벨을 생성 중이면 그 트랜잭션이 끝날 때까지 대기 후 무시 → 커밋된 항목 사용
+        if (dimensionRepository.insertIfAbsent(userId, kind.name(), label) == 0) {
+            log.debug("Dimension already created concurrently: userId={}, kind={}", userId, kind);
+        }
+        transactionEntries().putIfAbsent(userId, null);
+
+        Integer id = reload(userId).idOf(kind, label);
+        if (id == null) {
+            throw new IllegalStateException("사전 항목 생성에 실패했습니다: " + label);
+        }
+        return id;
+    }
+
+    private Entries entries(Long userId) {
+        Map<Long, Entries> local = currentTransactionEntries();
+        Entries entries = local != null && local.containsKey(userId) ? local.get(userId) : cache.get(userId);
+        boolean fresh = entries != null && entries.shard == ShardContext.current()
+                && System.currentTimeMillis() - entries.loadedAt < ttlMillis;
+        return fresh ? entries : reload(userId);
+    }
+
+    private Entries reload(Long userId) {
+        Entries entries = new Entries(ShardContext.current(), dimensionRepository.findByUserId(userId));
+        Map<Long, Entries> local = currentTransactionEntries();
+        if (local != null && local.containsKey(userId)) {
+            // 이 트랜잭션이 생성한 (커밋 전) 항목 포함 → 트랜잭션 로컬로만 보관
+            local.put(userId, entries);
+        } else {
+            if (cache.size() >= MAX_USERS && !cache.containsKey(userId)) {
+                cache.clear();
+            }
+            cache.put(userId, entries);
+        }
+        return entries;
+    }
+
+    // 라벨을 생성한 트랜잭션의 사용자별 사전 (없으면 null)
+    @SuppressWarnings("unchecked")
+    private Map<Long, Entries> currentTransactionEntries() {
+        return (Map<Long, Entries>) TransactionSynchronizationManager.getResource(this);
+    }
+
+    private Map<Long, Entries> transactionEntries() {
+        Map<Long, Entries> local = currentTransactionEntries();
+        if (local != null) {
+            return local;
+        }
+        Map<Long, Entries> entries = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(this, entries);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(DimensionDictionary.this);
+                // 커밋되었으면 다음 조회에서 커밋된 항목으로 다시 로드, 롤백되었으면 생성 전 상태로
+                entries.keySet().forEach(cache::remove);
+            }
+        });
+        return entries;
+    }
+
+    /**
+     * 사용자 한 명의 사전 스냅샷 (불변)
+     */
+    private static final class Entries {
+
+        private final int shard;
+        private final long loadedAt = System.currentTimeMillis();
+        private final Map<Dimension.Kind, Map<String, Integer>> ids = new EnumMap<>(Dimension.Kind.class);
+        private final Map<Integer, String> labels = new HashMap<>();
+
+        private Entries(int shard, List<Dimension> dimensions) {
+            this.shard = shard;
+            for (Dimension.Kind kind : Dimension.Kind.values()) {
+                ids.put(kind, new HashMap<>());
+            }
+            for (Dimension dimension : dimensions) {
+                ids.get(dimension.getKind()).put(dimension.getLabel(), dimension.getId());
+                labels.put(dimension.getId(), dimension.getLabel());
+            }
+        }
+
+        private Integer idOf(Dimension.Kind kind, String label) {
+            return ids.get(kind).get(label);
+        }
+
+        private String labelOf(Integer id) {
+            return labels.get(id);
+        }
+    }
+
+}
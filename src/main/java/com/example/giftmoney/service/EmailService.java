@@ -1,5 +1,7 @@
 package com.example.giftmoney.service;
 
+import com.example.giftmoney.config.AppMetrics;
+import com.example.giftmoney.config.BlockingIoExecutor;
 import com.example.giftmoney.domain.entity.EmailVerification;
 import com.example.giftmoney.domain.entity.User;
 import com.example.giftmoney.repository.EmailVerificationRepository;
@@ -13,6 +15,8 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +26,9 @@ public class EmailService {
     private final JavaMailSender mailSender;
     private final EmailVerificationRepository verificationRepository;
     private final UserRepository userRepository;
+    private final BlockingIoExecutor blockingIoExecutor;
+    private final AppMetrics appMetrics;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${spring.mail.username}")
     private String fromEmail;
@@ -29,8 +36,12 @@ public class EmailService {
     @Value("${app.base-url:http://localhost:8080}")
     private String baseUrl;
 
-    @Transactional
     public void sendVerificationEmail(String email) {
+        MimeMessage message = transactionTemplate.execute(status -> prepareVerificationEmail(email));
+        send("verification", message, email);
+    }
+
+    private MimeMessage prepareVerificationEmail(String email) {
         try {
             // 기존 미인증 토큰이 있으면 삭제
             verificationRepository.findByEmailAndVerifiedFalse(email)
@@ -52,9 +63,7 @@ public class EmailService {
             String htmlContent = buildVerificationEmail(verificationUrl);
 
             helper.setText(htmlContent, true);
-
-            mailSender.send(message);
-            log.info("인증 이메일 발송 완료: {}", email);
+            return message;
 
         } catch (MessagingException e) {
             log.error("이메일 발송 실패: {}", email, e);
@@ -62,6 +71,17 @@ public class EmailService {
         }
     }
 
+    // 토큰/OTP 저장 트랜잭션이 끝난 뒤 (DB 커넥션을 반납한 뒤) 전송하고 결과를 기다림 - 실패는 호출자에게 그대로 전달
+    // 가상 스레드 모드에서는 캐리어 스레드를 고정시키지 않도록 BlockingIoExecutor에서 전송
+    // 전송 시간은 메일 종류(type)별로 기록 (giftmoney.mail.send)
+    private void send(String type, MimeMessage message, String email) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            log.warn("메일 전송이 트랜잭션 안에서 호출됨 - SMTP 시간 동안 커넥션을 점유합니다: type={}", type);
+        }
+        appMetrics.mailSend(type, () -> blockingIoExecutor.run(() -> mailSender.send(message)));
+        log.info("이메일 발송 완료: {}", email);
+    }
+
     private String buildVerificationEmail(String verificationUrl) {
         return """
                 <!DOCTYPE html>
@@ -157,8 +177,12 @@ public class EmailService {
         return verificationRepository.findByEmailAndVerifiedFalse(email).isEmpty();
     }
 
-    @Transactional
     public void sendOtpCode(String email) {
+        MimeMessage message = transactionTemplate.execute(status -> prepareOtpEmail(email));
+        send("otp", message, email);
+    }
+
+    private MimeMessage prepareOtpEmail(String email) {
         try {
             // 기존 미인증 OTP 삭제
             verificationRepository.findByEmailAndVerifiedFalse(email)
@@ -178,9 +202,7 @@ public class EmailService {
 
             String htmlContent = buildOtpEmail(verification.getOtpCode());
             helper.setText(htmlContent, true);
-
-            mailSender.send(message);
-            log.info("OTP 코드 발송 완료: {}", email);
+            return message;
 
         } catch (MessagingException e) {
             log.error("OTP 이메일 발송 실패: {}", email, e);
@@ -1,17 +1,20 @@
 package com.example.giftmoney.service;
 
+import com.example.giftmoney.config.AppMetrics;
+import com.example.giftmoney.config.CacheInvalidationBus;
+import com.example.giftmoney.config.ShardTransactional;
+import com.example.giftmoney.domain.entity.Dimension;
 import com.example.giftmoney.domain.entity.GiftMoney;
-import com.example.giftmoney.domain.entity.User;
+import com.example.giftmoney.domain.value.Money;
 import com.example.giftmoney.dto.FileUploadResponse;
 import com.example.giftmoney.dto.FileUploadResponse.ErrorDetail;
 import com.example.giftmoney.repository.GiftMoneyRepository;
-import com.example.giftmoney.repository.UserRepository;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -28,12 +31,29 @@ import java.util.List;
 public class FileUploadService {
 
     private final GiftMoneyRepository giftMoneyRepository;
-    private final UserRepository userRepository;
-
-    @Transactional
+    private final DimensionDictionary dimensionDictionary;
+    private final CounterpartyService counterpartyService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ChangeLogService changeLogService;
+    private final AppMetrics appMetrics;
+
+    // 처리 시간/저장 행 수 기록 (giftmoney.import, giftmoney.import.rows) - 커밋 시간은 포함하지 않음
+    @ShardTransactional
     public FileUploadResponse uploadExcel(Long userId, MultipartFile file) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+        Timer.Sample sample = appMetrics.start();
+        try {
+            FileUploadResponse response = importExcel(userId, file);
+            appMetrics.importFinished(sample, true, response.getSuccessCount());
+            return response;
+        } catch (RuntimeException e) {
+            appMetrics.importFinished(sample, false, 0);
+            throw e;
+        }
+    }
+
+    private FileUploadResponse importExcel(Long userId, MultipartFile file) {
+        // 탈퇴(비활성) 계정은 JwtAuthenticationFilter에서 거부됨
+        // (여기서 users를 조회하면 샤드 트랜잭션 중 디렉터리 커넥션을 하나 더 사용)
 
         List<GiftMoney> entities = new ArrayList<>();
         List<ErrorDetail> errors = new ArrayList<>();
@@ -51,7 +71,7 @@ public class FileUploadService {
                 }
 
                 try {
-                    GiftMoney entity = parseRow(user, row);
+                    GiftMoney entity = parseRow(userId, row);
                     entities.add(entity);
                 } catch (Exception e) {
                     log.error("Failed to parse row {}: {}", i + 1, e.getMessage());
@@ -80,7 +100,11 @@ public class FileUploadService {
             }
 
             // 모든 데이터가 유효한 경우에만 저장
+            counterpartyService.attachAll(userId, entities);
             giftMoneyRepository.saveAll(entities);
+            counterpartyService.addAll(entities);
+            changeLogService.recordUpserts(userId, entities.stream().map(GiftMoney::getId).toList());
+            cacheInvalidationBus.publish(userId, CacheInvalidationBus.Scope.GIFT_MONEY);
 
             return FileUploadResponse.builder()
                     .successCount(entities.size())
@@ -94,9 +118,9 @@ public class FileUploadService {
         }
     }
 
-    private GiftMoney parseRow(User user, Row row) {
+    private GiftMoney parseRow(Long userId, Row row) {
         GiftMoney entity = new GiftMoney();
-        entity.setUser(user);
+        entity.setUserId(userId);
 
         // 0: event_date (날짜)
         Cell dateCell = row.getCell(0);
@@ -111,7 +135,12 @@ public class FileUploadService {
         if (eventTypeCell == null) {
             throw new IllegalArgumentException("행사 유형은 필수입니다");
         }
-        entity.setEventType(getCellValueAsString(eventTypeCell));
+        Integer eventTypeId = dimensionDictionary.resolve(
+                userId, Dimension.Kind.EVENT_TYPE, getCellValueAsString(eventTypeCell));
+        if (eventTypeId == null) {
+            throw new IllegalArgumentException("행사 유형은 필수입니다");
+        }
+        entity.setEventTypeId(eventTypeId);
 
         // 2: name (문자열)
         Cell nameCell = row.getCell(2);
@@ -123,7 +152,8 @@ public class FileUploadService {
         // 3: relation (문자열, optional)
         Cell relationCell = row.getCell(3);
         if (relationCell != null) {
-            entity.setRelation(getCellValueAsString(relationCell));
+            entity.setRelationId(dimensionDictionary.resolve(
+                    userId, Dimension.Kind.RELATION, getCellValueAsString(relationCell)));
         }
 
         // 4: amount (숫자)
@@ -131,10 +161,13 @@ public class FileUploadService {
         if (amountCell == null) {
             throw new IllegalArgumentException("금액은 필수입니다");
         }
-        BigDecimal amount = convertToAmount(amountCell);
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+        Money amount = convertToAmount(amountCell);
+        if (!amount.isPositive()) {
             throw new IllegalArgumentException("금액은 양수여야 합니다");
         }
+        if (amount.toLong() > Money.MAX_AMOUNT) {
+            throw new IllegalArgumentException("금액은 9,999,999,999원 이하여야 합니다");
+        }
         entity.setAmount(amount);
 
         // 5: contact (문자열, optional)
@@ -170,14 +203,19 @@ public class FileUploadService {
         }
     }
 
-    private BigDecimal convertToAmount(Cell cell) {
+    // 금액은 원 단위 정수만 허용 (소수점 금액은 오류 처리)
+    private Money convertToAmount(Cell cell) {
         if (cell.getCellType() == CellType.NUMERIC) {
-            return BigDecimal.valueOf(cell.getNumericCellValue());
+            double value = cell.getNumericCellValue();
+            if (value != Math.rint(value) || Math.abs(value) >= Long.MAX_VALUE) {
+                throw new IllegalArgumentException("금액은 원 단위 정수여야 합니다");
+            }
+            return Money.of((long) value);
         } else if (cell.getCellType() == CellType.STRING) {
             String amountStr = cell.getStringCellValue().replaceAll("[^0-9.]", "");
             try {
-                return new BigDecimal(amountStr);
-            } catch (NumberFormatException e) {
+                return Money.of(new BigDecimal(amountStr).longValueExact());
+            } catch (NumberFormatException | ArithmeticException e) {
                 throw new IllegalArgumentException("올바른 금액 형식이 아닙니다");
             }
         } else {
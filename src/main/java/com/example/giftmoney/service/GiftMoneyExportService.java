@@ -0,0 +1,171 @@
+package com.example.giftmoney.service;
+
+import com.example.giftmoney.config.ShardRoutingDataSource;
+import com.example.giftmoney.domain.value.TransactionType;
+import com.opencsv.CSVWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 전체 장부 내보내기 (CSV / XLSX 스트리밍)
+ *
+ * - JDBC 전진 전용 커서로 fetch-size 행씩 읽어 바로 응답 스트림에 씀 (엔티티/영속성 컨텍스트 없음)
+ * - CSV는 행 단위로 바로 출력, XLSX는 SXSSF 창(window) 크기만큼만 메모리에 두고 나머지는 임시 파일로 내보냄
+ * - 열 순서는 가져오기 양식(TemplateController)과 같고 마지막에 거래 유형 추가 → 내보낸 파일을 그대로 다시 가져올 수 있음
+ * - 호출한 요청 스레드에서 실행 → ShardContext/WorkloadContext가 그대로 적용 (분석 풀 사용)
+ *
+ * ⚡ 성능: 50만 행도 메모리 사용량 일정. CSV는 첫 fetch 직후부터 바이트 전송 (정렬하지 않음 - 정렬하면 전체 정렬이 끝날 때까지 대기),
+ *         XLSX는 ZIP 형식이라 시트를 임시 파일에 모두 쓴 뒤 전송
+ */
+@Slf4j
+@Service
+public class GiftMoneyExportService {
+
+    static final String[] HEADER = {
+        "event_date", "event_type", "giver_name", "giver_relation", "amount", "contact", "memo", "transaction_type"
+    };
+
+    // PostgreSQL은 autocommit = false인 트랜잭션 안에서만 fetch size 단위로 커서를 사용
+    private static final String EXPORT_SQL = "SELECT " +
+            "g.event_date, e.label AS event_type, g.name, r.label AS relation, " +
+            "g.amount, g.contact, g.memo, g.transaction_type " +
+            "FROM gift_money g " +
+            "JOIN dimensions e ON e.id = g.event_type_id " +
+            "LEFT JOIN dimensions r ON r.id = g.relation_id " +
+            "WHERE g.user_id = ?";
+
+    // SXSSF가 메모리에 유지하는 행 수 (초과분은 임시 파일로)
+    private static final int XLSX_WINDOW_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+
+    public GiftMoneyExportService(ShardRoutingDataSource shardDataSource,
+                                  @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(shardDataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transaction = new TransactionTemplate(new DataSourceTransactionManager(shardDataSource));
+        this.transaction.setReadOnly(true);
+    }
+
+    /**
+     * CSV (UTF-8 BOM, 가져오기 양식과 같은 헤더)
+     */
+    public void writeCsv(Long userId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        // Excel에서 한글 깨짐 방지
+        writer.write('\uFEFF');
+        CSVWriter csv = new CSVWriter(writer);
+        csv.writeNext(HEADER, false);
+
+        String[] line = new String[HEADER.length];
+        long rows = stream(userId, rs -> {
+            line[0] = String.valueOf(rs.getDate(1).toLocalDate());
+            line[1] = text(rs.getString(2));
+            line[2] = text(rs.getString(3));
+            line[3] = text(rs.getString(4));
+            line[4] = String.valueOf(rs.getLong(5));
+            line[5] = text(rs.getString(6));
+            line[6] = text(rs.getString(7));
+            line[7] = TransactionType.fromCode(rs.getShort(8)).name();
+            csv.writeNext(line, false);
+            // CSVWriter는 출력 예외를 저장만 함 → 클라이언트 연결이 끊기면 커서 조회 중단
+            if (csv.getException() != null) {
+                throw new UncheckedIOException(csv.getException());
+            }
+        });
+        csv.flush();
+        log.info("CSV export completed: userId={}, rows={}", userId, rows);
+    }
+
+    /**
+     * XLSX (SXSSF 스트리밍, 첫 시트 = 가져오기 양식)
+     */
+    public void writeXlsx(Long userId, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+        try {
+            Sheet sheet = workbook.createSheet("경조금");
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < HEADER.length; i++) {
+                header.createCell(i).setCellValue(HEADER[i]);
+            }
+
+            int[] rowIndex = {1};
+            long rows = stream(userId, rs -> {
+                Row row = sheet.createRow(rowIndex[0]++);
+                Cell date = row.createCell(0);
+                date.setCellValue(rs.getDate(1).toLocalDate());
+                date.setCellStyle(dateStyle);
+                row.createCell(1).setCellValue(rs.getString(2));
+                row.createCell(2).setCellValue(rs.getString(3));
+                setText(row, 3, rs.getString(4));
+                row.createCell(4).setCellValue(rs.getLong(5));
+                setText(row, 5, rs.getString(6));
+                setText(row, 6, rs.getString(7));
+                row.createCell(7).setCellValue(TransactionType.fromCode(rs.getShort(8)).name());
+            });
+
+            workbook.write(out);
+            log.info("XLSX export completed: userId={}, rows={}", userId, rows);
+        } finally {
+            // SXSSF 임시 파일 삭제
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private long stream(Long userId, RowCallbackHandler handler) {
+        long[] count = {0};
+        try {
+            transaction.executeWithoutResult(status -> jdbcTemplate.query(EXPORT_SQL, rs -> {
+                handler.processRow(rs);
+                count[0]++;
+            }, userId));
+        } catch (UncheckedIOException e) {
+            log.warn("Export aborted: userId={}, rows={}, reason={}", userId, count[0], e.getMessage());
+            throw e;
+        }
+        return count[0];
+    }
+
+    private static void setText(Row row, int column, String value) {
+        if (value != null) {
+            row.createCell(column).setCellValue(value);
+        }
+    }
+
+    // CSV 수식 주입 방지: =, +, -, @로 시작하는 텍스트는 작은따옴표를 붙여 문자열로 취급
+    private static String text(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') {
+            return "'" + value;
+        }
+        return value;
+    }
+
+}
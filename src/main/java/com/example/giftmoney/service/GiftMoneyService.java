@@ -1,47 +1,86 @@
 package com.example.giftmoney.service;
 
+import com.example.giftmoney.config.AppMetrics;
+import com.example.giftmoney.config.CacheInvalidationBus;
+import com.example.giftmoney.config.ShardTransactional;
+import com.example.giftmoney.domain.entity.Dimension;
 import com.example.giftmoney.domain.entity.GiftMoney;
-import com.example.giftmoney.domain.entity.User;
+import com.example.giftmoney.domain.value.DimensionLabels;
+import com.example.giftmoney.domain.value.Money;
+import com.example.giftmoney.domain.value.TransactionType;
+import com.example.giftmoney.dto.GiftMoneyChangesResponse;
+import com.example.giftmoney.dto.GiftMoneyListResponse;
+import com.example.giftmoney.dto.GiftMoneyMutationResponse;
 import com.example.giftmoney.dto.GiftMoneyRequest;
 import com.example.giftmoney.dto.GiftMoneyResponse;
 import com.example.giftmoney.dto.GiftMoneyStatisticsResponse;
+import com.example.giftmoney.dto.GiftMoneySummaryDelta;
+import com.example.giftmoney.repository.DataVersionRepository;
+import com.example.giftmoney.repository.GiftMoneyChangeRepository;
+import com.example.giftmoney.repository.GiftMoneyListRepository;
 import com.example.giftmoney.repository.GiftMoneyRepository;
-import com.example.giftmoney.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
+@ShardTransactional(readOnly = true)
 public class GiftMoneyService {
 
     private final GiftMoneyRepository giftMoneyRepository;
-    private final UserRepository userRepository;
+    private final DimensionDictionary dimensionDictionary;
+    private final CounterpartyService counterpartyService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ChangeLogService changeLogService;
+    private final GiftMoneyChangeRepository changeRepository;
+    private final GiftMoneyListRepository listRepository;
+    private final DataVersionRepository dataVersionRepository;
+    private final DataVersionService dataVersionService;
+    private final AppMetrics appMetrics;
 
-    @Transactional
-    public GiftMoneyResponse create(Long userId, GiftMoneyRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+    /**
+     * 등록 (요약 통계 변화량 포함 - 통계 다시 집계 없음)
+     */
+    @ShardTransactional
+    public GiftMoneyMutationResponse create(Long userId, GiftMoneyRequest request) {
+        // 탈퇴(비활성) 계정은 JwtAuthenticationFilter에서 거부됨
+        // (여기서 users를 조회하면 샤드 트랜잭션 중 디렉터리 커넥션을 하나 더 사용)
 
         GiftMoney entity = new GiftMoney();
-        entity.setUser(user);
+        entity.setUserId(userId);
         entity.setEventDate(request.getEventDate());
-        entity.setEventType(request.getEventType());
-        entity.setTransactionType(request.getTransactionType());
+        entity.setEventTypeId(dimensionDictionary.resolve(userId, Dimension.Kind.EVENT_TYPE, request.getEventType()));
+        entity.setTransactionType(TransactionType.from(request.getTransactionType()));
         entity.setName(request.getName());
-        entity.setRelation(request.getRelation());
-        entity.setAmount(request.getAmount());
+        entity.setRelationId(dimensionDictionary.resolve(userId, Dimension.Kind.RELATION, request.getRelation()));
+        entity.setAmount(Money.of(request.getAmount()));
         entity.setContact(request.getContact());
         entity.setMemo(request.getMemo());
 
+        counterpartyService.attach(userId, entity);
+
         GiftMoney saved = giftMoneyRepository.save(entity);
-        return GiftMoneyResponse.from(saved);
+        counterpartyService.add(saved);
+        changeLogService.recordUpserts(userId, List.of(saved.getId()));
+        cacheInvalidationBus.publish(userId, CacheInvalidationBus.Scope.GIFT_MONEY);
+        return new GiftMoneyMutationResponse(GiftMoneyResponse.from(saved, dimensionDictionary.labels(userId)),
+                GiftMoneySummaryDelta.added(saved.getTransactionType(), saved.getAmount()));
     }
 
     public Page<GiftMoneyResponse> findAll(Long userId, Pageable pageable, String search, String transactionType) {
@@ -49,58 +88,278 @@ public class GiftMoneyService {
 
         // transactionType과 search 조건에 따라 쿼리 선택
         if (transactionType != null && !transactionType.isBlank()) {
+            TransactionType type = TransactionType.from(transactionType);
             if (search != null && !search.isBlank()) {
                 page = giftMoneyRepository.findByUserIdAndTransactionTypeAndNameContaining(
-                    userId, transactionType, search, pageable);
+                    userId, type, GiftMoneyListRepository.likePattern(search), pageable);
             } else {
-                page = giftMoneyRepository.findByUserIdAndTransactionType(userId, transactionType, pageable);
+                page = giftMoneyRepository.findByUserIdAndTransactionType(userId, type, pageable);
             }
         } else {
             if (search != null && !search.isBlank()) {
-                page = giftMoneyRepository.findByUserIdAndNameContaining(userId, search, pageable);
+                page = giftMoneyRepository.findByUserIdAndNameContaining(userId,
+                        GiftMoneyListRepository.likePattern(search), pageable);
             } else {
                 page = giftMoneyRepository.findByUserId(userId, pageable);
             }
         }
 
-        return page.map(GiftMoneyResponse::from);
+        DimensionLabels labels = dimensionDictionary.labels(userId);
+        return page.map(entity -> GiftMoneyResponse.from(entity, labels));
+    }
+
+    /**
+     * 목록 간단 조회: 요청한 필드만 SELECT, 커서(keyset) 또는 page(offset) 페이지
+     *
+     * ⚡ 성능: memo(TEXT)/contact 등 요청하지 않은 컬럼은 읽지 않고, Page 메타데이터와 COUNT 쿼리(total=false)도 생략.
+     *         커서 사용 시 앞 페이지를 건너뛰지 않고 (event_date, id) 인덱스 위치부터 바로 읽음
+     *
+     * @param fields 쉼표로 구분한 필드 (null/빈 값이면 전체)
+     * @param cursor 이전 응답의 nextCursor (있으면 page 무시)
+     */
+    public GiftMoneyListResponse findList(Long userId, String fields, String cursor, int page, int size,
+                                          String search, String transactionType, boolean withTotal) {
+        List<String> names = parseFields(fields);
+        List<String> columns = names.stream()
+                .filter(GiftMoneyListRepository.COLUMNS::containsKey)
+                .map(GiftMoneyListRepository.COLUMNS::get)
+                .toList();
+        Short type = transactionType != null && !transactionType.isBlank()
+                ? TransactionType.from(transactionType).getCode() : null;
+        String keyword = search != null && !search.isBlank() ? search : null;
+
+        LocalDate afterDate = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split("_", 2);
+            try {
+                afterDate = LocalDate.parse(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (DateTimeParseException | NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("잘못된 cursor 값입니다");
+            }
+        }
+
+        List<Object[]> rows = listRepository.find(userId, columns, type, keyword,
+                afterDate, afterId, (long) page * size, size + 1);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        DimensionLabels labels = dimensionDictionary.labels(userId);
+        List<Map<String, Object>> content = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            content.add(toFields(row, names, labels));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Object[] last = rows.get(rows.size() - 1);
+            nextCursor = toLocalDate(last[1]) + "_" + ((Number) last[0]).longValue();
+        }
+
+        return GiftMoneyListResponse.builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .total(withTotal ? listRepository.count(userId, type, keyword) : null)
+                .build();
+    }
+
+    private static List<String> parseFields(String fields) {
+        List<String> names = new ArrayList<>();
+        names.add("id");
+        if (fields == null || fields.isBlank()) {
+            names.add("eventDate");
+            names.addAll(GiftMoneyListRepository.COLUMNS.keySet());
+            return names;
+        }
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty() || names.contains(name)) {
+                continue;
+            }
+            if (!name.equals("eventDate") && !GiftMoneyListRepository.COLUMNS.containsKey(name)) {
+                throw new IllegalArgumentException("알 수 없는 필드입니다: " + name);
+            }
+            names.add(name);
+        }
+        return names;
+    }
+
+    // 조회 행([0] id, [1] event_date, [2..] 요청 컬럼 순서) → 필드 이름별 값
+    private static Map<String, Object> toFields(Object[] row, List<String> names, DimensionLabels labels) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        int column = 2;
+        for (String name : names) {
+            switch (name) {
+                case "id" -> values.put(name, ((Number) row[0]).longValue());
+                case "eventDate" -> values.put(name, toLocalDate(row[1]));
+                default -> {
+                    Object value = row[column++];
+                    values.put(name, switch (name) {
+                        case "eventType", "relation" -> value != null ? labels.label(((Number) value).intValue()) : null;
+                        case "transactionType" -> TransactionType.fromCode(((Number) value).shortValue()).name();
+                        case "amount", "counterpartyId" -> value != null ? ((Number) value).longValue() : null;
+                        case "createdAt", "updatedAt" -> value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value;
+                        default -> toText(value);
+                    });
+                }
+            }
+        }
+        return values;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof java.sql.Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    // H2는 TEXT 컬럼을 CLOB으로 반환
+    private static Object toText(Object value) {
+        if (value instanceof Clob clob) {
+            try {
+                return clob.getSubString(1, (int) clob.length());
+            } catch (SQLException e) {
+                throw new IllegalStateException("텍스트 컬럼을 읽을 수 없습니다", e);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 증분 동기화: 커서 (since, after) 이후 변경된 행의 현재 값과 삭제된 ID
+     *
+     * ⚡ 성능: 변경이 없으면 버전 캐시만 확인하고 쿼리 없이 응답,
+     *         변경이 있으면 변경 로그 PK 범위 조회 + 변경된 행 ID 조회 (쿼리 2개)
+     */
+    public GiftMoneyChangesResponse changes(Long userId, long since, Long after, int limit) {
+        long version = dataVersionService.current(userId);
+        if (since >= version && after == null) {
+            return GiftMoneyChangesResponse.builder()
+                    .since(since)
+                    .upserts(List.of())
+                    .deleted(List.of())
+                    .build();
+        }
+
+        // 정리된 구간 이전 지점 → 전체 목록을 다시 받고 현재 버전부터 동기화
+        long compactedSeq = dataVersionRepository.findCompactedSeq(userId).orElse(0L);
+        if (since < compactedSeq) {
+            return GiftMoneyChangesResponse.builder()
+                    .reset(true)
+                    .since(version)
+                    .upserts(List.of())
+                    .deleted(List.of())
+                    .build();
+        }
+
+        List<Object[]> rows = changeRepository.findChanges(userId, since,
+                after != null ? after : Long.MAX_VALUE, limit + 1);
+        boolean hasMore = rows.size() > limit;
+        if (hasMore) {
+            rows = rows.subList(0, limit);
+        }
+        if (rows.isEmpty()) {
+            return GiftMoneyChangesResponse.builder()
+                    .since(since)
+                    .upserts(List.of())
+                    .deleted(List.of())
+                    .build();
+        }
+
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Object[] row : rows) {
+            ids.add(((Number) row[0]).longValue());
+        }
+        Map<Long, GiftMoney> current = giftMoneyRepository.findByUserIdAndIdIn(userId, ids).stream()
+                .collect(Collectors.toMap(GiftMoney::getId, Function.identity()));
+
+        DimensionLabels labels = dimensionDictionary.labels(userId);
+        List<GiftMoneyResponse> upserts = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        for (Long id : ids) {
+            GiftMoney entity = current.get(id);
+            if (entity != null) {
+                upserts.add(GiftMoneyResponse.from(entity, labels));
+            } else {
+                deleted.add(id);
+            }
+        }
+
+        Object[] last = rows.get(rows.size() - 1);
+        return GiftMoneyChangesResponse.builder()
+                .since(((Number) last[1]).longValue())
+                .after(hasMore ? ((Number) last[0]).longValue() : null)
+                .hasMore(hasMore)
+                .upserts(upserts)
+                .deleted(deleted)
+                .build();
     }
 
     public GiftMoneyResponse findById(Long userId, Long id) {
         GiftMoney entity = giftMoneyRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new IllegalArgumentException("항목을 찾을 수 없습니다"));
-        return GiftMoneyResponse.from(entity);
+        return GiftMoneyResponse.from(entity, dimensionDictionary.labels(userId));
     }
 
-    @Transactional
-    public GiftMoneyResponse update(Long userId, Long id, GiftMoneyRequest request) {
+    /**
+     * 수정 (요약 통계 변화량 = 수정 전 값 제외 + 수정 후 값 추가)
+     */
+    @ShardTransactional
+    public GiftMoneyMutationResponse update(Long userId, Long id, GiftMoneyRequest request) {
         GiftMoney entity = giftMoneyRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new IllegalArgumentException("항목을 찾을 수 없습니다"));
 
+        // 수정 전 값 (인물 합계에서 제외할 기여분)
+        Long previousCounterpartyId = entity.getCounterpartyId();
+        TransactionType previousType = entity.getTransactionType();
+        Money previousAmount = entity.getAmount();
+
         entity.setEventDate(request.getEventDate());
-        entity.setEventType(request.getEventType());
-        entity.setTransactionType(request.getTransactionType());
+        entity.setEventTypeId(dimensionDictionary.resolve(userId, Dimension.Kind.EVENT_TYPE, request.getEventType()));
+        entity.setTransactionType(TransactionType.from(request.getTransactionType()));
         entity.setName(request.getName());
-        entity.setRelation(request.getRelation());
-        entity.setAmount(request.getAmount());
+        entity.setRelationId(dimensionDictionary.resolve(userId, Dimension.Kind.RELATION, request.getRelation()));
+        entity.setAmount(Money.of(request.getAmount()));
         entity.setContact(request.getContact());
         entity.setMemo(request.getMemo());
 
+        counterpartyService.attach(userId, entity);
+
         GiftMoney updated = giftMoneyRepository.save(entity);
-        return GiftMoneyResponse.from(updated);
+        counterpartyService.remove(userId, previousCounterpartyId, previousType, previousAmount);
+        counterpartyService.add(updated);
+        if (!previousCounterpartyId.equals(updated.getCounterpartyId())) {
+            counterpartyService.deleteIfEmpty(userId, previousCounterpartyId);
+        }
+        changeLogService.recordUpserts(userId, List.of(updated.getId()));
+        cacheInvalidationBus.publish(userId, CacheInvalidationBus.Scope.GIFT_MONEY);
+        return new GiftMoneyMutationResponse(GiftMoneyResponse.from(updated, dimensionDictionary.labels(userId)),
+                GiftMoneySummaryDelta.removed(previousType, previousAmount)
+                        .plus(GiftMoneySummaryDelta.added(updated.getTransactionType(), updated.getAmount())));
     }
 
-    @Transactional
-    public void delete(Long userId, Long id) {
+    /**
+     * 삭제 (요약 통계 변화량 = 삭제한 값 제외)
+     */
+    @ShardTransactional
+    public GiftMoneySummaryDelta delete(Long userId, Long id) {
         GiftMoney entity = giftMoneyRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new IllegalArgumentException("항목을 찾을 수 없습니다"));
         giftMoneyRepository.delete(entity);
+        counterpartyService.remove(userId, entity.getCounterpartyId(), entity.getTransactionType(), entity.getAmount());
+        counterpartyService.deleteIfEmpty(userId, entity.getCounterpartyId());
+        changeLogService.recordDelete(userId, id);
+        cacheInvalidationBus.publish(userId, CacheInvalidationBus.Scope.GIFT_MONEY);
+        return GiftMoneySummaryDelta.removed(entity.getTransactionType(), entity.getAmount());
     }
 
     // 받은/보낸 경조금 통계 조회
     // ⚡ 성능: 단일 쿼리로 최적화 (기존 6개 쿼리 → 1개 쿼리)
     public GiftMoneyStatisticsResponse getStatistics(Long userId) {
-        List<Object[]> results = giftMoneyRepository.getStatisticsRaw(userId);
+        List<Object[]> results = appMetrics.statisticsQuery("summary",
+                () -> giftMoneyRepository.getStatisticsRaw(userId));
 
         if (results == null || results.isEmpty()) {
             return new GiftMoneyStatisticsResponse();
@@ -111,41 +370,32 @@ public class GiftMoneyService {
 
         GiftMoneyStatisticsResponse stats = new GiftMoneyStatisticsResponse();
 
-        // 쿼리 결과 매핑 (순서: receivedTotal, receivedCount, receivedAvg, sentTotal, sentCount, sentAvg, total, totalCount, avgAmount)
-        // Number 타입으로 받아서 안전하게 변환
-        stats.setReceivedTotalAmount(convertToBigDecimal(result[0]));
-        stats.setReceivedCount(convertToLong(result[1]));
-        stats.setReceivedAvgAmount(convertToDouble(result[2]));
-
-        stats.setSentTotalAmount(convertToBigDecimal(result[3]));
-        stats.setSentCount(convertToLong(result[4]));
-        stats.setSentAvgAmount(convertToDouble(result[5]));
+        // 쿼리 결과 매핑 (순서: receivedTotal, receivedCount, sentTotal, sentCount)
+        // 합계/평균은 long 정수 연산 (합계는 오버플로 검사, 평균은 정수 나눗셈)
+        long receivedTotal = toLong(result[0]);
+        long receivedCount = toLong(result[1]);
+        long sentTotal = toLong(result[2]);
+        long sentCount = toLong(result[3]);
+        long total = Money.sum(receivedTotal, sentTotal);
+        long totalCount = receivedCount + sentCount;
 
-        stats.setTotalAmount(convertToBigDecimal(result[6]));
-        stats.setTotalCount(convertToLong(result[7]));
-        stats.setAvgAmount(convertToDouble(result[8]));
+        stats.setReceivedTotalAmount(receivedTotal);
+        stats.setReceivedCount(receivedCount);
+        stats.setReceivedAvgAmount(Money.average(receivedTotal, receivedCount));
 
-        return stats;
-    }
+        stats.setSentTotalAmount(sentTotal);
+        stats.setSentCount(sentCount);
+        stats.setSentAvgAmount(Money.average(sentTotal, sentCount));
 
-    // 안전한 타입 변환 헬퍼 메서드
-    private BigDecimal convertToBigDecimal(Object value) {
-        if (value == null) return BigDecimal.ZERO;
-        if (value instanceof BigDecimal) return (BigDecimal) value;
-        if (value instanceof Number) return BigDecimal.valueOf(((Number) value).doubleValue());
-        return BigDecimal.ZERO;
-    }
+        stats.setTotalAmount(total);
+        stats.setTotalCount(totalCount);
+        stats.setAvgAmount(Money.average(total, totalCount));
 
-    private Long convertToLong(Object value) {
-        if (value == null) return 0L;
-        if (value instanceof Number) return ((Number) value).longValue();
-        return 0L;
+        return stats;
     }
 
-    private Double convertToDouble(Object value) {
-        if (value == null) return 0.0;
-        if (value instanceof Number) return ((Number) value).doubleValue();
-        return 0.0;
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
     }
 
 }
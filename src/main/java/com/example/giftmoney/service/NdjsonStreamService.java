@@ -0,0 +1,193 @@
+package com.example.giftmoney.service;
+
+import com.example.giftmoney.config.ShardRoutingDataSource;
+import com.example.giftmoney.domain.value.DimensionLabels;
+import com.example.giftmoney.domain.value.Money;
+import com.example.giftmoney.domain.value.TransactionType;
+import com.example.giftmoney.dto.GiftMoneyResponse;
+import com.example.giftmoney.dto.PersonStatisticsDto;
+import com.example.giftmoney.repository.GiftMoneyListRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 목록 전체 NDJSON 스트리밍 (Accept: application/x-ndjson, 한 줄에 객체 하나)
+ *
+ * - JSON 응답은 전체 List/Page를 만든 뒤 배열로 직렬화 → 행 수만큼 메모리 사용, 마지막 행을 읽을 때까지 첫 바이트 없음
+ * - 여기서는 내보내기(GiftMoneyExportService)와 같이 JDBC 전진 전용 커서로 fetch-size 행씩 읽어 한 줄씩 바로 씀
+ * - 객체 구조는 JSON 응답의 DTO와 같음 (GiftMoneyResponse, PersonStatisticsDto)
+ * - 첫 바이트를 보낸 뒤 오류가 나면 상태 코드를 바꿀 수 없으므로 응답이 중간에 끊김 → 클라이언트는 마지막 줄이 개행으로 끝나는지 확인
+ *
+ * ⚡ 성능: 첫 바이트까지의 시간과 힙 사용량이 결과 행 수와 무관 (응답 버퍼 크기만큼 쌓이면 전송)
+ */
+@Slf4j
+@Service
+public class NdjsonStreamService {
+
+    private static final String GIFT_MONEY_SQL = "SELECT " +
+            "g.id, g.event_date, g.event_type_id, g.transaction_type, g.name, g.relation_id, " +
+            "g.counterparty_id, g.amount, g.contact, g.memo, g.created_at, g.updated_at " +
+            "FROM gift_money g WHERE g.user_id = ?";
+
+    // 인물별 통계와 같은 조건/정렬 (idx_counterparties_user_balance 순서)
+    private static final String PERSON_SQL = "SELECT " +
+            "c.id, c.name, c.relation_id, c.received_total, c.received_count, c.sent_total, c.sent_count, " +
+            "c.balance, c.last_event_date, c.last_event_type_id " +
+            "FROM counterparties c WHERE c.user_id = ? AND (c.received_count + c.sent_count) > 0 " +
+            "ORDER BY c.balance DESC, c.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final DimensionDictionary dimensionDictionary;
+    private final ObjectWriter writer;
+
+    public NdjsonStreamService(ShardRoutingDataSource shardDataSource,
+                               DimensionDictionary dimensionDictionary,
+                               ObjectMapper objectMapper,
+                               @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(shardDataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transaction = new TransactionTemplate(new DataSourceTransactionManager(shardDataSource));
+        this.transaction.setReadOnly(true);
+        this.dimensionDictionary = dimensionDictionary;
+        // 행마다 flush하지 않음 (버퍼가 찰 때 전송)
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 경조금 목록 (목록 조회와 같은 조건, 최신순)
+     */
+    public void writeGiftMoney(Long userId, String search, String transactionType, HttpServletResponse response) throws IOException {
+        StringBuilder sql = new StringBuilder(GIFT_MONEY_SQL);
+        List<Object> params = new ArrayList<>();
+        params.add(userId);
+        if (transactionType != null && !transactionType.isBlank()) {
+            sql.append(" AND g.transaction_type = ?");
+            params.add(TransactionType.from(transactionType).getCode());
+        }
+        if (search != null && !search.isBlank()) {
+            sql.append(" AND g.name LIKE ? ESCAPE '\\'");
+            params.add(GiftMoneyListRepository.likePattern(search));
+        }
+        sql.append(" ORDER BY g.event_date DESC, g.id DESC");
+
+        DimensionLabels labels = dimensionDictionary.labels(userId);
+        stream(userId, "gift-money", response, sql.toString(), params.toArray(), rs -> GiftMoneyResponse.builder()
+                .id(rs.getLong(1))
+                .eventDate(rs.getDate(2).toLocalDate())
+                .eventType(labels.label(rs.getInt(3)))
+                .transactionType(TransactionType.fromCode(rs.getShort(4)).name())
+                .name(rs.getString(5))
+                .relation(labels.label(nullableInt(rs, 6)))
+                .counterpartyId(nullableLong(rs, 7))
+                .amount(Money.of(rs.getLong(8)))
+                .contact(rs.getString(9))
+                .memo(rs.getString(10))
+                .createdAt(toLocalDateTime(rs.getTimestamp(11)))
+                .updatedAt(toLocalDateTime(rs.getTimestamp(12)))
+                .build());
+    }
+
+    /**
+     * 인물별 통계 전체 (잔액 내림차순)
+     */
+    public void writePersonStatistics(Long userId, HttpServletResponse response) throws IOException {
+        DimensionLabels labels = dimensionDictionary.labels(userId);
+        stream(userId, "person", response, PERSON_SQL, new Object[] {userId}, rs -> {
+            Date lastEventDate = rs.getDate(9);
+            return PersonStatisticsDto.builder()
+                    .id(rs.getLong(1))
+                    .name(rs.getString(2))
+                    .relation(labels.label(nullableInt(rs, 3)))
+                    .receivedTotal(rs.getLong(4))
+                    .receivedCount(rs.getLong(5))
+                    .sentTotal(rs.getLong(6))
+                    .sentCount(rs.getLong(7))
+                    .balance(rs.getLong(8))
+                    .lastEventDate(lastEventDate != null ? lastEventDate.toLocalDate() : null)
+                    .lastEventType(labels.label(nullableInt(rs, 10)))
+                    .build();
+        });
+    }
+
+    /**
+     * 첫 행을 읽은 뒤에 NDJSON 응답 시작 → 그 전의 오류(잘못된 조건, 조회 시간 초과 등)는 일반 오류 응답(ErrorResponse 한 줄)으로 처리됨
+     */
+    private void stream(Long userId, String name, HttpServletResponse response, String sql, Object[] params,
+                        RowMapper mapper) throws IOException {
+        JsonGenerator[] generator = {null};
+        long[] count = {0};
+        try {
+            transaction.executeWithoutResult(status -> jdbcTemplate.query(sql, rs -> {
+                try {
+                    if (generator[0] == null) {
+                        generator[0] = start(response);
+                    }
+                    writer.writeValue(generator[0], mapper.map(rs));
+                    generator[0].writeRaw('\n');
+                } catch (IOException e) {
+                    // 클라이언트 연결 끊김 → 커서 조회 중단
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            }, params));
+        } catch (UncheckedIOException e) {
+            log.warn("NDJSON stream aborted: userId={}, name={}, rows={}, reason={}", userId, name, count[0], e.getMessage());
+            throw e;
+        }
+        if (generator[0] == null) {
+            generator[0] = start(response);
+        }
+        generator[0].flush();
+        log.debug("NDJSON stream completed: userId={}, name={}, rows={}", userId, name, count[0]);
+    }
+
+    private JsonGenerator start(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        JsonGenerator generator = writer.createGenerator(response.getOutputStream());
+        // 루트 값 사이 기본 구분자(공백) 대신 줄바꿈을 직접 씀
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+
+    private static Integer nullableInt(ResultSet rs, int column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Long nullableLong(ResultSet rs, int column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    @FunctionalInterface
+    private interface RowMapper {
+        Object map(ResultSet rs) throws SQLException;
+    }
+
+}
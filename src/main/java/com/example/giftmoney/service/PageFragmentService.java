@@ -0,0 +1,209 @@
+package com.example.giftmoney.service;
+
+import com.example.giftmoney.config.CacheInvalidationBus;
+import com.example.giftmoney.config.JpaConfig;
+import com.example.giftmoney.dto.GiftMoneyListResponse;
+import com.example.giftmoney.dto.GiftMoneyStatisticsResponse;
+import com.example.giftmoney.dto.PersonStatisticsDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대시보드/통계 페이지 서버 렌더링 첫 화면 (app.ssr.enabled)
+ *
+ * - 페이지 GET 요청에 토큰 쿠키가 있으면 요약 통계와 첫 페이지 목록(통계 페이지는 인물별 통계)을
+ *   Thymeleaf 조각(templates/fragments)으로 렌더링해 빈 화면 대신 바로 표시
+ *   → 스크립트 다운로드/실행과 API 요청을 기다리지 않음, 스크립트는 이후 요청부터 담당
+ * - 렌더링 결과는 사용자/페이지별로 데이터 버전(DataVersionService)과 함께 캐시 → 버전이 바뀌면 다시 렌더링
+ *   (버전은 조회 전에 읽음 → 조회 중 커밋된 쓰기는 다음 요청에서 버전 불일치로 반영)
+ * - 무효화 이벤트를 받으면 사용자 슬롯을 통째로 교체 (사전 변경처럼 버전이 바뀌지 않는 변경 포함)
+ * - 렌더링에 실패하면 빈 결과 → 기존처럼 스크립트가 API로 조회
+ *
+ * ⚡ 성능: 첫 화면 표시까지 왕복 1번(HTML), 변경이 없으면 페이지 요청은 버전 확인과 캐시된 HTML 복사뿐
+ */
+@Slf4j
+@Service
+public class PageFragmentService implements CacheInvalidationBus.Listener {
+
+    // dashboard.js / statistics.js의 첫 조회와 같은 조건
+    private static final int DASHBOARD_PAGE_SIZE = 10;
+    private static final String DASHBOARD_TRANSACTION_TYPE = "RECEIVED";
+    private static final String DASHBOARD_FIELDS = "eventDate,eventType,transactionType,name,relation,amount,contact,memo";
+    private static final int PERSON_ROWS = 500;
+
+    // 캐시 사용자 수가 이 수를 넘으면 전체 비움
+    private static final int MAX_USERS = 10_000;
+
+    private final GiftMoneyService giftMoneyService;
+    private final StatisticsService statisticsService;
+    private final StatisticsCache statisticsCache;
+    private final DataVersionService dataVersionService;
+    private final ITemplateEngine templateEngine;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate shardReadOnly;
+    private final boolean enabled;
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    // GiftMoneyService → CacheInvalidationBus → 조각 캐시(Listener) 순환 참조 → 처음 사용할 때 주입
+    public PageFragmentService(@Lazy GiftMoneyService giftMoneyService,
+                               StatisticsService statisticsService,
+                               StatisticsCache statisticsCache,
+                               DataVersionService dataVersionService,
+                               ITemplateEngine templateEngine,
+                               ObjectMapper objectMapper,
+                               @Qualifier(JpaConfig.SHARD_TRANSACTION_MANAGER) PlatformTransactionManager shardTransactionManager,
+                               @Value("${app.ssr.enabled:false}") boolean enabled) {
+        this.giftMoneyService = giftMoneyService;
+        this.statisticsService = statisticsService;
+        this.statisticsCache = statisticsCache;
+        this.dataVersionService = dataVersionService;
+        this.templateEngine = templateEngine;
+        this.objectMapper = objectMapper;
+        this.shardReadOnly = new TransactionTemplate(shardTransactionManager);
+        this.shardReadOnly.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    /**
+     * 대시보드 첫 화면: summary(통계 카드), rows(목록 첫 페이지), initialData(total/summary JSON)
+     */
+    public Optional<PageView> dashboard(Long userId) {
+        return view(userId, "dashboard", () -> {
+            Map<String, Object> variables = new LinkedHashMap<>();
+            shardReadOnly.executeWithoutResult(status -> {
+                GiftMoneyListResponse list = giftMoneyService.findList(userId, DASHBOARD_FIELDS, null, 0,
+                        DASHBOARD_PAGE_SIZE, null, DASHBOARD_TRANSACTION_TYPE, true);
+                GiftMoneyStatisticsResponse summary = statisticsCache.get(userId, "summary",
+                        () -> giftMoneyService.getStatistics(userId));
+                variables.put("items", list.getContent());
+                variables.put("total", list.getTotal());
+                variables.put("stats", summary);
+            });
+
+            Map<String, Object> initialData = new LinkedHashMap<>();
+            initialData.put("userId", userId);
+            initialData.put("total", variables.get("total"));
+            initialData.put("summary", variables.get("stats"));
+            return new PageView(Map.of(
+                    "summary", render("fragments/dashboard", "summary", variables),
+                    "rows", render("fragments/dashboard", "rows", variables)),
+                    toScriptJson(initialData));
+        });
+    }
+
+    /**
+     * 통계 페이지 첫 화면: topPersons(Top 5 인물), personRows(인물별 통계 표)
+     */
+    public Optional<PageView> statistics(Long userId) {
+        return view(userId, "statistics", () -> {
+            PageRequest pageRequest = PageRequest.of(0, PERSON_ROWS,
+                    Sort.by(Sort.Direction.DESC, "balance").and(Sort.by("id")));
+            Page<PersonStatisticsDto> persons = shardReadOnly.execute(status ->
+                    statisticsService.getPersonStatistics(userId, pageRequest));
+
+            Map<String, Object> variables = new LinkedHashMap<>();
+            variables.put("persons", persons.getContent());
+            variables.put("totalPersons", persons.getTotalElements());
+            return new PageView(Map.of(
+                    "topPersons", render("fragments/statistics", "topPersons", variables),
+                    "personRows", render("fragments/statistics", "personRows", variables)),
+                    toScriptJson(Map.of("userId", userId)));
+        });
+    }
+
+    private Optional<PageView> view(Long userId, String page, Renderer renderer) {
+        if (!enabled || userId == null) {
+            return Optional.empty();
+        }
+
+        try {
+            long version = dataVersionService.current(userId);
+            Slot slot = slots.get(userId);
+            if (slot == null) {
+                if (slots.size() >= MAX_USERS) {
+                    slots.clear();
+                }
+                slot = slots.computeIfAbsent(userId, id -> new Slot());
+            }
+
+            Entry entry = slot.views.get(page);
+            if (entry != null && entry.version() == version) {
+                return Optional.of(entry.view());
+            }
+
+            PageView view = renderer.render();
+            // 렌더링 중 무효화되었으면 슬롯이 교체됨 → 분리된 슬롯에 저장되어 다시 사용되지 않음
+            slot.views.put(page, new Entry(version, view));
+            return Optional.of(view);
+        } catch (RuntimeException e) {
+            log.warn("Page pre-render failed, falling back to client rendering: userId={}, page={}", userId, page, e);
+            return Optional.empty();
+        }
+    }
+
+    private String render(String template, String fragment, Map<String, Object> variables) {
+        return templateEngine.process(template, Set.of(fragment), new Context(Locale.KOREA, variables));
+    }
+
+    // <script type="application/json">에 그대로 넣을 JSON ("</script>"로 끝나지 않도록 '<' 이스케이프)
+    private String toScriptJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value).replace("<", "\\u003c");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("초기 데이터 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public void evict(Long userId, CacheInvalidationBus.Scope scope) {
+        slots.remove(userId);
+    }
+
+    @Override
+    public void evictAll() {
+        slots.clear();
+    }
+
+    /**
+     * 렌더링된 조각(이름 → HTML)과 스크립트 초기 데이터(JSON)
+     */
+    public record PageView(Map<String, String> fragments, String initialData) {
+
+        public String fragment(String name) {
+            return fragments.get(name);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Renderer {
+        PageView render();
+    }
+
+    private record Entry(long version, PageView view) {
+    }
+
+    private static final class Slot {
+        private final Map<String, Entry> views = new ConcurrentHashMap<>();
+    }
+
+}
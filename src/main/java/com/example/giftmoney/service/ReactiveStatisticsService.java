@@ -0,0 +1,153 @@
+package com.example.giftmoney.service;
+
+import com.example.giftmoney.config.ReactiveShardClients;
+import com.example.giftmoney.domain.value.Money;
+import com.example.giftmoney.domain.value.TransactionType;
+import com.example.giftmoney.dto.EventTypeStatisticsDto;
+import com.example.giftmoney.dto.GiftMoneyResponse;
+import com.example.giftmoney.dto.MonthlyStatisticsDto;
+import com.example.giftmoney.dto.RelationStatisticsDto;
+import com.example.giftmoney.dto.YearlyStatisticsDto;
+import com.example.giftmoney.repository.GiftMoneyListRepository;
+import com.example.giftmoney.repository.GiftMoneyRepository;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reactive 통계/목록 조회 (R2DBC)
+ *
+ * StatisticsService와 같은 SQL과 행 매핑을 사용하고, 결과 행을 Flux로 스트리밍한다.
+ * - 쿼리 대기 중에는 스레드/JDBC 커넥션을 점유하지 않음
+ * - fetch-size 단위로 행을 요청 → 구독자가 소비한 만큼만 DB에서 읽음 (backpressure)
+ * - 사용자 샤드는 조립 시점(요청 스레드)에 ShardDirectory 캐시로 결정
+ */
+@Service
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveStatisticsService {
+
+    // 최신순 목록 (라벨은 dimensions 조인으로 함께 조회 - DimensionDictionary의 JDBC 조회 없이 스트리밍)
+    private static final String GIFT_MONEY_SQL = "SELECT g.id, g.event_date, et.label AS event_type, " +
+            "g.transaction_type, g.name, rel.label AS relation, g.counterparty_id, g.amount, g.contact, g.memo, " +
+            "g.created_at, g.updated_at " +
+            "FROM gift_money g " +
+            "JOIN dimensions et ON et.id = g.event_type_id " +
+            "LEFT JOIN dimensions rel ON rel.id = g.relation_id " +
+            "WHERE g.user_id = :userId";
+
+    private final ReactiveShardClients clients;
+    private final ShardDirectory shardDirectory;
+    private final int fetchSize;
+
+    public ReactiveStatisticsService(ReactiveShardClients clients,
+                                     ShardDirectory shardDirectory,
+                                     @Value("${app.reactive.fetch-size:256}") int fetchSize) {
+        this.clients = clients;
+        this.shardDirectory = shardDirectory;
+        this.fetchSize = fetchSize;
+    }
+
+    public Flux<YearlyStatisticsDto> getYearlyStatistics(Long userId) {
+        return query(userId, GiftMoneyRepository.YEARLY_STATISTICS_SQL, Map.of("userId", userId),
+                StatisticsService::toYearly);
+    }
+
+    public Flux<EventTypeStatisticsDto> getEventTypeStatistics(Long userId) {
+        return query(userId, GiftMoneyRepository.EVENT_TYPE_STATISTICS_SQL, Map.of("userId", userId),
+                StatisticsService::toEventType);
+    }
+
+    public Flux<MonthlyStatisticsDto> getMonthlyStatistics(Long userId, Integer months) {
+        if (months == null || months <= 0) {
+            months = 12; // 기본값: 12개월
+        }
+
+        LocalDate startDate = LocalDate.now().minusMonths(months);
+        return query(userId, GiftMoneyRepository.MONTHLY_STATISTICS_SQL, Map.of("userId", userId, "startDate", startDate),
+                StatisticsService::toMonthly);
+    }
+
+    public Flux<RelationStatisticsDto> getRelationStatistics(Long userId) {
+        return query(userId, GiftMoneyRepository.RELATION_STATISTICS_SQL, Map.of("userId", userId),
+                StatisticsService::toRelation);
+    }
+
+    /**
+     * 경조금 목록 스트리밍 (최신순, 최대 limit건)
+     */
+    public Flux<GiftMoneyResponse> streamGiftMoney(Long userId, String search, String transactionType, int limit) {
+        StringBuilder sql = new StringBuilder(GIFT_MONEY_SQL);
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("userId", userId);
+
+        if (transactionType != null && !transactionType.isBlank()) {
+            sql.append(" AND g.transaction_type = :transactionType");
+            params.put("transactionType", TransactionType.from(transactionType).getCode());
+        }
+        if (search != null && !search.isBlank()) {
+            sql.append(" AND g.name LIKE :search ESCAPE '\\'");
+            params.put("search", GiftMoneyListRepository.likePattern(search));
+        }
+        sql.append(" ORDER BY g.event_date DESC, g.id DESC LIMIT :limit");
+        params.put("limit", limit);
+
+        return execute(userId, sql.toString(), params)
+                .map(ReactiveStatisticsService::toGiftMoney)
+                .all();
+    }
+
+    private <T> Flux<T> query(Long userId, String sql, Map<String, Object> params, Function<Object[], T> mapper) {
+        return execute(userId, sql, params)
+                .map(ReactiveStatisticsService::toArray)
+                .all()
+                .map(mapper);
+    }
+
+    private DatabaseClient.GenericExecuteSpec execute(Long userId, String sql, Map<String, Object> params) {
+        DatabaseClient.GenericExecuteSpec spec = clients.shard(shardDirectory.shardOf(userId))
+                .sql(sql)
+                .filter(statement -> statement.fetchSize(fetchSize));
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec;
+    }
+
+    // StatisticsService의 Object[] 행 매핑을 그대로 사용하기 위한 변환
+    private static Object[] toArray(Row row, RowMetadata metadata) {
+        Object[] values = new Object[metadata.getColumnMetadatas().size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = row.get(i);
+        }
+        return values;
+    }
+
+    private static GiftMoneyResponse toGiftMoney(Readable row) {
+        return GiftMoneyResponse.builder()
+                .id(row.get("id", Long.class))
+                .eventDate(row.get("event_date", LocalDate.class))
+                .eventType(row.get("event_type", String.class))
+                .transactionType(TransactionType.fromCode(row.get("transaction_type", Short.class)).name())
+                .name(row.get("name", String.class))
+                .relation(row.get("relation", String.class))
+                .counterpartyId(row.get("counterparty_id", Long.class))
+                .amount(Money.of(row.get("amount", Long.class)))
+                .contact(row.get("contact", String.class))
+                .memo(row.get("memo", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+
+}
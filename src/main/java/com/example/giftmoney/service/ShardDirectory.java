@@ -0,0 +1,123 @@
+package com.example.giftmoney.service;
+
+import com.example.giftmoney.config.CacheInvalidationBus;
+import com.example.giftmoney.config.ShardContext;
+import com.example.giftmoney.config.ShardRoutingDataSource;
+import com.example.giftmoney.domain.entity.ShardAssignment;
+import com.example.giftmoney.repository.ShardAssignmentRepository;
+import com.example.giftmoney.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 → 샤드 디렉터리 조회 (인스턴스 로컬 캐시)
+ *
+ * - 새 사용자는 가입 시 user_id 해시로 샤드를 정하고 shard_assignments에 기록
+ * - 이후에는 디렉터리 테이블이 기준 → 샤드 이전(ShardMoveService)은 행 하나만 바꾸면 됨
+ * - 캐시는 TTL 동안만 사용 (샤드 이전은 단계마다 TTL 이상 대기하므로 오래된 캐시로 잘못된 샤드에 쓰지 않음)
+ * - 배정 변경은 CacheInvalidationBus(SHARD)로 다른 인스턴스에도 바로 전파 (TTL 대기는 전파 누락 대비)
+ * - 계정 활성 여부(users.enabled)도 함께 캐시 → 요청 인증(JwtAuthenticationFilter)에서 탈퇴 계정 토큰 거부
+ *   (탈퇴 시 CacheInvalidationBus(ALL)로 바로 전파)
+ */
+@Service
+public class ShardDirectory implements CacheInvalidationBus.Listener {
+
+    // 캐시 항목이 이 수를 넘으면 전체 비움 (만료 항목 정리)
+    private static final int MAX_CACHE_SIZE = 100_000;
+
+    private final ShardAssignmentRepository assignmentRepository;
+    private final UserRepository userRepository;
+    private final int shardCount;
+    private final long cacheTtlMillis;
+
+    private final Map<Long, Entry> cache = new ConcurrentHashMap<>();
+
+    public ShardDirectory(ShardAssignmentRepository assignmentRepository,
+                          UserRepository userRepository,
+                          ShardRoutingDataSource shardDataSource,
+                          @Value("${app.sharding.directory-cache-ttl:5000}") long cacheTtlMillis) {
+        this.assignmentRepository = assignmentRepository;
+        this.userRepository = userRepository;
+        this.shardCount = shardDataSource.shardCount();
+        this.cacheTtlMillis = cacheTtlMillis;
+    }
+
+    public int shardOf(Long userId) {
+        return entry(userId).shard();
+    }
+
+    // 샤드 이전 중이면 쓰기 요청을 받지 않음
+    public boolean isMoving(Long userId) {
+        return entry(userId).moving();
+    }
+
+    // 탈퇴(비활성화)했거나 삭제된 계정이면 false
+    public boolean isActive(Long userId) {
+        return entry(userId).active();
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public long cacheTtlMillis() {
+        return cacheTtlMillis;
+    }
+
+    /**
+     * 신규 사용자 샤드 배정 (호출자 트랜잭션에서 users 행과 함께 저장)
+     */
+    public int assign(Long userId) {
+        int shard = hashShard(userId, shardCount);
+        assignmentRepository.save(ShardAssignment.of(userId, shard));
+        cache.remove(userId);
+        return shard;
+    }
+
+    public void evict(Long userId) {
+        cache.remove(userId);
+    }
+
+    @Override
+    public void evict(Long userId, CacheInvalidationBus.Scope scope) {
+        if (scope == CacheInvalidationBus.Scope.SHARD || scope == CacheInvalidationBus.Scope.ALL) {
+            evict(userId);
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        cache.clear();
+    }
+
+    // 연속된 ID도 고르게 분산되도록 곱셈 해시 후 나머지
+    static int hashShard(Long userId, int shardCount) {
+        return Math.floorMod(Long.hashCode(userId * 0x9E3779B97F4A7C15L), shardCount);
+    }
+
+    private Entry entry(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(userId);
+        if (entry != null && now - entry.loadedAt() < cacheTtlMillis) {
+            return entry;
+        }
+
+        boolean active = userRepository.findEnabledById(userId).orElse(false);
+        // 행이 없으면 샤딩 도입 전 사용자 → 샤드 0
+        Entry loaded = assignmentRepository.findById(userId)
+                .map(assignment -> new Entry(assignment.getShard(), assignment.getMoving(), active, now))
+                .orElseGet(() -> new Entry(ShardContext.DEFAULT_SHARD, false, active, now));
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            cache.clear();
+        }
+        cache.put(userId, loaded);
+        return loaded;
+    }
+
+    private record Entry(int shard, boolean moving, boolean active, long loadedAt) {
+    }
+
+}
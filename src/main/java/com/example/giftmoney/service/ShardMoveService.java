@@ -0,0 +1,391 @@
+package com.example.giftmoney.service;
+
+import com.example.giftmoney.config.CacheInvalidationBus;
+import com.example.giftmoney.config.JpaConfig;
+import com.example.giftmoney.config.ShardContext;
+import com.example.giftmoney.config.ShardRoutingDataSource;
+import com.example.giftmoney.domain.entity.ShardAssignment;
+import com.example.giftmoney.domain.entity.ShardMove;
+import com.example.giftmoney.domain.entity.ShardMove.Phase;
+import com.example.giftmoney.domain.entity.User;
+import com.example.giftmoney.repository.CounterpartyRepository;
+import com.example.giftmoney.repository.DataVersionRepository;
+import com.example.giftmoney.repository.DimensionRepository;
+import com.example.giftmoney.repository.GiftMoneyChangeRepository;
+import com.example.giftmoney.repository.GiftMoneyRepository;
+import com.example.giftmoney.repository.ShardAssignmentRepository;
+import com.example.giftmoney.repository.ShardMoveRepository;
+import com.example.giftmoney.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSetMetaData;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 샤드 이전 (온라인)
+ *
+ * 다른 사용자와 이 사용자의 읽기는 계속 처리하면서 한 사용자의 데이터를 다른 샤드로 옮긴다.
+ * 1. FREEZE  - 디렉터리에 moving = true → JwtAuthenticationFilter가 이 사용자의 쓰기 요청을 503으로 거절
+ * 2. COPY    - 진행 중이던 쓰기가 끝나도록 settle 시간 대기 후, 대상 샤드에 한 트랜잭션으로 복사하고 건수/합계 검증
+ *              (gift_money/counterparties ID는 그대로 유지, dimensions ID는 대상 샤드에서 새로 발급해 참조를 변환)
+ * 3. SWITCH  - 디렉터리의 샤드 변경, moving = false
+ * 4. CLEANUP - 오래된 디렉터리 캐시가 모두 만료된 뒤 원본 샤드 데이터를 배치 단위로 삭제
+ *
+ * AccountPurgeService와 같이 작업 임대(lease)와 단계 체크포인트로 여러 인스턴스에서 안전하게 이어서 처리한다.
+ * COPY까지 실패하면 원본이 그대로 기준이므로 이전을 취소(FAILED)하고 쓰기를 재개한다.
+ */
+@Slf4j
+@Service
+public class ShardMoveService {
+
+    private static final Set<Phase> FINISHED = Set.of(Phase.COMPLETED, Phase.FAILED);
+
+    // dimensions 키를 참조하는 컬럼 (대상 샤드의 새 키로 변환)
+    private static final Set<String> DIMENSION_COLUMNS = Set.of("event_type_id", "relation_id", "last_event_type_id");
+
+    private final ShardMoveRepository moveRepository;
+    private final ShardAssignmentRepository assignmentRepository;
+    private final UserRepository userRepository;
+    private final GiftMoneyRepository giftMoneyRepository;
+    private final CounterpartyRepository counterpartyRepository;
+    private final DimensionRepository dimensionRepository;
+    private final DataVersionRepository dataVersionRepository;
+    private final GiftMoneyChangeRepository changeRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ShardDirectory shardDirectory;
+    private final ShardRoutingDataSource shardDataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate shardTransactionTemplate;
+
+    public ShardMoveService(ShardMoveRepository moveRepository,
+                            ShardAssignmentRepository assignmentRepository,
+                            UserRepository userRepository,
+                            GiftMoneyRepository giftMoneyRepository,
+                            CounterpartyRepository counterpartyRepository,
+                            DimensionRepository dimensionRepository,
+                            DataVersionRepository dataVersionRepository,
+                            GiftMoneyChangeRepository changeRepository,
+                            CacheInvalidationBus cacheInvalidationBus,
+                            ShardDirectory shardDirectory,
+                            ShardRoutingDataSource shardDataSource,
+                            TransactionTemplate transactionTemplate,
+                            @Qualifier(JpaConfig.SHARD_TRANSACTION_MANAGER) PlatformTransactionManager shardTransactionManager) {
+        this.moveRepository = moveRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.userRepository = userRepository;
+        this.giftMoneyRepository = giftMoneyRepository;
+        this.counterpartyRepository = counterpartyRepository;
+        this.dimensionRepository = dimensionRepository;
+        this.dataVersionRepository = dataVersionRepository;
+        this.changeRepository = changeRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.shardDirectory = shardDirectory;
+        this.shardDataSource = shardDataSource;
+        this.transactionTemplate = transactionTemplate;
+        this.shardTransactionTemplate = new TransactionTemplate(shardTransactionManager);
+    }
+
+    @Value("${app.shard-move.batch-size:1000}")
+    private int batchSize;
+
+    // 단계 전환 후 대기 시간 - 디렉터리 캐시 TTL과 진행 중인 요청이 끝날 시간을 합한 값 이상
+    @Value("${app.shard-move.settle-millis:15000}")
+    private long settleMillis;
+
+    @Value("${app.shard-move.max-steps-per-run:200}")
+    private int maxStepsPerRun;
+
+    @Value("${app.shard-move.lease-seconds:300}")
+    private long leaseSeconds;
+
+    /**
+     * 샤드 이전 작업 등록 (실제 이전은 스케줄러가 진행)
+     */
+    @Transactional
+    public ShardMove request(Long userId, int targetShard) {
+        if (targetShard < 0 || targetShard >= shardDirectory.shardCount()) {
+            throw new IllegalArgumentException("존재하지 않는 샤드입니다: " + targetShard);
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+        if (!user.getEnabled()) {
+            throw new IllegalArgumentException("탈퇴 처리 중인 계정입니다");
+        }
+        if (moveRepository.existsByUserIdAndPhaseNotIn(userId, FINISHED)) {
+            throw new IllegalArgumentException("이미 진행 중인 샤드 이전 작업이 있습니다");
+        }
+
+        int sourceShard = assignmentRepository.findById(userId)
+                .map(ShardAssignment::getShard)
+                .orElse(ShardContext.DEFAULT_SHARD);
+        if (sourceShard == targetShard) {
+            throw new IllegalArgumentException("이미 해당 샤드에 있는 사용자입니다");
+        }
+
+        ShardMove move = moveRepository.save(ShardMove.of(userId, sourceShard, targetShard));
+        log.info("샤드 이전 등록: moveId={}, userId={}, {} → {}", move.getId(), userId, sourceShard, targetShard);
+        return move;
+    }
+
+    @Transactional(readOnly = true)
+    public ShardMove find(Long id) {
+        return moveRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("샤드 이전 작업을 찾을 수 없습니다"));
+    }
+
+    @Scheduled(fixedDelayString = "${app.shard-move.interval:5000}")
+    public void processMoves() {
+        List<Long> ids = moveRepository.findClaimableIds(FINISHED, LocalDateTime.now());
+
+        for (Long id : ids) {
+            if (claim(id)) {
+                run(id);
+            }
+        }
+    }
+
+    private boolean claim(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                moveRepository.claim(id, now, now.plusSeconds(leaseSeconds)));
+        return claimed != null && claimed > 0;
+    }
+
+    private void run(Long id) {
+        try {
+            for (int i = 0; i < maxStepsPerRun; i++) {
+                Boolean hasMore = transactionTemplate.execute(status -> step(id));
+                if (!Boolean.TRUE.equals(hasMore)) {
+                    break;
+                }
+            }
+
+            // 대기 중이거나 남은 작업은 임대를 반납하고 다음 실행에서 이어서 처리
+            transactionTemplate.executeWithoutResult(status ->
+                    moveRepository.findById(id).ifPresent(move -> move.setLockedUntil(null)));
+        } catch (Exception e) {
+            log.error("샤드 이전 실패: moveId={}", id, e);
+            transactionTemplate.executeWithoutResult(status -> abortIfNotSwitched(id, e));
+        }
+    }
+
+    /**
+     * 현재 단계 하나를 처리하고 체크포인트를 저장
+     *
+     * @return 바로 다음 단계를 진행할 수 있으면 true
+     */
+    private boolean step(Long id) {
+        ShardMove move = moveRepository.findById(id).orElse(null);
+        if (move == null || FINISHED.contains(move.getPhase())) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (move.getNotBefore() != null && move.getNotBefore().isAfter(now)) {
+            return false;
+        }
+
+        Long userId = move.getUserId();
+        switch (move.getPhase()) {
+            case FREEZE -> {
+                ShardAssignment assignment = assignmentRepository.findById(userId)
+                        .orElseGet(() -> ShardAssignment.of(userId, ShardContext.DEFAULT_SHARD));
+                assignment.setMoving(true);
+                assignmentRepository.save(assignment);
+                cacheInvalidationBus.publish(userId, CacheInvalidationBus.Scope.SHARD);
+                move.setSourceShard(assignment.getShard());
+                move.setPhase(Phase.COPY);
+                move.setNotBefore(now.plusNanos(settleMillis * 1_000_000));
+            }
+            case COPY -> {
+                long copied = copy(userId, move.getSourceShard(), move.getTargetShard());
+                move.setCopiedRows(copied);
+                move.setPhase(Phase.SWITCH);
+                move.setNotBefore(null);
+            }
+            case SWITCH -> {
+                ShardAssignment assignment = assignmentRepository.findById(userId)
+                        .orElseThrow(() -> new IllegalStateException("샤드 배정 정보가 없습니다: userId=" + userId));
+                assignment.setShard(move.getTargetShard());
+                assignment.setMoving(false);
+                cacheInvalidationBus.publish(userId, CacheInvalidationBus.Scope.SHARD);
+                move.setPhase(Phase.CLEANUP);
+                move.setNotBefore(now.plusNanos(settleMillis * 1_000_000));
+                log.info("샤드 전환 완료: userId={}, {} → {}", userId, move.getSourceShard(), move.getTargetShard());
+            }
+            case CLEANUP -> {
+                // 참조 순서대로 삭제: gift_money → counterparties → dimensions → gift_money_changes → data_versions
+                int deleted = onShard(move.getSourceShard(), () -> giftMoneyRepository.deleteBatchByUserId(userId, batchSize));
+                if (deleted == 0) {
+                    deleted = onShard(move.getSourceShard(), () -> counterpartyRepository.deleteBatchByUserId(userId, batchSize));
+                }
+                if (deleted == 0) {
+                    deleted = onShard(move.getSourceShard(), () -> dimensionRepository.deleteBatchByUserId(userId, batchSize));
+                }
+                if (deleted == 0) {
+                    deleted = onShard(move.getSourceShard(), () -> changeRepository.deleteBatchByUserId(userId, batchSize));
+                }
+                if (deleted == 0) {
+                    deleted = onShard(move.getSourceShard(), () -> dataVersionRepository.deleteByUserId(userId));
+                }
+                move.setDeletedRows(move.getDeletedRows() + deleted);
+                if (deleted == 0) {
+                    move.setPhase(Phase.COMPLETED);
+                    move.setCompletedAt(now);
+                    log.info("샤드 이전 완료: userId={}, copied={}, deleted={}",
+                            userId, move.getCopiedRows(), move.getDeletedRows());
+                }
+            }
+            default -> {
+                return false;
+            }
+        }
+
+        move.setLockedUntil(FINISHED.contains(move.getPhase()) ? null : now.plusSeconds(leaseSeconds));
+        return !FINISHED.contains(move.getPhase()) && move.getNotBefore() == null;
+    }
+
+    // 전환 전이면 원본 샤드가 그대로 기준 → 작업을 취소하고 쓰기 재개 (대상 샤드 복사본은 롤백됨)
+    private void abortIfNotSwitched(Long id, Exception cause) {
+        ShardMove move = moveRepository.findById(id).orElse(null);
+        if (move == null || (move.getPhase() != Phase.FREEZE && move.getPhase() != Phase.COPY)) {
+            return;
+        }
+        assignmentRepository.findById(move.getUserId()).ifPresent(assignment -> assignment.setMoving(false));
+        cacheInvalidationBus.publish(move.getUserId(), CacheInvalidationBus.Scope.SHARD);
+        String message = String.valueOf(cause.getMessage());
+        move.setError(message.length() > 500 ? message.substring(0, 500) : message);
+        move.setPhase(Phase.FAILED);
+        move.setLockedUntil(null);
+    }
+
+    private int onShard(int shard, Supplier<Integer> delete) {
+        Integer deleted = ShardContext.call(shard, () -> shardTransactionTemplate.execute(status -> delete.get()));
+        return deleted != null ? deleted : 0;
+    }
+
+    // ========== 복사 (JDBC, 대상 샤드 트랜잭션 하나) ==========
+
+    private long copy(Long userId, int sourceShard, int targetShard) {
+        JdbcTemplate source = new JdbcTemplate(shardDataSource.shard(sourceShard));
+        DataSource targetDataSource = shardDataSource.shard(targetShard);
+        JdbcTemplate target = new JdbcTemplate(targetDataSource);
+        TransactionTemplate targetTransaction = new TransactionTemplate(new DataSourceTransactionManager(targetDataSource));
+
+        Long copied = targetTransaction.execute(status -> {
+            // 이전에 실패한 복사의 잔여 데이터 정리
+            for (String table : List.of("gift_money", "counterparties", "dimensions", "data_versions", "gift_money_changes")) {
+                target.update("DELETE FROM " + table + " WHERE user_id = ?", userId);
+            }
+
+            Map<Integer, Integer> dimensionIds = copyDimensions(userId, source, target);
+            long rows = dimensionIds.size();
+            rows += copyRows("counterparties", userId, source, target, dimensionIds);
+            rows += copyRows("gift_money", userId, source, target, dimensionIds);
+            // 데이터 버전도 그대로 이전 (0부터 다시 시작하면 이전에 발급한 ETag와 겹칠 수 있음)
+            rows += copyRows("data_versions", userId, source, target, dimensionIds);
+            rows += copyRows("gift_money_changes", userId, source, target, dimensionIds);
+
+            verify(userId, source, target);
+            return rows;
+        });
+        log.info("샤드 복사 완료: userId={}, {} → {}, rows={}", userId, sourceShard, targetShard, copied);
+        return copied != null ? copied : 0L;
+    }
+
+    // 사전 항목은 대상 샤드에서 새 키를 발급받고 (원본 키 → 대상 키) 매핑 반환
+    private Map<Integer, Integer> copyDimensions(Long userId, JdbcTemplate source, JdbcTemplate target) {
+        Map<String, Integer> sourceIds = new HashMap<>();
+        source.query("SELECT id, kind, label FROM dimensions WHERE user_id = ?", rs -> {
+            sourceIds.put(rs.getString("kind") + "\u0000" + rs.getString("label"), rs.getInt("id"));
+        }, userId);
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (String key : sourceIds.keySet()) {
+            String[] kindAndLabel = key.split("\u0000", 2);
+            inserts.add(new Object[]{userId, kindAndLabel[0], kindAndLabel[1]});
+        }
+        target.batchUpdate("INSERT INTO dimensions (user_id, kind, label) VALUES (?, ?, ?)", inserts);
+
+        Map<Integer, Integer> mapping = new HashMap<>();
+        target.query("SELECT id, kind, label FROM dimensions WHERE user_id = ?", rs -> {
+            Integer sourceId = sourceIds.get(rs.getString("kind") + "\u0000" + rs.getString("label"));
+            if (sourceId != null) {
+                mapping.put(sourceId, rs.getInt("id"));
+            }
+        }, userId);
+        return mapping;
+    }
+
+    // 모든 컬럼을 그대로 복사 (ID 유지), 사전 키 컬럼만 변환 - batch-size 단위로 batch INSERT
+    private long copyRows(String table, Long userId, JdbcTemplate source, JdbcTemplate target,
+                          Map<Integer, Integer> dimensionIds) {
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        String[] insertSql = new String[1];
+        long[] count = {0};
+
+        source.query("SELECT * FROM " + table + " WHERE user_id = ?", rs -> {
+            ResultSetMetaData meta = rs.getMetaData();
+            int columns = meta.getColumnCount();
+            if (insertSql[0] == null) {
+                List<String> names = new ArrayList<>(columns);
+                for (int i = 1; i <= columns; i++) {
+                    names.add(meta.getColumnLabel(i).toLowerCase());
+                }
+                insertSql[0] = "INSERT INTO " + table + " (" + String.join(", ", names) + ") VALUES ("
+                        + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+            }
+
+            Object[] values = new Object[columns];
+            for (int i = 1; i <= columns; i++) {
+                Object value = rs.getObject(i);
+                if (value != null && DIMENSION_COLUMNS.contains(meta.getColumnLabel(i).toLowerCase())) {
+                    value = dimensionIds.get(((Number) value).intValue());
+                }
+                values[i - 1] = value;
+            }
+            batch.add(values);
+            count[0]++;
+
+            if (batch.size() >= batchSize) {
+                target.batchUpdate(insertSql[0], batch);
+                batch.clear();
+            }
+        }, userId);
+
+        if (!batch.isEmpty()) {
+            target.batchUpdate(insertSql[0], batch);
+        }
+        return count[0];
+    }
+
+    // 건수와 금액 합계가 원본과 같은지 확인 (다르면 예외 → 대상 샤드 트랜잭션 롤백)
+    private void verify(Long userId, JdbcTemplate source, JdbcTemplate target) {
+        String giftMoneySql = "SELECT COUNT(*), CAST(COALESCE(SUM(amount), 0) AS BIGINT) FROM gift_money WHERE user_id = ?";
+        String counterpartySql = "SELECT COUNT(*), CAST(COALESCE(SUM(balance), 0) AS BIGINT) FROM counterparties WHERE user_id = ?";
+        for (String sql : List.of(giftMoneySql, counterpartySql)) {
+            List<Long> expected = source.queryForObject(sql, (rs, i) -> List.of(rs.getLong(1), rs.getLong(2)), userId);
+            List<Long> actual = target.queryForObject(sql, (rs, i) -> List.of(rs.getLong(1), rs.getLong(2)), userId);
+            if (!expected.equals(actual)) {
+                throw new IllegalStateException("샤드 복사 검증 실패: " + sql + " expected=" + expected + ", actual=" + actual);
+            }
+        }
+    }
+
+}
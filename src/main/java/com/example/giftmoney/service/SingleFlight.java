@@ -0,0 +1,89 @@
+package com.example.giftmoney.service;
+
+import com.example.giftmoney.config.CacheInvalidationBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동시 요청 합치기 (single-flight, 인스턴스 로컬, app.single-flight.enabled)
+ *
+ * 같은 사용자의 같은 조회(key)가 실행 중이면 새로 쿼리하지 않고 실행 중인 결과를 함께 받는다.
+ * - 키는 (userId, key) → 다른 사용자의 결과를 받는 일 없음
+ * - 결과는 보관하지 않음 (실행이 끝나면 바로 제거, 캐시는 StatisticsCache가 담당)
+ * - 쓰기 커밋 후 무효화(CacheInvalidationBus)되면 실행 중인 항목을 분리 → 이후 요청은 새로 조회해 쓰기 결과를 봄
+ * - 트랜잭션 밖(컨트롤러)에서 호출 → 기다리는 요청은 DB 커넥션을 점유하지 않음
+ */
+@Component
+public class SingleFlight implements CacheInvalidationBus.Listener {
+
+    private final boolean enabled;
+
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(@Value("${app.single-flight.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @param key 조회 종류와 파라미터 (equals로 비교, 예: "yearly", Arrays.asList("list", page, size, search))
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T run(Long userId, Object key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key flightKey = new Key(userId, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            return (T) await(existing);
+        }
+
+        try {
+            T value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    // 실행 중인 요청의 예외는 기다리던 요청에도 그대로 전달 (400/503 등 같은 응답)
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void evict(Long userId, CacheInvalidationBus.Scope scope) {
+        inFlight.keySet().removeIf(key -> key.userId().equals(userId));
+    }
+
+    @Override
+    public void evictAll() {
+        inFlight.clear();
+    }
+
+    private record Key(Long userId, Object key) {
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.example.giftmoney.service;
+
+import com.example.giftmoney.config.CacheInvalidationBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 통계 결과 캐시 (인스턴스 로컬, app.cache.statistics.enabled)
+ *
+ * - 쓰기 커밋 후 CacheInvalidationBus(GIFT_MONEY)로 모든 인스턴스에서 해당 사용자 항목 삭제
+ * - 계산 중에 무효화되면 결과를 저장하지 않음 (사용자별 슬롯을 통째로 교체하는 방식)
+ * - 무효화 전파가 누락되거나 복제본이 지연되어도 TTL 이후에는 다시 계산
+ * - 캐시 미스(또는 캐시 비활성화) 시 계산은 SingleFlight로 실행 → 동시에 들어온 같은 조회는 쿼리 한 번
+ */
+@Component
+public class StatisticsCache implements CacheInvalidationBus.Listener {
+
+    // 캐시 사용자 수가 이 수를 넘으면 전체 비움
+    private static final int MAX_USERS = 10_000;
+
+    private final SingleFlight singleFlight;
+    private final boolean enabled;
+    private final long ttlMillis;
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    public StatisticsCache(SingleFlight singleFlight,
+                           @Value("${app.cache.statistics.enabled:false}") boolean enabled,
+                           @Value("${app.cache.statistics.ttl:60000}") long ttlMillis) {
+        this.singleFlight = singleFlight;
+        this.enabled = enabled;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long userId, String key, Supplier<T> loader) {
+        if (!enabled) {
+            return singleFlight.run(userId, key, loader);
+        }
+
+        long now = System.currentTimeMillis();
+        Slot slot = slots.get(userId);
+        if (slot == null) {
+            if (slots.size() >= MAX_USERS) {
+                slots.clear();
+            }
+            slot = slots.computeIfAbsent(userId, id -> new Slot());
+        }
+
+        Entry entry = slot.values.get(key);
+        if (entry != null && now - entry.loadedAt() < ttlMillis) {
+            return (T) entry.value();
+        }
+
+        T value = singleFlight.run(userId, key, loader);
+        // 계산 중 무효화되었으면 슬롯이 교체됨 → 분리된 슬롯에 저장되어 다시 사용되지 않음
+        slot.values.put(key, new Entry(value, now));
+        return value;
+    }
+
+    @Override
+    public void evict(Long userId, CacheInvalidationBus.Scope scope) {
+        if (scope == CacheInvalidationBus.Scope.GIFT_MONEY || scope == CacheInvalidationBus.Scope.ALL) {
+            slots.remove(userId);
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        slots.clear();
+    }
+
+    private static final class Slot {
+        private final Map<String, Entry> values = new ConcurrentHashMap<>();
+    }
+
+    private record Entry(Object value, long loadedAt) {
+    }
+
+}
@@ -1,15 +1,18 @@
 package com.example.giftmoney.service;
 
+import com.example.giftmoney.config.AppMetrics;
+import com.example.giftmoney.config.ShardTransactional;
+import com.example.giftmoney.domain.value.DimensionLabels;
+import com.example.giftmoney.domain.value.Money;
 import com.example.giftmoney.dto.*;
+import com.example.giftmoney.repository.CounterpartyRepository;
 import com.example.giftmoney.repository.GiftMoneyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.sql.Date;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -17,61 +20,76 @@ import java.util.List;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
+@ShardTransactional(readOnly = true)
 public class StatisticsService {
 
     private final GiftMoneyRepository repository;
+    private final CounterpartyRepository counterpartyRepository;
+    private final DimensionDictionary dimensionDictionary;
+    // 쿼리 실행 시간은 통계 종류(query 태그)별로 기록 (giftmoney.statistics.query)
+    private final AppMetrics appMetrics;
 
     /**
      * 연도별 통계 조회
      */
     public List<YearlyStatisticsDto> getYearlyStatistics(Long userId) {
-        return repository.getYearlyStatistics(userId);
-    }
-
-    /**
-     * 인물별 통계 조회
-     */
-    public List<PersonStatisticsDto> getPersonStatistics(Long userId) {
-        List<Object[]> results = repository.getPersonStatisticsRaw(userId);
-        List<PersonStatisticsDto> statistics = new ArrayList<>();
+        List<Object[]> results = appMetrics.statisticsQuery("yearly",
+                () -> repository.getYearlyStatisticsRaw(userId));
+        List<YearlyStatisticsDto> statistics = new ArrayList<>(results.size());
 
         for (Object[] row : results) {
-            PersonStatisticsDto dto = PersonStatisticsDto.builder()
-                    .name((String) row[0])
-                    .relation((String) row[1])
-                    .receivedTotal((BigDecimal) row[2])
-                    .receivedCount(((Number) row[3]).longValue())
-                    .sentTotal((BigDecimal) row[4])
-                    .sentCount(((Number) row[5]).longValue())
-                    .balance((BigDecimal) row[6])
-                    .lastEventDate(row[7] != null ? ((Date) row[7]).toLocalDate() : null)
-                    .lastEventType((String) row[8])
-                    .build();
-            statistics.add(dto);
+            statistics.add(toYearly(row));
         }
 
         return statistics;
     }
 
+    /**
+     * 인물별 통계 조회 (잔액 내림차순 페이지)
+     * ⚡ 성능: counterparties에 유지되는 누적 합계를 인덱스 순서대로 읽기만 함 (GROUP BY 없음)
+     */
+    public Page<PersonStatisticsDto> getPersonStatistics(Long userId, Pageable pageable) {
+        DimensionLabels labels = dimensionDictionary.labels(userId);
+        return appMetrics.statisticsQuery("person",
+                        () -> counterpartyRepository.findActiveByUserId(userId, pageable))
+                .map(counterparty -> PersonStatisticsDto.builder()
+                        .id(counterparty.getId())
+                        .name(counterparty.getName())
+                        .relation(labels.label(counterparty.getRelationId()))
+                        .receivedTotal(counterparty.getReceivedTotal())
+                        .receivedCount(counterparty.getReceivedCount())
+                        .sentTotal(counterparty.getSentTotal())
+                        .sentCount(counterparty.getSentCount())
+                        .balance(counterparty.getBalance())
+                        .lastEventDate(counterparty.getLastEventDate())
+                        .lastEventType(labels.label(counterparty.getLastEventTypeId()))
+                        .build());
+    }
+
+    /**
+     * 인물별 거래 내역 조회
+     * ⚡ 성능: (counterparty_id, event_date) 인덱스 범위 스캔
+     */
+    public Page<GiftMoneyResponse> getPersonHistory(Long userId, Long counterpartyId, Pageable pageable) {
+        counterpartyRepository.findByIdAndUserId(counterpartyId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("인물을 찾을 수 없습니다"));
+
+        DimensionLabels labels = dimensionDictionary.labels(userId);
+        return appMetrics.statisticsQuery("person-history",
+                        () -> repository.findByCounterpartyIdAndUserId(counterpartyId, userId, pageable))
+                .map(entity -> GiftMoneyResponse.from(entity, labels));
+    }
+
     /**
      * 행사 유형별 통계 조회
      */
     public List<EventTypeStatisticsDto> getEventTypeStatistics(Long userId) {
-        List<Object[]> results = repository.getEventTypeStatisticsRaw(userId);
-        List<EventTypeStatisticsDto> statistics = new ArrayList<>();
+        List<Object[]> results = appMetrics.statisticsQuery("event-type",
+                () -> repository.getEventTypeStatisticsRaw(userId));
+        List<EventTypeStatisticsDto> statistics = new ArrayList<>(results.size());
 
         for (Object[] row : results) {
-            EventTypeStatisticsDto dto = EventTypeStatisticsDto.builder()
-                    .eventType((String) row[0])
-                    .receivedTotal((BigDecimal) row[1])
-                    .receivedCount(((Number) row[2]).longValue())
-                    .sentTotal((BigDecimal) row[3])
-                    .sentCount(((Number) row[4]).longValue())
-                    .averageReceived((BigDecimal) row[5])
-                    .averageSent((BigDecimal) row[6])
-                    .build();
-            statistics.add(dto);
+            statistics.add(toEventType(row));
         }
 
         return statistics;
@@ -86,30 +104,97 @@ public class StatisticsService {
         }
 
         LocalDate startDate = LocalDate.now().minusMonths(months);
-        return repository.getMonthlyStatistics(userId, startDate);
+        List<Object[]> results = appMetrics.statisticsQuery("monthly",
+                () -> repository.getMonthlyStatisticsRaw(userId, startDate));
+        List<MonthlyStatisticsDto> statistics = new ArrayList<>(results.size());
+
+        for (Object[] row : results) {
+            statistics.add(toMonthly(row));
+        }
+
+        return statistics;
     }
 
     /**
      * 관계별 통계 조회
      */
     public List<RelationStatisticsDto> getRelationStatistics(Long userId) {
-        List<Object[]> results = repository.getRelationStatisticsRaw(userId);
-        List<RelationStatisticsDto> statistics = new ArrayList<>();
+        List<Object[]> results = appMetrics.statisticsQuery("relation",
+                () -> repository.getRelationStatisticsRaw(userId));
+        List<RelationStatisticsDto> statistics = new ArrayList<>(results.size());
 
         for (Object[] row : results) {
-            RelationStatisticsDto dto = RelationStatisticsDto.builder()
-                    .relation((String) row[0])
-                    .receivedTotal((BigDecimal) row[1])
-                    .receivedCount(((Number) row[2]).longValue())
-                    .sentTotal((BigDecimal) row[3])
-                    .sentCount(((Number) row[4]).longValue())
-                    .averageReceived((BigDecimal) row[5])
-                    .averageSent((BigDecimal) row[6])
-                    .build();
-            statistics.add(dto);
+            statistics.add(toRelation(row));
         }
 
         return statistics;
     }
 
+    // ========== 행 매핑 (ReactiveStatisticsService와 공유) ==========
+
+    static YearlyStatisticsDto toYearly(Object[] row) {
+        long receivedTotal = toLong(row[1]);
+        long sentTotal = toLong(row[3]);
+        return YearlyStatisticsDto.builder()
+                .year(toInt(row[0]))
+                .receivedTotal(receivedTotal)
+                .receivedCount(toLong(row[2]))
+                .sentTotal(sentTotal)
+                .sentCount(toLong(row[4]))
+                .difference(Math.subtractExact(receivedTotal, sentTotal))
+                .build();
+    }
+
+    static EventTypeStatisticsDto toEventType(Object[] row) {
+        long receivedTotal = toLong(row[1]);
+        long receivedCount = toLong(row[2]);
+        long sentTotal = toLong(row[3]);
+        long sentCount = toLong(row[4]);
+        return EventTypeStatisticsDto.builder()
+                .eventType((String) row[0])
+                .receivedTotal(receivedTotal)
+                .receivedCount(receivedCount)
+                .sentTotal(sentTotal)
+                .sentCount(sentCount)
+                .averageReceived(Money.average(receivedTotal, receivedCount))
+                .averageSent(Money.average(sentTotal, sentCount))
+                .build();
+    }
+
+    static MonthlyStatisticsDto toMonthly(Object[] row) {
+        return MonthlyStatisticsDto.builder()
+                .year(toInt(row[0]))
+                .month(toInt(row[1]))
+                .receivedTotal(toLong(row[2]))
+                .receivedCount(toLong(row[3]))
+                .sentTotal(toLong(row[4]))
+                .sentCount(toLong(row[5]))
+                .build();
+    }
+
+    static RelationStatisticsDto toRelation(Object[] row) {
+        long receivedTotal = toLong(row[1]);
+        long receivedCount = toLong(row[2]);
+        long sentTotal = toLong(row[3]);
+        long sentCount = toLong(row[4]);
+        return RelationStatisticsDto.builder()
+                .relation((String) row[0])
+                .receivedTotal(receivedTotal)
+                .receivedCount(receivedCount)
+                .sentTotal(sentTotal)
+                .sentCount(sentCount)
+                .averageReceived(Money.average(receivedTotal, receivedCount))
+                .averageSent(Money.average(sentTotal, sentCount))
+                .build();
+    }
+
+    // 집계 셀은 BIGINT/INTEGER로 반환되므로 BigDecimal 변환 없이 primitive로 읽음
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    private static int toInt(Object value) {
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
 }
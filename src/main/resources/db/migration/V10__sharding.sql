@@ -0,0 +1,59 @@
+-- 사용자 샤딩 (디렉터리 DB + 샤드 DB)
+-- 이유: 사용자 데이터(gift_money, counterparties, dimensions)를 여러 DB로 나눠 쓰기/저장 용량을 수평 확장
+--       한 사용자의 데이터는 항상 한 샤드에 모여 있으므로 모든 조회는 샤드 하나에서 끝남
+--
+-- 구성:
+-- - 기존 DB = 디렉터리 DB(users, email_verifications, account_purges, shard_assignments, shard_moves)이자 샤드 0
+-- - 추가 샤드 DB = app.sharding.shard-urls (DB_SHARD_URLS) 순서대로 샤드 1..N
+-- - shard_assignments 행이 없는 사용자는 샤드 0 (기존 사용자는 이전 없이 그대로 동작)
+
+-- ========== 1. 디렉터리 DB (기존 DB)에서 실행 ==========
+
+BEGIN;
+
+CREATE TABLE shard_assignments (
+    user_id BIGINT PRIMARY KEY,
+    shard INTEGER NOT NULL,
+    moving BOOLEAN NOT NULL DEFAULT false,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE shard_moves (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    source_shard INTEGER NOT NULL,
+    target_shard INTEGER NOT NULL,
+    phase VARCHAR(30) NOT NULL,
+    copied_rows BIGINT NOT NULL DEFAULT 0,
+    deleted_rows BIGINT NOT NULL DEFAULT 0,
+    not_before TIMESTAMP(6),
+    locked_until TIMESTAMP(6),
+    error VARCHAR(500),
+    completed_at TIMESTAMP(6),
+    created_at TIMESTAMP(6)
+);
+CREATE INDEX idx_shard_moves_phase ON shard_moves(phase);
+
+-- gift_money → users 외래 키 제거 (샤드 DB에는 users 테이블이 없으므로 샤드 0도 동일하게 맞춤)
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN
+        SELECT conname FROM pg_constraint
+        WHERE conrelid = 'gift_money'::regclass AND contype = 'f' AND confrelid = 'users'::regclass
+    LOOP
+        EXECUTE format('ALTER TABLE gift_money DROP CONSTRAINT %I', fk.conname);
+    END LOOP;
+END $$;
+
+COMMIT;
+
+-- ========== 2. 새 샤드 DB마다 실행 ==========
+-- 스키마는 디렉터리 DB의 사용자 데이터 테이블을 그대로 복제:
+--   pg_dump --schema-only -t 'gift_money*' -t counterparties -t dimensions $PRIMARY | psql $SHARD
+--
+-- 샤드 이전 시 gift_money/counterparties ID를 그대로 옮기므로 샤드마다 ID 구간을 나눔
+-- (샤드 N은 N * 1,000,000,000,000 + 1부터 발급, ShardSchemaInitializer.ID_RANGE와 동일)
+--   psql $SHARD -v shard_id=1 -c "SELECT setval(pg_get_serial_sequence('gift_money', 'id'), :shard_id * 1000000000000 + 1, false)"
+--   psql $SHARD -v shard_id=1 -c "SELECT setval(pg_get_serial_sequence('counterparties', 'id'), :shard_id * 1000000000000 + 1, false)"
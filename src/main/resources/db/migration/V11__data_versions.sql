@@ -0,0 +1,19 @@
+-- 사용자 데이터 버전 (조건부 GET: ETag / 304)
+-- 이유: 목록/통계 응답의 ETag를 쿼리 결과 해시 대신 사용자별 버전 번호로 만들어,
+--       If-None-Match가 일치하면 버전만 확인하고 쿼리/직렬화 없이 304로 응답
+--       gift_money 쓰기(등록/수정/삭제/Excel 가져오기)와 같은 트랜잭션에서 version + 1
+--
+-- 사용자 데이터 테이블이므로 샤드 DB마다 실행 (샤드 0 = 디렉터리 DB 포함)
+
+BEGIN;
+
+CREATE TABLE data_versions (
+    user_id BIGINT PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+-- 기존 사용자는 버전 1로 시작 (행이 없는 사용자는 0 → 배포 전 응답과 ETag가 겹치지 않음)
+INSERT INTO data_versions (user_id, version)
+SELECT DISTINCT user_id, 1 FROM gift_money;
+
+COMMIT;
@@ -0,0 +1,27 @@
+-- gift_money 변경 로그 (증분 동기화: GET /api/gift-money/changes?since=<seq>)
+-- 이유: 클라이언트가 등록/수정/삭제 후와 방문 시마다 목록/통계를 모두 다시 받던 것을
+--       마지막 동기화 지점(seq) 이후 변경된 행과 삭제된 ID만 받도록
+--       seq = 쓰기 트랜잭션의 data_versions.version (사용자별 단조 증가)
+--
+-- 사용자 데이터 테이블이므로 샤드 DB마다 실행 (샤드 0 = 디렉터리 DB 포함)
+
+BEGIN;
+
+CREATE TABLE gift_money_changes (
+    user_id BIGINT NOT NULL,
+    seq BIGINT NOT NULL,
+    gift_money_id BIGINT NOT NULL,
+    deleted BOOLEAN NOT NULL,
+    changed_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (user_id, seq, gift_money_id)
+);
+
+-- 보관 기간이 지난 로그 정리용
+CREATE INDEX idx_gift_money_changes_changed_at ON gift_money_changes(changed_at);
+
+-- 정리된 지점: 이보다 이전 seq에서 동기화하면 전체 목록을 다시 받음
+-- 로그 도입 이전의 변경은 로그에 없으므로 현재 버전까지 정리된 것으로 시작
+ALTER TABLE data_versions ADD COLUMN compacted_seq BIGINT NOT NULL DEFAULT 0;
+UPDATE data_versions SET compacted_seq = version;
+
+COMMIT;
@@ -0,0 +1,8 @@
+-- 목록 조회 인덱스 (user_id, event_date DESC, id DESC)
+-- 이유: 목록은 사용자별 최신순(event_date DESC, id DESC) 정렬 → 기존 idx_user_id는 사용자의 모든 행을 읽어 정렬
+--       이 인덱스 순서대로 LIMIT 행만 읽고 바로 종료, 커서(nextCursor) 페이지는 인덱스 위치부터 시작
+--
+-- 사용자 데이터 테이블이므로 샤드 DB마다 실행 (샤드 0 = 디렉터리 DB 포함)
+-- 파티션 테이블(V9)에는 CONCURRENTLY를 사용할 수 없으므로 사용량이 적은 시간에 실행
+
+CREATE INDEX IF NOT EXISTS idx_gift_money_user_event_date ON gift_money(user_id, event_date DESC, id DESC);
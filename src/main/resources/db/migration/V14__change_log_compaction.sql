@@ -0,0 +1,7 @@
+-- 변경 로그 정리(compaction) 인덱스 (user_id, gift_money_id, seq)
+-- 이유: 보관 기간이 지난 로그를 항목별 최신 seq 하나로 합칠 때 "같은 항목의 더 최근 로그" 존재 여부를 인덱스로 확인
+--       기존 PK (user_id, seq, gift_money_id)는 사용자의 전체 로그를 훑어야 함
+--
+-- 사용자 데이터 테이블이므로 샤드 DB마다 실행 (샤드 0 = 디렉터리 DB 포함)
+
+CREATE INDEX IF NOT EXISTS idx_gift_money_changes_item ON gift_money_changes(user_id, gift_money_id, seq);
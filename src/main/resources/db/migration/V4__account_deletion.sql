@@ -0,0 +1,22 @@
+-- 회원 탈퇴: 계정 즉시 비활성화 + 백그라운드 배치 삭제
+-- 이유: users → gift_money cascade 삭제는 모든 행을 메모리에 올려 하나의 트랜잭션에서 삭제하므로
+--       대용량 계정 삭제 시 커넥션 점유 및 힙 부족 발생
+
+ALTER TABLE users ADD COLUMN enabled BOOLEAN NOT NULL DEFAULT TRUE;
+ALTER TABLE users ADD COLUMN deletion_requested_at TIMESTAMP;
+
+-- 삭제 작업 체크포인트 (users 행 삭제 후에도 남아야 하므로 FK 없음)
+CREATE TABLE account_purges (
+    id                    BIGSERIAL PRIMARY KEY,
+    user_id               BIGINT       NOT NULL UNIQUE,
+    email                 VARCHAR(255) NOT NULL,
+    phase                 VARCHAR(30)  NOT NULL,
+    deleted_gift_money    BIGINT       NOT NULL DEFAULT 0,
+    deleted_verifications BIGINT       NOT NULL DEFAULT 0,
+    locked_until          TIMESTAMP,
+    last_checkpoint_at    TIMESTAMP,
+    completed_at          TIMESTAMP,
+    created_at            TIMESTAMP
+);
+
+CREATE INDEX idx_account_purges_phase ON account_purges(phase);
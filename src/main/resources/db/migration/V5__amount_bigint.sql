@@ -0,0 +1,5 @@
+-- 금액 컬럼 타입 변경: NUMERIC(10,0) → BIGINT
+-- 이유: 원화는 정수 금액이므로 long 기반 Money 타입으로 매핑
+--       통계 집계 시 BigDecimal 변환/할당 제거, 정수 연산으로 합계/평균 계산
+
+ALTER TABLE gift_money ALTER COLUMN amount TYPE BIGINT USING amount::BIGINT;
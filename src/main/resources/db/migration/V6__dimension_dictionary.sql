@@ -0,0 +1,52 @@
+-- 행사 유형/관계 사전 인코딩
+-- 이유: gift_money 행마다 반복 저장되던 문자열 라벨을 정수 키로 대체
+--       행 크기와 인덱스 크기 감소, 유형/관계별 집계는 정수 키로 GROUP BY 후 라벨만 조인
+
+CREATE TABLE dimensions (
+    id SERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    kind VARCHAR(20) NOT NULL,
+    label VARCHAR(50) NOT NULL,
+    CONSTRAINT uk_dimensions_user_kind_label UNIQUE (user_id, kind, label)
+);
+
+-- 기존 라벨을 사전으로 이관 (빈 관계는 미지정 = NULL 키)
+INSERT INTO dimensions (user_id, kind, label)
+SELECT DISTINCT user_id, 'EVENT_TYPE', TRIM(event_type)
+FROM gift_money
+WHERE event_type IS NOT NULL AND TRIM(event_type) <> '';
+
+-- 행사 유형은 필수지만 기존 엑셀 가져오기는 빈 셀을 ''로 저장했음 → '미지정' 라벨로 이관 (NOT NULL 전환 전에 채움)
+INSERT INTO dimensions (user_id, kind, label)
+SELECT DISTINCT user_id, 'EVENT_TYPE', '미지정'
+FROM gift_money
+WHERE (event_type IS NULL OR TRIM(event_type) = '')
+  AND NOT EXISTS (SELECT 1 FROM dimensions d
+                  WHERE d.user_id = gift_money.user_id AND d.kind = 'EVENT_TYPE' AND d.label = '미지정');
+
+INSERT INTO dimensions (user_id, kind, label)
+SELECT DISTINCT user_id, 'RELATION', TRIM(relation)
+FROM gift_money
+WHERE relation IS NOT NULL AND TRIM(relation) <> '';
+
+ALTER TABLE gift_money ADD COLUMN event_type_id INTEGER;
+ALTER TABLE gift_money ADD COLUMN relation_id INTEGER;
+
+UPDATE gift_money g SET event_type_id = d.id
+FROM dimensions d
+WHERE d.user_id = g.user_id AND d.kind = 'EVENT_TYPE' AND d.label = TRIM(g.event_type);
+
+UPDATE gift_money g SET event_type_id = d.id
+FROM dimensions d
+WHERE d.user_id = g.user_id AND d.kind = 'EVENT_TYPE' AND d.label = '미지정'
+  AND (g.event_type IS NULL OR TRIM(g.event_type) = '');
+
+UPDATE gift_money g SET relation_id = d.id
+FROM dimensions d
+WHERE d.user_id = g.user_id AND d.kind = 'RELATION' AND d.label = TRIM(g.relation);
+
+ALTER TABLE gift_money ALTER COLUMN event_type_id SET NOT NULL;
+ALTER TABLE gift_money DROP COLUMN event_type;
+ALTER TABLE gift_money DROP COLUMN relation;
+
+CREATE INDEX idx_gift_money_event_type ON gift_money(user_id, event_type_id);
@@ -0,0 +1,18 @@
+-- 거래 유형 컬럼 타입 변경: VARCHAR(10) → SMALLINT 코드 (0 = RECEIVED, 1 = SENT)
+-- 이유: 통계 쿼리의 CASE WHEN transaction_type = ... 비교를 문자열 → 정수 비교로
+--       DB 체크 제약으로 허용 값 보장 (기존에는 요청 DTO 정규식 검사뿐)
+
+ALTER TABLE gift_money ALTER COLUMN transaction_type DROP DEFAULT;
+
+ALTER TABLE gift_money ALTER COLUMN transaction_type TYPE SMALLINT
+    USING CASE transaction_type WHEN 'RECEIVED' THEN 0 WHEN 'SENT' THEN 1 END;
+
+ALTER TABLE gift_money ALTER COLUMN transaction_type SET NOT NULL;
+
+ALTER TABLE gift_money ADD CONSTRAINT chk_gift_money_transaction_type
+    CHECK (transaction_type IN (0, 1));
+
+-- 받은/보낸 탭 목록용 부분 인덱스 (findByUserIdAndTransactionType, event_date DESC 정렬)
+-- prepareThreshold=0 (서버 측 prepared statement 미사용) → 바인딩 값으로 계획하므로 부분 인덱스 조건 매칭 가능
+CREATE INDEX idx_gift_money_received ON gift_money(user_id, event_date DESC) WHERE transaction_type = 0;
+CREATE INDEX idx_gift_money_sent ON gift_money(user_id, event_date DESC) WHERE transaction_type = 1;
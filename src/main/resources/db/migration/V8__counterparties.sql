@@ -0,0 +1,61 @@
+-- 상대방(인물) 테이블 + 누적 합계
+-- 이유: 인물별 통계를 매번 gift_money 전체 GROUP BY (name, relation)로 계산하던 것을
+--       쓰기 시점에 갱신되는 누적 합계의 인덱스 페이지 조회로 대체
+--       인물별 거래 내역은 (counterparty_id, event_date) 인덱스 조회
+
+CREATE TABLE counterparties (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    relation_id INTEGER,
+    received_total BIGINT NOT NULL DEFAULT 0,
+    received_count BIGINT NOT NULL DEFAULT 0,
+    sent_total BIGINT NOT NULL DEFAULT 0,
+    sent_count BIGINT NOT NULL DEFAULT 0,
+    balance BIGINT NOT NULL DEFAULT 0,
+    last_event_date DATE,
+    last_event_type_id INTEGER,
+    created_at TIMESTAMP
+);
+
+-- 관계 미지정(NULL)도 하나의 인물로 취급하도록 COALESCE 식 유니크 인덱스
+CREATE UNIQUE INDEX uk_counterparties_user_name_relation
+    ON counterparties(user_id, name, COALESCE(relation_id, 0));
+CREATE INDEX idx_counterparties_user_balance ON counterparties(user_id, balance DESC, id);
+
+-- 기존 데이터로 인물 생성 및 합계 계산
+INSERT INTO counterparties (user_id, name, relation_id,
+                            received_total, received_count, sent_total, sent_count, balance,
+                            last_event_date, created_at)
+SELECT user_id, name, relation_id,
+       COALESCE(SUM(CASE WHEN transaction_type = 0 THEN amount END), 0),
+       COUNT(CASE WHEN transaction_type = 0 THEN 1 END),
+       COALESCE(SUM(CASE WHEN transaction_type = 1 THEN amount END), 0),
+       COUNT(CASE WHEN transaction_type = 1 THEN 1 END),
+       COALESCE(SUM(CASE WHEN transaction_type = 0 THEN amount ELSE -amount END), 0),
+       MAX(event_date),
+       NOW()
+FROM gift_money
+GROUP BY user_id, name, relation_id;
+
+ALTER TABLE gift_money ADD COLUMN counterparty_id BIGINT;
+
+UPDATE gift_money g SET counterparty_id = c.id
+FROM counterparties c
+WHERE c.user_id = g.user_id AND c.name = g.name
+  AND COALESCE(c.relation_id, 0) = COALESCE(g.relation_id, 0);
+
+ALTER TABLE gift_money ALTER COLUMN counterparty_id SET NOT NULL;
+ALTER TABLE gift_money ADD CONSTRAINT fk_gift_money_counterparty
+    FOREIGN KEY (counterparty_id) REFERENCES counterparties(id);
+
+CREATE INDEX idx_gift_money_counterparty ON gift_money(counterparty_id, event_date DESC);
+
+-- 마지막 행사 유형 (인물별 가장 최근 항목)
+UPDATE counterparties c SET last_event_type_id = latest.event_type_id
+FROM (
+    SELECT DISTINCT ON (counterparty_id) counterparty_id, event_type_id
+    FROM gift_money
+    ORDER BY counterparty_id, event_date DESC, id DESC
+) latest
+WHERE latest.counterparty_id = c.id;
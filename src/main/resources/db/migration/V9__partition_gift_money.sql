@@ -0,0 +1,104 @@
+-- gift_money 해시 파티셔닝 (user_id 기준)
+-- 이유: 모든 조회가 user_id 범위이므로 사용자 수가 늘어도 파티션 하나만 접근
+--       파티션별로 VACUUM/인덱스가 작게 유지되고, 한 사용자의 행이 같은 파티션에 모여 캐시 지역성 향상
+--
+-- 대규모 배포용 선택 마이그레이션 (적용 전 백업 필수, 테이블 전체를 복사하므로 점검 시간에 실행)
+-- - partitions: 해시 파티션 수 (이후 변경하려면 다시 재구성 필요)
+-- - yearly: true면 각 해시 파티션을 event_date 연도별로 하위 분할 (연도 범위 밖은 DEFAULT 파티션)
+--
+-- 애플리케이션 측:
+-- - 모든 네이티브 쿼리에 user_id = :userId 조건 포함 → 계획 시점 파티션 제거 (prepareThreshold=0)
+-- - GiftMoney.userId(@PartitionKey) → 엔티티 UPDATE/DELETE에도 user_id 조건 추가
+-- - hibernate.hbm2ddl.extra_physical_table_types=PARTITIONED TABLE → validate 시 파티션 테이블 인식
+-- - 성능 비교: scripts/bench/partitioning
+
+BEGIN;
+
+CREATE SEQUENCE gift_money_part_id_seq;
+
+CREATE TABLE gift_money_part (
+    id BIGINT NOT NULL DEFAULT nextval('gift_money_part_id_seq'),
+    user_id BIGINT NOT NULL,
+    event_date DATE NOT NULL,
+    event_type_id INTEGER NOT NULL,
+    transaction_type SMALLINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    relation_id INTEGER,
+    counterparty_id BIGINT NOT NULL,
+    amount BIGINT NOT NULL,
+    contact VARCHAR(50),
+    memo TEXT,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT chk_gift_money_transaction_type CHECK (transaction_type IN (0, 1))
+) PARTITION BY HASH (user_id);
+
+DO $$
+DECLARE
+    partitions CONSTANT INTEGER := 16;
+    yearly CONSTANT BOOLEAN := false;
+    first_year INTEGER;
+    last_year INTEGER;
+BEGIN
+    SELECT COALESCE(MIN(EXTRACT(YEAR FROM event_date))::INTEGER, EXTRACT(YEAR FROM CURRENT_DATE)::INTEGER),
+           EXTRACT(YEAR FROM CURRENT_DATE)::INTEGER + 1
+    INTO first_year, last_year
+    FROM gift_money;
+
+    FOR i IN 0..partitions - 1 LOOP
+        IF yearly THEN
+            EXECUTE format('CREATE TABLE gift_money_p%s PARTITION OF gift_money_part '
+                           'FOR VALUES WITH (MODULUS %s, REMAINDER %s) PARTITION BY RANGE (event_date)',
+                           i, partitions, i);
+            FOR y IN first_year..last_year LOOP
+                EXECUTE format('CREATE TABLE gift_money_p%s_y%s PARTITION OF gift_money_p%s '
+                               'FOR VALUES FROM (%L) TO (%L)',
+                               i, y, i, make_date(y, 1, 1), make_date(y + 1, 1, 1));
+            END LOOP;
+            EXECUTE format('CREATE TABLE gift_money_p%s_default PARTITION OF gift_money_p%s DEFAULT', i, i);
+        ELSE
+            EXECUTE format('CREATE TABLE gift_money_p%s PARTITION OF gift_money_part '
+                           'FOR VALUES WITH (MODULUS %s, REMAINDER %s)',
+                           i, partitions, i);
+        END IF;
+    END LOOP;
+
+    -- 파티션 테이블의 기본 키는 모든 파티션 키 컬럼을 포함해야 함
+    IF yearly THEN
+        ALTER TABLE gift_money_part ADD CONSTRAINT gift_money_part_pkey PRIMARY KEY (id, user_id, event_date);
+    ELSE
+        ALTER TABLE gift_money_part ADD CONSTRAINT gift_money_part_pkey PRIMARY KEY (id, user_id);
+    END IF;
+END $$;
+
+INSERT INTO gift_money_part (id, user_id, event_date, event_type_id, transaction_type, name, relation_id,
+                             counterparty_id, amount, contact, memo, created_at, updated_at)
+SELECT id, user_id, event_date, event_type_id, transaction_type, name, relation_id,
+       counterparty_id, amount, contact, memo, created_at, updated_at
+FROM gift_money;
+
+SELECT setval('gift_money_part_id_seq', COALESCE(MAX(id), 0) + 1, false) FROM gift_money_part;
+
+DROP TABLE gift_money;
+ALTER TABLE gift_money_part RENAME TO gift_money;
+ALTER TABLE gift_money RENAME CONSTRAINT gift_money_part_pkey TO gift_money_pkey;
+ALTER SEQUENCE gift_money_part_id_seq RENAME TO gift_money_id_seq;
+ALTER SEQUENCE gift_money_id_seq OWNED BY gift_money.id;
+
+ALTER TABLE gift_money ADD CONSTRAINT fk_gift_money_user
+    FOREIGN KEY (user_id) REFERENCES users(id);
+ALTER TABLE gift_money ADD CONSTRAINT fk_gift_money_counterparty
+    FOREIGN KEY (counterparty_id) REFERENCES counterparties(id);
+
+-- 파티션 인덱스 (각 파티션에 자동 생성)
+CREATE INDEX idx_user_id ON gift_money(user_id);
+CREATE INDEX idx_event_date ON gift_money(event_date);
+CREATE INDEX idx_name ON gift_money(name);
+CREATE INDEX idx_gift_money_event_type ON gift_money(user_id, event_type_id);
+CREATE INDEX idx_gift_money_counterparty ON gift_money(counterparty_id, event_date DESC);
+CREATE INDEX idx_gift_money_received ON gift_money(user_id, event_date DESC) WHERE transaction_type = 0;
+CREATE INDEX idx_gift_money_sent ON gift_money(user_id, event_date DESC) WHERE transaction_type = 1;
+
+COMMIT;
+
+ANALYZE gift_money;
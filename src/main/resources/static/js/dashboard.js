@@ -7,10 +7,19 @@ let pageSize = 10;
 let searchKeyword = '';
 let currentTransactionType = 'RECEIVED'; // 기본값: 받은 경조금
 
+// 마지막으로 표시한 요약 통계 (수정/삭제 응답의 변화량을 더함)
+let currentSummary = null;
+
+// 목록 표에서 사용하는 필드
+const LIST_FIELDS = 'eventDate,eventType,transactionType,name,relation,amount,contact,memo';
+
 // Global flags to prevent race conditions
 let isRedirecting = false;
 let isInitializing = false;
 
+// 실시간 변경 알림 (SSE) - 연결되어 있으면 저장/삭제 후 다시 조회하지 않고 이벤트로 갱신
+let changeEvents = null;
+
 // ⚡ XSS 방어: HTML 이스케이핑 함수 (보안 강화 2025-11-07)
 function escapeHtml(text) {
     if (text == null || text === '') return '';
@@ -92,6 +101,9 @@ document.addEventListener('DOMContentLoaded', function() {
     // Load initial data safely
     initializeDashboard();
 
+    // 다른 탭/기기의 변경도 바로 반영
+    connectChangeEvents();
+
     // Setup search with auto-search on input (debounced)
     let searchTimeout;
     document.getElementById('searchInput').addEventListener('input', function(e) {
@@ -132,6 +144,16 @@ async function initializeDashboard() {
     isInitializing = true;
 
     try {
+        // 서버에서 렌더링한 첫 화면이 있으면 다시 조회하지 않음
+        if (useInitialData()) {
+            return;
+        }
+
+        // 사용자 정보/목록 첫 페이지/요약 통계를 한 번에 조회, 실패하면 개별 요청으로
+        if (await loadBootstrap()) {
+            return;
+        }
+
         // Use Promise.allSettled to prevent cascading failures
         const results = await Promise.allSettled([
             loadGiftMoney(),
@@ -164,6 +186,65 @@ async function initializeDashboard() {
     }
 }
 
+// 서버 렌더링 첫 화면 (목록 첫 페이지/통계 카드는 이미 표시됨) - 페이지/요약 상태만 이어받음
+function useInitialData() {
+    const element = document.getElementById('initialData');
+    if (!element) {
+        return false;
+    }
+
+    try {
+        const data = JSON.parse(element.textContent);
+        // 다른 계정의 쿠키로 렌더링된 화면이면 사용하지 않음
+        const user = JSON.parse(localStorage.getItem('user'));
+        if (!user || user.id !== data.userId) {
+            return false;
+        }
+        currentSummary = data.summary;
+        displayPagination({ totalPages: Math.ceil(data.total / pageSize) });
+        return true;
+    } catch (e) {
+        console.error('초기 데이터 파싱 실패:', e);
+        return false;
+    }
+}
+
+// Load dashboard bootstrap (user + first page + summary in one request)
+async function loadBootstrap() {
+    try {
+        const params = new URLSearchParams({
+            size: pageSize,
+            fields: LIST_FIELDS
+        });
+        if (currentTransactionType) {
+            params.append('transactionType', currentTransactionType);
+        }
+
+        const response = await fetch(`${API_BASE}/dashboard/bootstrap?${params}`, {
+            headers: getAuthHeaders()
+        });
+
+        if (!response.ok) {
+            if (response.status === 401) {
+                await handleError(response, '데이터를 불러오는데 실패했습니다.');
+            }
+            return isRedirecting;
+        }
+
+        const data = await response.json();
+        localStorage.setItem('user', JSON.stringify(data.user));
+        document.getElementById('userName').textContent = data.user.name;
+        displayGiftMoneyList(data.list.content);
+        displayPagination({ totalPages: Math.ceil(data.list.total / pageSize) });
+        displayStatistics(data.summary);
+        return true;
+
+    } catch (error) {
+        console.error('대시보드 데이터 로딩 실패:', error);
+        return false;
+    }
+}
+
 // Get authentication headers
 function getAuthHeaders() {
     return {
@@ -527,9 +608,12 @@ async function handleError(response, defaultMessage) {
 // Load gift money list
 async function loadGiftMoney() {
     try {
+        // 표에 표시하는 필드만 요청 (Page 메타데이터 없는 간단 응답, 페이지 버튼용 total 포함)
         const params = new URLSearchParams({
             page: currentPage,
-            size: pageSize
+            size: pageSize,
+            fields: LIST_FIELDS,
+            total: true
         });
 
         if (searchKeyword) {
@@ -551,7 +635,7 @@ async function loadGiftMoney() {
 
         const data = await response.json();
         displayGiftMoneyList(data.content);
-        displayPagination(data);
+        displayPagination({ totalPages: Math.ceil(data.total / pageSize) });
 
     } catch (error) {
         await handleError(error, '데이터를 불러오는데 실패했습니다.');
@@ -680,38 +764,114 @@ async function loadStatistics() {
             throw response;
         }
 
-        const stats = await response.json();
+        displayStatistics(await response.json());
 
-        // 받은 경조금 통계
-        document.getElementById('receivedAmount').textContent =
-            Number(stats.receivedTotalAmount).toLocaleString() + '원';
-        document.getElementById('receivedCount').textContent = stats.receivedCount;
+    } catch (error) {
+        console.error('통계 로딩 실패:', error);
+    }
+}
 
-        // 보낸 경조금 통계
-        document.getElementById('sentAmount').textContent =
-            Number(stats.sentTotalAmount).toLocaleString() + '원';
-        document.getElementById('sentCount').textContent = stats.sentCount;
+// Display statistics summary
+function displayStatistics(stats) {
+    currentSummary = stats;
+
+    // 받은 경조금 통계
+    document.getElementById('receivedAmount').textContent =
+        Number(stats.receivedTotalAmount).toLocaleString() + '원';
+    document.getElementById('receivedCount').textContent = stats.receivedCount;
+
+    // 보낸 경조금 통계
+    document.getElementById('sentAmount').textContent =
+        Number(stats.sentTotalAmount).toLocaleString() + '원';
+    document.getElementById('sentCount').textContent = stats.sentCount;
+
+    // 차액 계산 (받은 - 보낸)
+    const difference = Number(stats.receivedTotalAmount) - Number(stats.sentTotalAmount);
+    const differenceElement = document.getElementById('differenceAmount');
+    differenceElement.textContent = difference.toLocaleString() + '원';
+
+    // 차액이 음수면 빨간색, 양수면 초록색
+    if (difference < 0) {
+        differenceElement.style.color = '#dc3545';
+    } else if (difference > 0) {
+        differenceElement.style.color = '#28a745';
+    } else {
+        differenceElement.style.color = 'white';
+    }
 
-        // 차액 계산 (받은 - 보낸)
-        const difference = Number(stats.receivedTotalAmount) - Number(stats.sentTotalAmount);
-        const differenceElement = document.getElementById('differenceAmount');
-        differenceElement.textContent = difference.toLocaleString() + '원';
+    // 전체 건수
+    document.getElementById('totalCount').textContent = stats.totalCount;
+}
 
-        // 차액이 음수면 빨간색, 양수면 초록색
-        if (difference < 0) {
-            differenceElement.style.color = '#dc3545';
-        } else if (difference > 0) {
-            differenceElement.style.color = '#28a745';
-        } else {
-            differenceElement.style.color = 'white';
+// Subscribe to change events (SSE)
+// EventSource는 헤더를 지정할 수 없으므로 구독 전용 쿠키(HttpOnly)를 먼저 받음 → 토큰을 URL에 넣지 않음
+// 끊기면 브라우저가 자동 재연결, 쿠키 만료로 거부되면(CLOSED) 쿠키를 다시 받아 연결
+async function connectChangeEvents() {
+    if (!window.EventSource) {
+        return;
+    }
+
+    try {
+        const response = await fetch(`${API_BASE}/gift-money/events/session`, {
+            method: 'POST',
+            headers: getAuthHeaders()
+        });
+        if (!response.ok) {
+            return;
         }
+    } catch (error) {
+        return;
+    }
 
-        // 전체 건수
-        document.getElementById('totalCount').textContent = stats.totalCount;
+    changeEvents = new EventSource(`${API_BASE}/gift-money/events`);
+    changeEvents.onerror = function() {
+        if (changeEvents.readyState === EventSource.CLOSED) {
+            changeEvents = null;
+            setTimeout(connectChangeEvents, 5000);
+        }
+    };
 
-    } catch (error) {
-        console.error('통계 로딩 실패:', error);
+    // 쓰기 커밋마다 {version, summary} - 요약은 그대로 표시하고 현재 목록 페이지만 다시 조회
+    changeEvents.addEventListener('change', function(event) {
+        const change = JSON.parse(event.data);
+        displayStatistics(change.summary);
+        loadGiftMoney();
+    });
+}
+
+// 알림이 연결되어 있지 않으면 직접 다시 조회
+// summaryDelta가 있으면 표시 중인 요약에 더하기만 함 (통계 조회 생략)
+async function refreshAfterChange(summaryDelta) {
+    if (changeEvents && changeEvents.readyState === EventSource.OPEN) {
+        return;
     }
+    await loadGiftMoney();
+    if (summaryDelta && currentSummary) {
+        applySummaryDelta(summaryDelta);
+    } else {
+        await loadStatistics();
+    }
+}
+
+// 요약 통계 + 변화량 (평균/전체 값은 합계와 건수로 다시 계산, 서버와 같은 정수 나눗셈)
+function applySummaryDelta(delta) {
+    const receivedTotalAmount = Number(currentSummary.receivedTotalAmount) + delta.receivedTotalAmount;
+    const receivedCount = Number(currentSummary.receivedCount) + delta.receivedCount;
+    const sentTotalAmount = Number(currentSummary.sentTotalAmount) + delta.sentTotalAmount;
+    const sentCount = Number(currentSummary.sentCount) + delta.sentCount;
+    const average = (total, count) => count > 0 ? Math.trunc(total / count) : 0;
+
+    displayStatistics({
+        receivedTotalAmount,
+        receivedCount,
+        receivedAvgAmount: average(receivedTotalAmount, receivedCount),
+        sentTotalAmount,
+        sentCount,
+        sentAvgAmount: average(sentTotalAmount, sentCount),
+        totalAmount: receivedTotalAmount + sentTotalAmount,
+        totalCount: receivedCount + sentCount,
+        avgAmount: average(receivedTotalAmount + sentTotalAmount, receivedCount + sentCount)
+    });
 }
 
 // Show add modal
@@ -829,7 +989,8 @@ async function saveGiftMoney() {
     };
 
     try {
-        const url = id ? `${API_BASE}/gift-money/${id}` : `${API_BASE}/gift-money`;
+        // summary=true: 응답에 요약 통계 변화량 포함 (통계 다시 조회 없음)
+        const url = id ? `${API_BASE}/gift-money/${id}?summary=true` : `${API_BASE}/gift-money?summary=true`;
         const method = id ? 'PUT' : 'POST';
 
         const response = await fetch(url, {
@@ -842,6 +1003,7 @@ async function saveGiftMoney() {
             throw response;
         }
 
+        const result = await response.json();
         showToast(id ? '수정되었습니다.' : '추가되었습니다.', 'success');
 
         const modal = bootstrap.Modal.getInstance(document.getElementById('giftMoneyModal'));
@@ -862,9 +1024,8 @@ async function saveGiftMoney() {
             }
         }
 
-        // 데이터 다시 로드
-        await loadGiftMoney();
-        await loadStatistics();
+        // 데이터 다시 로드 (변경 알림이 연결되어 있으면 이벤트로 갱신)
+        await refreshAfterChange(result.summaryDelta);
 
     } catch (error) {
         await handleError(error, '저장에 실패했습니다.');
@@ -878,7 +1039,7 @@ async function deleteGiftMoney(id) {
     }
 
     try {
-        const response = await fetch(`${API_BASE}/gift-money/${id}`, {
+        const response = await fetch(`${API_BASE}/gift-money/${id}?summary=true`, {
             method: 'DELETE',
             headers: getAuthHeaders()
         });
@@ -887,11 +1048,11 @@ async function deleteGiftMoney(id) {
             throw response;
         }
 
+        const result = await response.json();
         showToast('삭제되었습니다.', 'success');
 
-        // 데이터 다시 로드
-        await loadGiftMoney();
-        await loadStatistics();
+        // 데이터 다시 로드 (변경 알림이 연결되어 있으면 이벤트로 갱신)
+        await refreshAfterChange(result.summaryDelta);
 
     } catch (error) {
         await handleError(error, '삭제에 실패했습니다.');
@@ -949,9 +1110,8 @@ async function uploadFile() {
         const modal = bootstrap.Modal.getInstance(document.getElementById('uploadModal'));
         modal.hide();
 
-        // 데이터 다시 로드
-        await loadGiftMoney();
-        await loadStatistics();
+        // 데이터 다시 로드 (변경 알림이 연결되어 있으면 이벤트로 갱신)
+        await refreshAfterChange();
 
     } catch (error) {
         await handleError(error, '업로드에 실패했습니다.');
@@ -963,6 +1123,13 @@ async function uploadFile() {
 
 // Logout
 function logout() {
+    if (changeEvents) {
+        changeEvents.close();
+    }
+
+    // 페이지 토큰 쿠키 삭제 (HttpOnly라 스크립트에서 지울 수 없음)
+    fetch(`${API_BASE}/auth/logout`, { method: 'POST', keepalive: true }).catch(() => {});
+
     // localStorage 정리: JWT 토큰 및 사용자 정보 (로그인 상태)
     localStorage.removeItem('token');
     localStorage.removeItem('user');
@@ -51,7 +51,8 @@ async function loadAllStatistics() {
         await Promise.all([
             loadYearlyStatistics(),
             loadMonthlyStatistics(),
-            loadPersonStatistics(),
+            // 서버에서 렌더링한 인물별 통계가 있으면 다시 조회하지 않음
+            hasInitialPersons() ? Promise.resolve() : loadPersonStatistics(),
             loadEventTypeStatistics(),
             loadRelationStatistics()
         ]);
@@ -61,6 +62,23 @@ async function loadAllStatistics() {
     }
 }
 
+// 서버 렌더링 첫 화면이 현재 로그인한 사용자 것인지 확인
+function hasInitialPersons() {
+    const element = document.getElementById('initialData');
+    if (!element) {
+        return false;
+    }
+
+    try {
+        const data = JSON.parse(element.textContent);
+        const user = JSON.parse(localStorage.getItem('user'));
+        return !!user && user.id === data.userId;
+    } catch (e) {
+        console.error('초기 데이터 파싱 실패:', e);
+        return false;
+    }
+}
+
 // Load yearly statistics
 async function loadYearlyStatistics() {
     try {
@@ -242,13 +260,18 @@ async function loadMonthlyStatistics() {
 // Load person statistics
 async function loadPersonStatistics() {
     try {
-        const response = await fetch(`${API_BASE}/statistics/person`, {
+        const MAX_DISPLAY_ROWS = 500; // Limit to 500 rows to prevent memory issues
+
+        // ⚡ 성능: 서버에서 잔액순 페이지 조회 (첫 페이지만 요청)
+        const response = await fetch(`${API_BASE}/statistics/person?size=${MAX_DISPLAY_ROWS}`, {
             headers: getAuthHeaders()
         });
 
         if (!response.ok) throw response;
 
-        const data = await response.json();
+        const page = await response.json();
+        const data = page.content;
+        const totalPersons = page.totalElements;
 
         // Top 5 persons
         const top5 = data.slice(0, 5);
@@ -280,13 +303,12 @@ async function loadPersonStatistics() {
 
         // Full person table (limit to prevent memory issues)
         const tableBody = document.getElementById('personTable');
-        const MAX_DISPLAY_ROWS = 500; // Limit to 500 rows to prevent memory issues
 
         if (data.length === 0) {
             tableBody.innerHTML = '<tr><td colspan="6" class="text-center">데이터가 없습니다</td></tr>';
         } else {
-            const displayData = data.slice(0, MAX_DISPLAY_ROWS);
-            const hasMore = data.length > MAX_DISPLAY_ROWS;
+            const displayData = data;
+            const hasMore = totalPersons > data.length;
 
             // ⚡ XSS 방어: 사용자 입력 데이터 이스케이핑 (보안 강화 2025-11-07)
             tableBody.innerHTML = displayData.map(person => `
@@ -319,7 +341,7 @@ async function loadPersonStatistics() {
                     <tr class="table-warning">
                         <td colspan="6" class="text-center">
                             <i class="fas fa-info-circle"></i>
-                            ${MAX_DISPLAY_ROWS}개 항목만 표시됩니다. (전체 ${data.length}개 중)
+                            ${MAX_DISPLAY_ROWS}개 항목만 표시됩니다. (전체 ${totalPersons}개 중)
                             <br><small class="text-muted">필요시 검색 기능을 사용하세요.</small>
                         </td>
                     </tr>
@@ -485,6 +507,9 @@ function showToast(message, type = 'info') {
 
 // Logout
 function logout() {
+    // 페이지 토큰 쿠키 삭제 (HttpOnly라 스크립트에서 지울 수 없음)
+    fetch(`${API_BASE}/auth/logout`, { method: 'POST', keepalive: true }).catch(() => {});
+
     // localStorage 정리: JWT 토큰 및 사용자 정보 (로그인 상태)
     localStorage.removeItem('token');
     localStorage.removeItem('user');
@@ -0,0 +1,166 @@
+package com.example.giftmoney.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * replica-local 프로필 (내장 H2 2개: giftmoney = primary, giftmoney_replica = replica-0)
+ *
+ * readOnly 트랜잭션의 복제본 라우팅, 쓰기 직후 read-your-writes 고정, 복제 지연 시 primary 전환을 확인한다.
+ * 복사와 지연 확인은 스케줄러 대신 copy()/checkReplicaLag()를 직접 호출해 시점을 고정.
+ */
+@SpringBootTest(properties = {
+        "jwt.secret=replica-local-test-secret-replica-local-test-secret-replica-local-test",
+        "spring.mail.username=test@example.com",
+        "spring.mail.password=test",
+        "management.server.port=0",
+        "app.datasource.replica-copy-interval=3600000",
+        "app.datasource.replica-check-interval=3600000",
+        "app.datasource.read-your-writes-window=500",
+        "app.datasource.replica-max-lag-seconds=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("replica-local")
+class ReplicaLocalProfileTest {
+
+    private static final long PAST_WINDOW_MILLIS = 700;
+    private static final AtomicInteger USER_SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private LocalReplicaCopier replicaCopier;
+
+    @Autowired
+    private DataSourceConfig dataSourceConfig;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @BeforeEach
+    void syncReplica() {
+        replicaCopier.copy();
+        dataSourceConfig.checkReplicaLag();
+    }
+
+    @Test
+    void readOnlyRequestsAreServedFromReplica() throws Exception {
+        String token = register();
+        long id = createGiftMoney(token, "복제전");
+        replicaCopier.copy();
+        Thread.sleep(PAST_WINDOW_MILLIS);
+
+        // primary만 바꾸면 복제본에서 읽는 목록은 이전 값
+        renameOnPrimary(id, "복제후");
+        assertThat(listNames(token)).containsExactly("복제전");
+
+        replicaCopier.copy();
+        assertThat(listNames(token)).containsExactly("복제후");
+    }
+
+    @Test
+    void writerReadsFromPrimaryWithinReadYourWritesWindow() throws Exception {
+        String token = register();
+        createGiftMoney(token, "방금쓴값");
+
+        // 복사 전이라도 쓴 사용자 본인의 읽기는 primary로
+        assertThat(listNames(token)).containsExactly("방금쓴값");
+
+        // 창이 지나면 다시 복제본 (아직 복사되지 않아 비어 있음)
+        Thread.sleep(PAST_WINDOW_MILLIS);
+        assertThat(listNames(token)).isEmpty();
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() throws Exception {
+        String token = register();
+        long id = createGiftMoney(token, "지연전");
+        replicaCopier.copy();
+        Thread.sleep(PAST_WINDOW_MILLIS);
+        renameOnPrimary(id, "지연후");
+        assertThat(listNames(token)).containsExactly("지연전");
+
+        try {
+            // 복사가 멈춘 채 replica-max-lag-seconds를 넘기면 복제본을 라우팅에서 제외
+            Thread.sleep(1_200);
+            dataSourceConfig.checkReplicaLag();
+            assertThat(listNames(token)).containsExactly("지연후");
+        } finally {
+            replicaCopier.copy();
+            dataSourceConfig.checkReplicaLag();
+        }
+
+        // 복사가 재개되면 복제본으로 복귀
+        renameOnPrimary(id, "복귀후");
+        assertThat(listNames(token)).containsExactly("지연후");
+    }
+
+    // ========== 도우미 ==========
+
+    private String register() throws Exception {
+        String loginId = "replica" + USER_SEQUENCE.incrementAndGet();
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"userId":"%s","email":"%s@example.com","password":"password123",
+                                 "name":"테스터","emailVerified":true}
+                                """.formatted(loginId, loginId)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    private long createGiftMoney(String token, String name) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/gift-money")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"eventDate":"2025-03-10","eventType":"결혼식","transactionType":"RECEIVED",
+                                 "name":"%s","relation":"친구","amount":50000}
+                                """.formatted(name)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private List<String> listNames(String token) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/gift-money")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode content = objectMapper.readTree(result.getResponse().getContentAsString()).get("content");
+        List<String> names = new ArrayList<>();
+        content.forEach(item -> names.add(item.get("name").asText()));
+        return names;
+    }
+
+    // 애플리케이션을 거치지 않은 primary 변경 (read-your-writes 표시 없음)
+    private void renameOnPrimary(long id, String name) {
+        new JdbcTemplate(primaryDataSource).update("UPDATE gift_money SET name = ? WHERE id = ?", name, id);
+    }
+
+}
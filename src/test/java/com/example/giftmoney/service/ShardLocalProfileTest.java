@@ -0,0 +1,282 @@
+package com.example.giftmoney.service;
+
+import com.example.giftmoney.config.ShardRoutingDataSource;
+import com.example.giftmoney.config.ShardSchemaInitializer;
+import com.example.giftmoney.domain.entity.ShardMove;
+import com.example.giftmoney.repository.ShardMoveRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.h2.api.Trigger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * shard-local 프로필 (내장 H2 3개: directory = 샤드 0, shard1, shard2)
+ *
+ * 사용자별 샤드 라우팅, 샤드별 ID 구간, 온라인 이전(FREEZE/COPY/SWITCH/CLEANUP)과 복사 검증을 확인한다.
+ * 이전은 스케줄러 대신 processMoves()를 직접 호출해 단계별로 진행 (settle-millis=0).
+ */
+@SpringBootTest(properties = {
+        "jwt.secret=shard-local-test-secret-shard-local-test-secret-shard-local-test-secret",
+        "spring.mail.username=test@example.com",
+        "spring.mail.password=test",
+        "management.server.port=0",
+        "app.shard-move.settle-millis=0",
+        "app.shard-move.interval=3600000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("shard-local")
+class ShardLocalProfileTest {
+
+    private static final AtomicInteger USER_SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ShardDirectory shardDirectory;
+
+    @Autowired
+    private ShardRoutingDataSource shardDataSource;
+
+    @Autowired
+    private ShardMoveService shardMoveService;
+
+    @Autowired
+    private ShardMoveRepository moveRepository;
+
+    @Test
+    void userDataIsStoredOnAssignedShardWithinItsIdRange() throws Exception {
+        Map<Integer, TestUser> users = usersOnEveryShard();
+
+        for (Map.Entry<Integer, TestUser> entry : users.entrySet()) {
+            int shard = entry.getKey();
+            TestUser user = entry.getValue();
+            long id = createGiftMoney(user, "샤드" + shard, 10_000);
+
+            assertThat(id).isBetween(idStart(shard), idStart(shard + 1) - 1);
+            for (int other = 0; other < shardDataSource.shardCount(); other++) {
+                assertThat(countGiftMoney(other, user.id())).isEqualTo(other == shard ? 1 : 0);
+            }
+            assertThat(listNames(user)).containsExactly("샤드" + shard);
+        }
+    }
+
+    @Test
+    void moveFreezesWritesCopiesSwitchesAndCleansUpSource() throws Exception {
+        TestUser user = userOnShard(1);
+        List<Long> ids = List.of(
+                createGiftMoney(user, "이전1", 10_000),
+                createGiftMoney(user, "이전2", 20_000),
+                createGiftMoney(user, "이전3", 30_000));
+
+        ShardMove move = shardMoveService.request(user.id(), 2);
+
+        // FREEZE: 쓰기는 503, 읽기는 원본 샤드에서 계속
+        shardMoveService.processMoves();
+        assertThat(moveRepository.findById(move.getId()).orElseThrow().getPhase()).isEqualTo(ShardMove.Phase.COPY);
+        mockMvc.perform(post("/api/gift-money")
+                        .header("Authorization", "Bearer " + user.token())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(giftMoneyJson("이전중", 1_000)))
+                .andExpect(status().isServiceUnavailable());
+        assertThat(listNames(user)).hasSize(3);
+
+        ShardMove finished = runToEnd(move.getId());
+
+        assertThat(finished.getPhase()).isEqualTo(ShardMove.Phase.COMPLETED);
+        assertThat(finished.getCopiedRows()).isPositive();
+        assertThat(shardDirectory.shardOf(user.id())).isEqualTo(2);
+        assertThat(countGiftMoney(2, user.id())).isEqualTo(3);
+        assertThat(countGiftMoney(1, user.id())).isZero();
+        // ID는 원본 샤드 구간 그대로 유지
+        assertThat(listIds(user)).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(listNames(user)).containsExactlyInAnyOrder("이전1", "이전2", "이전3");
+
+        // 전환 후 쓰기는 대상 샤드 구간에서 발급
+        long newId = createGiftMoney(user, "이전후", 5_000);
+        assertThat(newId).isBetween(idStart(2), idStart(3) - 1);
+    }
+
+    @Test
+    void failedCopyVerificationCancelsMoveAndKeepsSourceShard() throws Exception {
+        TestUser user = userOnShard(1);
+        createGiftMoney(user, "검증1", 10_000);
+        createGiftMoney(user, "검증2", 20_000);
+
+        // 대상 샤드에 들어가는 금액을 바꿔 건수/합계 검증을 실패시킴
+        JdbcTemplate target = new JdbcTemplate(shardDataSource.shard(2));
+        target.execute("CREATE TRIGGER amount_skew BEFORE INSERT ON gift_money FOR EACH ROW CALL '"
+                + AmountSkewTrigger.class.getName() + "'");
+        ShardMove finished;
+        try {
+            finished = runToEnd(shardMoveService.request(user.id(), 2).getId());
+        } finally {
+            target.execute("DROP TRIGGER amount_skew");
+        }
+
+        assertThat(finished.getPhase()).isEqualTo(ShardMove.Phase.FAILED);
+        assertThat(finished.getError()).contains("샤드 복사 검증 실패");
+        assertThat(shardDirectory.shardOf(user.id())).isEqualTo(1);
+        assertThat(shardDirectory.isMoving(user.id())).isFalse();
+        assertThat(countGiftMoney(2, user.id())).isZero();
+        assertThat(countGiftMoney(1, user.id())).isEqualTo(2);
+        // 쓰기 재개
+        createGiftMoney(user, "검증3", 30_000);
+        assertThat(listNames(user)).containsExactlyInAnyOrder("검증1", "검증2", "검증3");
+    }
+
+    // ========== 도우미 ==========
+
+    private ShardMove runToEnd(Long moveId) {
+        for (int i = 0; i < 20; i++) {
+            shardMoveService.processMoves();
+            ShardMove move = moveRepository.findById(moveId).orElseThrow();
+            if (move.getPhase() == ShardMove.Phase.COMPLETED || move.getPhase() == ShardMove.Phase.FAILED) {
+                return move;
+            }
+        }
+        throw new AssertionError("샤드 이전이 끝나지 않았습니다: moveId=" + moveId);
+    }
+
+    private Map<Integer, TestUser> usersOnEveryShard() throws Exception {
+        Map<Integer, TestUser> users = new HashMap<>();
+        for (int i = 0; i < 50 && users.size() < shardDataSource.shardCount(); i++) {
+            TestUser user = register();
+            users.putIfAbsent(shardDirectory.shardOf(user.id()), user);
+        }
+        assertThat(users).hasSize(shardDataSource.shardCount());
+        return users;
+    }
+
+    private TestUser userOnShard(int shard) throws Exception {
+        for (int i = 0; i < 50; i++) {
+            TestUser user = register();
+            if (shardDirectory.shardOf(user.id()) == shard) {
+                return user;
+            }
+        }
+        throw new AssertionError("샤드 " + shard + "에 배정된 사용자를 만들지 못했습니다");
+    }
+
+    private TestUser register() throws Exception {
+        String loginId = "shard" + USER_SEQUENCE.incrementAndGet();
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"userId":"%s","email":"%s@example.com","password":"password123",
+                                 "name":"테스터","emailVerified":true}
+                                """.formatted(loginId, loginId)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        return new TestUser(body.at("/user/id").asLong(), body.get("token").asText());
+    }
+
+    private long createGiftMoney(TestUser user, String name, long amount) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/gift-money")
+                        .header("Authorization", "Bearer " + user.token())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(giftMoneyJson(name, amount)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private static String giftMoneyJson(String name, long amount) {
+        return """
+                {"eventDate":"2025-03-10","eventType":"결혼식","transactionType":"RECEIVED",
+                 "name":"%s","relation":"친구","amount":%d}
+                """.formatted(name, amount);
+    }
+
+    private List<String> listNames(TestUser user) throws Exception {
+        List<String> names = new ArrayList<>();
+        list(user).forEach(item -> names.add(item.get("name").asText()));
+        return names;
+    }
+
+    private List<Long> listIds(TestUser user) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        list(user).forEach(item -> ids.add(item.get("id").asLong()));
+        return ids;
+    }
+
+    private JsonNode list(TestUser user) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/gift-money")
+                        .header("Authorization", "Bearer " + user.token()))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("content");
+    }
+
+    private int countGiftMoney(int shard, Long userId) {
+        Integer count = new JdbcTemplate(shardDataSource.shard(shard))
+                .queryForObject("SELECT COUNT(*) FROM gift_money WHERE user_id = ?", Integer.class, userId);
+        return count != null ? count : 0;
+    }
+
+    private static long idStart(int shard) {
+        return shard * ShardSchemaInitializer.ID_RANGE + 1;
+    }
+
+    private record TestUser(Long id, String token) {
+    }
+
+    /**
+     * 삽입되는 gift_money.amount에 1을 더하는 H2 트리거 (복사 검증 실패 재현용)
+     */
+    public static class AmountSkewTrigger implements Trigger {
+
+        private int amountIndex = -1;
+
+        @Override
+        public void init(Connection connection, String schemaName, String triggerName, String tableName,
+                         boolean before, int type) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT ORDINAL_POSITION FROM INFORMATION_SCHEMA.COLUMNS "
+                            + "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND COLUMN_NAME = 'amount'")) {
+                statement.setString(1, schemaName);
+                statement.setString(2, tableName);
+                try (ResultSet rs = statement.executeQuery()) {
+                    if (rs.next()) {
+                        amountIndex = rs.getInt(1) - 1;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void fire(Connection connection, Object[] oldRow, Object[] newRow) {
+            if (amountIndex >= 0 && newRow != null && newRow[amountIndex] instanceof Number amount) {
+                newRow[amountIndex] = amount.longValue() + 1;
+            }
+        }
+    }
+
+}